@@ -1,11 +1,14 @@
 package com.critical.catalogservice;
 
+import com.critical.catalogservice.config.CatalogRuntimeHints;
 import org.flywaydb.core.Flyway;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(CatalogRuntimeHints.class)
 public class Application {
 
     @Value("${spring.flyway.enabled}")
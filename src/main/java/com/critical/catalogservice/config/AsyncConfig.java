@@ -0,0 +1,80 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.datasource.ReadYourWrites;
+import com.critical.catalogservice.util.datasource.Workload;
+import com.critical.catalogservice.util.query.RequestQueryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executors backing the async book read endpoints.
+ * Id lookups and searches get separate pools so slow searches cannot starve cheap lookups.
+ * Tasks keep the workload, read-your-writes stickiness and statement budget of the request that submitted them.
+ * <p>
+ * Spring Boot's {@code applicationTaskExecutor} backs off when any {@code Executor} bean exists, so it is declared
+ * here the way Boot would: a {@code spring.task.execution.*} pool, or virtual threads when they are enabled. It runs
+ * the MVC async work of the streaming endpoints, {@code @Async} methods and the deferred JPA bootstrap.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${catalog.async.book-lookup.pool-size}")
+    private int bookLookupPoolSize;
+
+    @Value("${catalog.async.book-lookup.queue-capacity}")
+    private int bookLookupQueueCapacity;
+
+    @Value("${catalog.async.book-search.pool-size}")
+    private int bookSearchPoolSize;
+
+    @Value("${catalog.async.book-search.queue-capacity}")
+    private int bookSearchQueueCapacity;
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+
+        return builder.build();
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bookLookupExecutor() {
+
+        return createExecutor("book-lookup-", bookLookupPoolSize, bookLookupQueueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bookSearchExecutor() {
+
+        return createExecutor("book-search-", bookSearchPoolSize, bookSearchQueueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.setTaskDecorator(task -> RequestQueryBudget.propagate(ReadYourWrites.propagate(Workload.propagate(task))));
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.datasource.Workload;
+import com.critical.catalogservice.util.datasource.WorkloadFilter;
+import com.critical.catalogservice.util.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+
+/**
+ * Connection pool bulkheads, enabled by the "bulkheads" profile: API reads, API writes, the stock listener and
+ * JobRunr each get their own pool of the primary database, see {@link Workload}. Every pool starts from
+ * {@code spring.datasource.hikari.*} and is sized by {@code catalog.datasource.pools.<pool>.*}. With the
+ * "read-replica" profile the pools back the primary side of {@link ReadReplicaConfig}.
+ */
+@Configuration
+@Profile("bulkheads")
+public class BulkheadConfig implements DisposableBean {
+
+    private final DataSourceProperties properties;
+
+    private final Environment environment;
+
+    private final MeterRegistry meterRegistry;
+
+    private WorkloadRoutingDataSource dataSource;
+
+    public BulkheadConfig(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+
+        this.properties = properties;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    @Profile("!read-replica")
+    public DataSource dataSource() {
+
+        return getDataSource();
+    }
+
+    @Bean
+    public FilterRegistrationBean<WorkloadFilter> workloadFilter() {
+
+        var registration = new FilterRegistrationBean<>(new WorkloadFilter());
+        registration.addUrlPatterns("/v1/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> messagingWorkloadCustomizer() {
+
+        // Consumer threads only ever run listeners, so the workload is set once per message and never cleared.
+        return container -> container.addAfterReceivePostProcessors(message -> {
+            Workload.enter(Workload.MESSAGING);
+            return message;
+        });
+    }
+
+    /**
+     * The pools behind a routing datasource, created on first use.
+     */
+    public synchronized WorkloadRoutingDataSource getDataSource() {
+
+        if (null == dataSource) {
+            var pools = new EnumMap<Workload, HikariDataSource>(Workload.class);
+            for (var workload : Workload.values()) {
+                pools.put(workload, createPool(workload.getPoolName()));
+            }
+            dataSource = new WorkloadRoutingDataSource(pools);
+        }
+        return dataSource;
+    }
+
+    @Override
+    public synchronized void destroy() {
+
+        if (null != dataSource) {
+            dataSource.close();
+        }
+    }
+
+    private HikariDataSource createPool(String name) {
+
+        var pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        var binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        binder.bind("catalog.datasource.pools." + name, Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,88 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.data.entity.Author;
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.entity.Format;
+import com.critical.catalogservice.data.entity.Genre;
+import com.critical.catalogservice.data.entity.Language;
+import com.critical.catalogservice.data.entity.Publisher;
+import com.critical.catalogservice.data.entity.Tag;
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.dtos.AuthorDto;
+import com.critical.catalogservice.dtos.FormatDto;
+import com.critical.catalogservice.dtos.GenreDto;
+import com.critical.catalogservice.dtos.LanguageDto;
+import com.critical.catalogservice.dtos.PublisherDto;
+import com.critical.catalogservice.dtos.TagDto;
+import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
+import com.critical.catalogservice.dtos.book.BookChangeDto;
+import com.critical.catalogservice.dtos.book.BookChangeFeedDto;
+import com.critical.catalogservice.dtos.book.BookChangeTypeDto;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.book.BookRequestDto;
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+import com.critical.catalogservice.dtos.book.BookUpdateRequestDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.author.mapper.AuthorMapper;
+import com.critical.catalogservice.service.book.BookService;
+import com.critical.catalogservice.service.book.snapshot.CatalogSnapshotService;
+import com.critical.catalogservice.service.book.mapper.BookAvailabilityMapper;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.service.format.mapper.FormatMapper;
+import com.critical.catalogservice.service.genre.mapper.GenreMapper;
+import com.critical.catalogservice.service.language.mapper.LanguageMapper;
+import com.critical.catalogservice.service.publisher.mapper.PublisherMapper;
+import com.critical.catalogservice.service.tag.mapper.TagMapper;
+import com.critical.catalogservice.util.query.QueryCountInspector;
+import com.critical.catalogservice.util.query.SlowQuery;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for what Spring AOT cannot see on its own, used by the native image of the
+ * {@code native} profile: the DTOs and events bound by Jackson, the entities passed as JobRunr job arguments, the
+ * MapStruct implementations loaded by name through {@code Mappers.getMapper}, the statement inspector Hibernate
+ * instantiates from a property, the JCache provider it loads by name with its {@code application.conf} regions and the
+ * Flyway scripts read from the classpath.
+ */
+public class CatalogRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> BOUND_TYPES = List.of(
+            AuthorDto.class, FormatDto.class, GenreDto.class, LanguageDto.class, PublisherDto.class, TagDto.class,
+            BookAvailabilityDto.class, BookDto.class, BookRequestDto.class, BookUpdateRequestDto.class, ErrorResponse.class,
+            BookChangeDto.class, BookChangeFeedDto.class, BookChangeTypeDto.class, BookStockPriceDto.class,
+            UpdateBookStockEvent.class, SlowQuery.class,
+            Author.class, Book.class, Format.class, Genre.class, Language.class, Publisher.class, Tag.class);
+
+    static final List<Class<?>> MAPPERS = List.of(
+            AuthorMapper.class, BookMapper.class, BookAvailabilityMapper.class, FormatMapper.class, GenreMapper.class,
+            LanguageMapper.class, PublisherMapper.class, TagMapper.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES.toArray(Class<?>[]::new));
+        // The DTOs expose public fields, which the binding registrar only covers through accessors.
+        for (var type : BOUND_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.PUBLIC_FIELDS);
+        }
+
+        for (var mapper : MAPPERS) {
+            hints.reflection().registerType(TypeReference.of(mapper.getName() + "Impl"), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.reflection().registerType(QueryCountInspector.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("application.conf");
+        // JobRunr calls the enqueued lambdas' target methods reflectively, including private ones.
+        hints.reflection().registerType(BookService.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(CatalogSnapshotService.class, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+}
@@ -0,0 +1,40 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Serves book reads from the memory-mapped catalog snapshot, enabled by the "snapshot-read" profile, see
+ * {@link com.critical.catalogservice.controller.SnapshotBookReadController}. The snapshot is written by a node
+ * running the "snapshot-writer" profile and has to reach {@code catalog.snapshot.path} on this node.
+ */
+@Configuration
+@Profile("snapshot-read")
+public class CatalogSnapshotReadConfig {
+
+    @Value("${catalog.snapshot.path}")
+    private Path path;
+
+    @Value("${catalog.snapshot.reload-interval}")
+    private Duration reloadInterval;
+
+    @Bean(destroyMethod = "close")
+    public CatalogSnapshotLoader catalogSnapshotLoader(MeterRegistry meterRegistry) {
+
+        var loader = new CatalogSnapshotLoader(path);
+        loader.start(reloadInterval);
+        Gauge.builder(MetricsConfig.SNAPSHOT_AGE, loader, CatalogSnapshotLoader::getAgeSeconds)
+                .description("Age of the loaded catalog snapshot, NaN when none is loaded")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return loader;
+    }
+}
@@ -0,0 +1,39 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.service.book.snapshot.CatalogSnapshotService;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Writes the catalog snapshot on a schedule, enabled by the "snapshot-writer" profile. The recurring job is stored
+ * by JobRunr, so with several writer nodes it still runs once per schedule.
+ */
+@Configuration
+@Profile("snapshot-writer")
+public class CatalogSnapshotWriterConfig {
+
+    public static final String JOB_ID = "catalog-snapshot";
+
+    private final JobScheduler jobScheduler;
+
+    private final CatalogSnapshotService snapshotService;
+
+    @Value("${catalog.snapshot.cron}")
+    private String cron;
+
+    public CatalogSnapshotWriterConfig(JobScheduler jobScheduler, CatalogSnapshotService snapshotService) {
+
+        this.jobScheduler = jobScheduler;
+        this.snapshotService = snapshotService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleSnapshot() {
+
+        jobScheduler.scheduleRecurrently(JOB_ID, cron, () -> snapshotService.writeSnapshot());
+    }
+}
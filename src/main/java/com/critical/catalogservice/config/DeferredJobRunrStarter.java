@@ -0,0 +1,88 @@
+package com.critical.catalogservice.config;
+
+import org.jobrunr.dashboard.JobRunrDashboardWebServer;
+import org.jobrunr.server.BackgroundJobServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the JobRunr background job server and dashboard a fixed delay after the service first reports it accepts
+ * traffic, off the startup thread, and stops whatever was started on shutdown. Either may be absent when disabled.
+ */
+public class DeferredJobRunrStarter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredJobRunrStarter.class);
+
+    private final BackgroundJobServer backgroundJobServer;
+
+    private final JobRunrDashboardWebServer dashboardWebServer;
+
+    private final Duration delay;
+
+    private CompletableFuture<Void> started;
+
+    private volatile boolean backgroundJobServerStarted;
+
+    private volatile boolean dashboardWebServerStarted;
+
+    public DeferredJobRunrStarter(BackgroundJobServer backgroundJobServer, JobRunrDashboardWebServer dashboardWebServer, Duration delay) {
+
+        this.backgroundJobServer = backgroundJobServer;
+        this.dashboardWebServer = dashboardWebServer;
+        this.delay = delay;
+    }
+
+    @EventListener
+    public synchronized void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && null == started) {
+            started = CompletableFuture.runAsync(this::start, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    public synchronized CompletableFuture<Void> getStarted() {
+
+        return started;
+    }
+
+    @Override
+    public void destroy() {
+
+        if (null != started) {
+            started.cancel(false);
+        }
+        if (dashboardWebServerStarted) {
+            dashboardWebServer.stop();
+        }
+        if (backgroundJobServerStarted) {
+            backgroundJobServer.stop();
+        }
+    }
+
+    private void start() {
+
+        try {
+            if (null != backgroundJobServer) {
+                backgroundJobServer.start();
+                backgroundJobServerStarted = true;
+                logger.info("JobRunr background job server started after readiness");
+            }
+            if (null != dashboardWebServer) {
+                dashboardWebServer.start();
+                dashboardWebServerStarted = true;
+                logger.info("JobRunr dashboard started after readiness");
+            }
+        } catch (RuntimeException exception) {
+            logger.error("Deferred JobRunr start failed: " + exception.getMessage(), exception);
+            throw exception;
+        }
+    }
+}
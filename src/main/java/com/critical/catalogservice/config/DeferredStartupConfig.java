@@ -0,0 +1,93 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.swagger.OpenAPIConfig;
+import org.jobrunr.dashboard.JobRunrDashboardWebServer;
+import org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration;
+import org.jobrunr.jobs.filters.RetryFilter;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.BackgroundJobServerConfiguration;
+import org.jobrunr.server.JobActivator;
+import org.jobrunr.spring.autoconfigure.JobRunrProperties;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.utils.mapper.JsonMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Startup mode of the "deferred-startup" profile, which lets the service report ready as soon as the book
+ * endpoints can serve traffic:
+ * <ul>
+ *     <li>the JobRunr background job server and dashboard replace the auto-configured ones, which start inside
+ *     their bean methods, and are started by {@link DeferredJobRunrStarter} once the service is ready;</li>
+ *     <li>springdoc and {@link OpenAPIConfig} beans are lazy, so the API documentation is built on first use;</li>
+ *     <li>the JPA repositories are initialized in deferred mode, see application-deferred-startup.properties, so the
+ *     entity manager factory bootstraps on the {@code applicationTaskExecutor} of {@link AsyncConfig} while the rest
+ *     of the context is created.</li>
+ * </ul>
+ * Jobs enqueued before the server starts are stored and picked up once it runs.
+ */
+@Configuration
+@Profile("deferred-startup")
+public class DeferredStartupConfig {
+
+    @Value("${catalog.deferred-startup.jobrunr-delay}")
+    private Duration jobRunrDelay;
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyApiDocumentationPostProcessor() {
+
+        return beanFactory -> {
+            for (var name : beanFactory.getBeanDefinitionNames()) {
+                var definition = beanFactory.getBeanDefinition(name);
+                if (isApiDocumentation(definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "org.jobrunr.background-job-server.enabled", havingValue = "true")
+    public BackgroundJobServer backgroundJobServer(StorageProvider storageProvider, JsonMapper jobRunrJsonMapper, JobActivator jobActivator,
+                                                   BackgroundJobServerConfiguration backgroundJobServerConfiguration, JobRunrProperties properties) {
+
+        var backgroundJobServer = new BackgroundJobServer(storageProvider, jobRunrJsonMapper, jobActivator, backgroundJobServerConfiguration);
+        backgroundJobServer.setJobFilters(Collections.singletonList(
+                new RetryFilter(properties.getJobs().getDefaultNumberOfRetries(), properties.getJobs().getRetryBackOffTimeSeed())));
+        return backgroundJobServer;
+    }
+
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "org.jobrunr.dashboard.enabled", havingValue = "true")
+    public JobRunrDashboardWebServer dashboardWebServer(StorageProvider storageProvider, JsonMapper jobRunrJsonMapper,
+                                                        JobRunrDashboardWebServerConfiguration dashboardWebServerConfiguration) {
+
+        return new JobRunrDashboardWebServer(storageProvider, jobRunrJsonMapper, dashboardWebServerConfiguration);
+    }
+
+    @Bean
+    public DeferredJobRunrStarter deferredJobRunrStarter(ObjectProvider<BackgroundJobServer> backgroundJobServer,
+                                                         ObjectProvider<JobRunrDashboardWebServer> dashboardWebServer) {
+
+        return new DeferredJobRunrStarter(backgroundJobServer.getIfAvailable(), dashboardWebServer.getIfAvailable(), jobRunrDelay);
+    }
+
+    static boolean isApiDocumentation(BeanDefinition definition) {
+
+        var className = definition.getBeanClassName();
+        if (definition instanceof AnnotatedBeanDefinition annotated && null != annotated.getFactoryMethodMetadata()) {
+            className = annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return null != className && (className.startsWith("org.springdoc.") || className.equals(OpenAPIConfig.class.getName()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.critical.catalogservice.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    public static final String BOOK_STREAM_DROPPED = "catalog.book.stream.dropped";
+
+    public static final String BOOK_STREAM_SUBSCRIBERS = "catalog.book.stream.subscribers";
+
+    public static final String BOOK_STREAM_UPDATES = "catalog.book.stream.updates";
+
+    public static final String CACHE_HIT_RATIO = "catalog.cache.hit.ratio";
+
+    public static final String DATASOURCE_ROUTED = "catalog.datasource.routed";
+
+    public static final String DATASOURCE_REPLICA_LAG = "catalog.datasource.replica.lag";
+
+    public static final String JOBRUNR_ENQUEUED = "catalog.jobrunr.enqueued";
+
+    public static final String SNAPSHOT_AGE = "catalog.snapshot.age";
+
+    public static final String STOCK_EVENT_CONSUME = "catalog.rabbitmq.stock.consume";
+
+    public static final String STOCK_EVENT_LAG = "catalog.rabbitmq.stock.lag";
+
+    public static final String STOCK_EVENT_PUBLISH = "catalog.rabbitmq.stock.publish";
+
+    public static final String STOCK_EVENT_UNSTAMPED = "catalog.rabbitmq.stock.unstamped";
+
+    public static final String STOCK_QUEUE_CONSUMERS = "catalog.rabbitmq.stock.queue.consumers";
+
+    public static final String STOCK_QUEUE_DEPTH = "catalog.rabbitmq.stock.queue.depth";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+
+        return new TimedAspect(registry);
+    }
+}
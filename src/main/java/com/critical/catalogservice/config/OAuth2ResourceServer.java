@@ -12,16 +12,30 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 @Configuration
 public class OAuth2ResourceServer
 {
+    /**
+     * The actuator paths only exist on {@code management.server.port}, which is not published with the API port.
+     */
     private static final String[] AUTH_WHITELIST = {
             "/v3/api-docs/**",
-            "/swagger-ui/**"
+            "/swagger-ui/**",
+            "/actuator/health/**",
+            "/actuator/prometheus"
     };
 
+    /**
+     * The admin endpoints expose recorded SQL and its bind parameters, so a valid token is not enough: it must carry
+     * the {@code catalog.admin} scope.
+     */
+    public static final String ADMIN_AUTHORITY = "SCOPE_catalog.admin";
+
+    private static final String ADMIN_PATHS = "/v1/api/admin/**";
+
     @Bean
     protected SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.cors(Customizer.withDefaults())
                 .csrf(CsrfConfigurer::disable)
                 .authorizeHttpRequests((authorize) -> authorize.requestMatchers(AUTH_WHITELIST).permitAll()
+                        .requestMatchers(ADMIN_PATHS).hasAuthority(ADMIN_AUTHORITY)
                         .anyRequest().authenticated())
                 .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer.jwt(Customizer.withDefaults()));
@@ -0,0 +1,28 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.query.QueryBudget;
+import com.critical.catalogservice.util.query.QueryBudgetAspect;
+import com.critical.catalogservice.util.query.QueryBudgetFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.query-budget.enabled", havingValue = "true")
+public class QueryBudgetConfig {
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudget budget) {
+
+        var registration = new FilterRegistrationBean<>(new QueryBudgetFilter(budget));
+        registration.addUrlPatterns("/v1/api/*");
+        return registration;
+    }
+
+    @Bean
+    public QueryBudgetAspect queryBudgetAspect(QueryBudget budget) {
+
+        return new QueryBudgetAspect(budget);
+    }
+}
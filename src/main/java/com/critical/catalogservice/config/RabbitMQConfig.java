@@ -1,16 +1,26 @@
 package com.critical.catalogservice.config;
 
 import lombok.extern.slf4j.Slf4j;
+import com.critical.catalogservice.service.rabbitMq.converter.BookStockMessageConverter;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @Slf4j
@@ -35,6 +45,21 @@ public class RabbitMQConfig {
     @Value("${catalog.queue.catalog.queue.update-book-stock-routing-key}")
     private String stockRoutingKey;
 
+    @Value("${catalog.rabbitmq.stock-message-format:json}")
+    private String stockMessageFormat;
+
+    @Value("${catalog.rabbitmq.update-book-stock-retry-exchange}")
+    private String retryExchangeUpdateBookStock;
+
+    @Value("${catalog.rabbitmq.update-book-stock-retry-delays}")
+    private List<Long> retryDelays;
+
+    @Value("${catalog.rabbitmq.update-book-stock-dead-letter-exchange}")
+    private String deadLetterExchangeUpdateBookStock;
+
+    @Value("${catalog.rabbitmq.queue-update-book-stock-dead-letter}")
+    private String queueUpdateBookStockDeadLetterName;
+
     public RabbitMQConfig(CachingConnectionFactory cachingConnectionFactory) {
 
         this.cachingConnectionFactory = cachingConnectionFactory;
@@ -43,7 +68,58 @@ public class RabbitMQConfig {
     @Bean
     public Queue CreateCatalogUpdateBookStock() {
 
-        return new Queue(queueUpdateBookStockName);
+        return QueueBuilder.durable(queueUpdateBookStockName)
+                .deadLetterExchange(deadLetterExchangeUpdateBookStock)
+                .deadLetterRoutingKey(queueUpdateBookStockDeadLetterName)
+                .build();
+    }
+
+    @Bean
+    public Queue CreateCatalogUpdateBookStockDeadLetter() {
+
+        return QueueBuilder.durable(queueUpdateBookStockDeadLetterName).build();
+    }
+
+    @Bean
+    public DirectExchange deadLetterExchange() {
+
+        return new DirectExchange(deadLetterExchangeUpdateBookStock);
+    }
+
+    @Bean
+    public Binding deadLetterBinding() {
+
+        return BindingBuilder.bind(CreateCatalogUpdateBookStockDeadLetter())
+                .to(deadLetterExchange())
+                .with(queueUpdateBookStockDeadLetterName);
+    }
+
+    /**
+     * One delay queue per retry tier. Messages wait there for the tier TTL and are then
+     * dead-lettered back to the update book stock exchange, so retries never touch the database.
+     */
+    @Bean
+    public Declarables retryDeclarables() {
+
+        var retryExchange = new DirectExchange(retryExchangeUpdateBookStock);
+        var declarables = new ArrayList<Declarable>();
+        declarables.add(retryExchange);
+        for (var delay : retryDelays) {
+            var queueName = retryQueueName(queueUpdateBookStockName, delay);
+            var retryQueue = QueueBuilder.durable(queueName)
+                    .ttl(delay.intValue())
+                    .deadLetterExchange(exchangeUpdateBookStock)
+                    .deadLetterRoutingKey(stockRoutingKey)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(queueName));
+        }
+        return new Declarables(declarables);
+    }
+
+    public static String retryQueueName(String queueName, long delay) {
+
+        return queueName + ".retry." + delay + "ms";
     }
 
     @Bean
@@ -79,9 +155,19 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(Jackson2JsonMessageConverter converter){
+    @Primary
+    public MessageConverter bookStockMessageConverter(Jackson2JsonMessageConverter jsonMessageConverter) {
+
+        var binaryEnabled = "binary".equalsIgnoreCase(stockMessageFormat);
+        log.info("Book stock messages are published as " + (binaryEnabled ? "binary" : "json"));
+        return new BookStockMessageConverter(jsonMessageConverter, binaryEnabled);
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(MessageConverter converter){
         RabbitTemplate template = new RabbitTemplate(cachingConnectionFactory);
         template.setMessageConverter(converter);
+        template.setObservationEnabled(true);
         return template;
     }
 }
\ No newline at end of file
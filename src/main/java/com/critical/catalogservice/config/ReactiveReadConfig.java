@@ -0,0 +1,73 @@
+package com.critical.catalogservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * R2DBC access for the read-only reactive endpoints, enabled by the "reactive-read" profile.
+ * The connection pool is not exposed as a bean, so Spring Boot does not build an R2DBC
+ * transaction manager next to the JPA one.
+ */
+@Configuration
+@Profile("reactive-read")
+public class ReactiveReadConfig implements DisposableBean {
+
+    @Value("${catalog.r2dbc.url}")
+    private String url;
+
+    @Value("${catalog.r2dbc.username}")
+    private String username;
+
+    @Value("${catalog.r2dbc.password}")
+    private String password;
+
+    @Value("${catalog.r2dbc.pool.initial-size}")
+    private int initialSize;
+
+    @Value("${catalog.r2dbc.pool.max-size}")
+    private int maxSize;
+
+    @Value("${catalog.r2dbc.pool.max-acquire-time}")
+    private Duration maxAcquireTime;
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient() {
+
+        this.connectionPool = createConnectionPool();
+        return DatabaseClient.create(this.connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+
+        if (null != this.connectionPool) {
+            this.connectionPool.dispose();
+        }
+    }
+
+    private ConnectionPool createConnectionPool() {
+
+        var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build();
+        return new ConnectionPool(configuration);
+    }
+}
@@ -0,0 +1,119 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.datasource.ReadYourWritesFilter;
+import com.critical.catalogservice.util.datasource.ReplicaLagMonitor;
+import com.critical.catalogservice.util.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read/write splitting, enabled by the "read-replica" profile: {@code @Transactional(readOnly = true)} service
+ * methods read from the replica, everything else uses the primary configured by {@code spring.datasource.*}.
+ * The pools are not exposed as beans, so the datasource post processors only wrap the routing datasource. With the
+ * "bulkheads" profile the primary side is split into the workload pools of {@link BulkheadConfig}.
+ */
+@Configuration
+@Profile("read-replica")
+public class ReadReplicaConfig implements DisposableBean {
+
+    @Value("${catalog.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${catalog.datasource.replica.username}")
+    private String replicaUsername;
+
+    @Value("${catalog.datasource.replica.password}")
+    private String replicaPassword;
+
+    @Value("${catalog.datasource.replica.max-lag}")
+    private Duration maxLag;
+
+    @Value("${catalog.datasource.replica.lag-check-interval}")
+    private Duration lagCheckInterval;
+
+    @Value("${catalog.datasource.replica.lag-query:" + ReplicaLagMonitor.POSTGRES_LAG_QUERY + "}")
+    private String lagQuery;
+
+    @Value("${catalog.datasource.read-your-writes-window}")
+    private Duration readYourWritesWindow;
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(Environment environment, MeterRegistry meterRegistry) {
+
+        replica = new HikariDataSource();
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        Binder.get(environment).bind("catalog.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        var monitor = new ReplicaLagMonitor(replica, lagQuery, maxLag);
+        monitor.start(lagCheckInterval);
+        Gauge.builder(MetricsConfig.DATASOURCE_REPLICA_LAG, monitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Replication lag of the read replica, NaN when unreachable")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaLagMonitor replicaLagMonitor, ObjectProvider<BulkheadConfig> bulkheads, DataSourceProperties properties,
+                                 Environment environment, MeterRegistry meterRegistry) {
+
+        var bulkheadConfig = bulkheads.getIfAvailable();
+        DataSource primaryDataSource;
+        if (null != bulkheadConfig) {
+            primaryDataSource = bulkheadConfig.getDataSource();
+        } else {
+            primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+            primary.setPoolName("primary");
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            primaryDataSource = primary;
+        }
+        return ReplicaRoutingDataSource.lazy(new ReplicaRoutingDataSource(primaryDataSource, replica, replicaLagMonitor, meterRegistry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+
+        var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesWindow));
+        registration.addUrlPatterns("/v1/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void destroy() {
+
+        if (null != replica) {
+            replica.close();
+        }
+        if (null != primary) {
+            primary.close();
+        }
+    }
+}
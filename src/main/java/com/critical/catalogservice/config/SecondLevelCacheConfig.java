@@ -0,0 +1,39 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.cache.SecondLevelCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Metrics of the Hibernate second-level cache. The regions, their size limits and their statistics are configured in
+ * {@code application.conf}, read by the Caffeine JCache provider. The metrics are bound to the caches of the JCache
+ * manager Hibernate uses, so they need no Hibernate statistics. They are bound once the service is ready, so the
+ * "deferred-startup" profile never waits on the entity manager factory for them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final MeterRegistry meterRegistry;
+
+    public SecondLevelCacheConfig(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindSecondLevelCacheMetrics() {
+
+        var regionFactory = (JCacheRegionFactory) entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        new SecondLevelCacheMetrics(regionFactory.getCacheManager()).bindTo(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.util.query.SlowQueryRecorder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application datasource with a proxy feeding the {@link SlowQueryRecorder}.
+ * <p>
+ * Only the {@code dataSource} bean is wrapped, and it is also the datasource the {@code EXPLAIN} statements
+ * run against. Method and result set proxying, which add a reflective hop to every JDBC call, are only
+ * installed when plan capture is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.slow-query.enabled", havingValue = "true")
+public class SlowQueryConfig {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                var slowQueryRecorder = recorder.getObject();
+                var builder = ProxyDataSourceBuilder.create(beanName, dataSource).listener(slowQueryRecorder);
+                if (slowQueryRecorder.isExplain()) {
+                    slowQueryRecorder.setExplainDataSource(dataSource);
+                    builder.methodListener(slowQueryRecorder).proxyResultSet();
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.BookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variants of the book read endpoints. Work runs on bounded executors,
+ * so the servlet thread is released while the query, mapping and serialization happen.
+ * Each read runs in a transaction limited to what is left of the endpoint timeout, which Hibernate applies as the
+ * JDBC query timeout, so a timed-out read also gives back its pool thread and connection. A read still queued when
+ * its request timed out is skipped.
+ */
+@Tag(name = "Book Async", description = "Book read API served from dedicated executors")
+@RestController
+@RequestMapping("/v1/api/async")
+public class BookAsyncController {
+    private static final Logger logger = LoggerFactory.getLogger(BookAsyncController.class);
+
+    private final BookService bookService;
+
+    private final Executor bookLookupExecutor;
+
+    private final Executor bookSearchExecutor;
+
+    private final Duration bookLookupTimeout;
+
+    private final Duration bookSearchTimeout;
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Autowired
+    public BookAsyncController(
+            BookService bookService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("bookLookupExecutor") Executor bookLookupExecutor,
+            @Qualifier("bookSearchExecutor") Executor bookSearchExecutor,
+            @Value("${catalog.async.book-lookup.timeout}") Duration bookLookupTimeout,
+            @Value("${catalog.async.book-search.timeout}") Duration bookSearchTimeout) {
+
+        this.bookService = bookService;
+        this.bookLookupExecutor = bookLookupExecutor;
+        this.bookSearchExecutor = bookSearchExecutor;
+        this.bookLookupTimeout = bookLookupTimeout;
+        this.bookSearchTimeout = bookSearchTimeout;
+        this.transactionManager = transactionManager;
+    }
+
+    @Operation(summary = "Retrieve a Books filtered")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(array =
+            @ArraySchema(schema = @Schema(implementation = BookDto.class)), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "404", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))})})
+    @GetMapping("/searchBooks")
+    public CompletableFuture<ResponseEntity> searchBooks(
+            @RequestParam(required = false) Optional<String> author,
+            @RequestParam(required = false) Optional<String> tag,
+            @RequestParam(required = false) Optional<String> genre,
+            @RequestParam(required = false) Optional<String> language,
+            @RequestParam(required = false) Optional<Boolean> IsSeries,
+            @RequestParam(required = false) Optional<Double> minPrice,
+            @RequestParam(required = false) Optional<Double> maxPrice,
+            @RequestParam(required = false) Optional<Boolean> promotionStatus,
+            @RequestParam(required = false) Optional<BookAvailabilityDto> availability
+    ){
+        return execute(() -> this.bookService.searchBooks(
+                author, tag, genre, language, IsSeries, minPrice, maxPrice, promotionStatus, availability),
+                this.bookSearchExecutor, this.bookSearchTimeout);
+    }
+
+    @Operation(summary = "Retrieve a Book by Id")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "404", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @GetMapping("/book/{id}")
+    public CompletableFuture<ResponseEntity> getBookById(@PathVariable("id") int id) {
+
+        return execute(() -> this.bookService.getBookById(id), this.bookLookupExecutor, this.bookLookupTimeout);
+    }
+
+    @Operation(summary = "Retrieve all Books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(array =
+            @ArraySchema(schema = @Schema(implementation = BookDto.class)), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))})})
+    @GetMapping("/books")
+    public CompletableFuture<ResponseEntity> getAllBooks() {
+
+        return execute(this.bookService::getAllBooks, this.bookSearchExecutor, this.bookSearchTimeout);
+    }
+
+    private CompletableFuture<ResponseEntity> execute(Supplier<?> read, Executor executor, Duration timeout) {
+
+        var deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            return CompletableFuture.supplyAsync(() -> readBefore(deadline, read), executor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .<ResponseEntity>thenApply(ResponseEntity::ok)
+                    .exceptionally(BookAsyncController::handleFailure);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.completedFuture(handleFailure(exception));
+        }
+    }
+
+    private Object readBefore(long deadline, Supplier<?> read) {
+
+        var remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new CompletionException(new TimeoutException("Book read timed out before it started"));
+        }
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1)));
+        return transaction.execute(status -> read.get());
+    }
+
+    private static ResponseEntity handleFailure(Throwable throwable) {
+
+        var cause = throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable;
+        if (cause instanceof EntityNotFoundException) {
+            logger.warn(cause.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), cause.getMessage()));
+        }
+        if (cause instanceof TimeoutException || cause instanceof RejectedExecutionException) {
+            var message = cause instanceof TimeoutException ? "Book read timed out" : "Book read capacity exceeded";
+            logger.warn(message);
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), message));
+        }
+        throw cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+    }
+}
@@ -0,0 +1,56 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.book.BookChangeFeedDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.changes.BookChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Incremental sync for downstream consumers: instead of re-reading every book, a consumer keeps the cursor of the
+ * last page and asks for the changes after it, deletions included.
+ */
+@Tag(name = "Book Change Feed", description = "Incremental Book change feed API")
+@RestController
+@RequestMapping("/v1/api")
+public class BookChangeFeedController {
+    private static final Logger logger = LoggerFactory.getLogger(BookChangeFeedController.class);
+
+    private final BookChangeFeedService changeFeedService;
+
+    @Autowired
+    public BookChangeFeedController(BookChangeFeedService changeFeedService) {
+
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Operation(summary = "Retrieve the Books changed or deleted after a cursor, oldest change first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookChangeFeedDto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @GetMapping("/books/changes")
+    public ResponseEntity getChanges(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(this.changeFeedService.getChanges(cursor, size));
+        } catch (IllegalArgumentException exception) {
+            logger.warn(exception.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.export.BookExportFormat;
+import com.critical.catalogservice.service.book.export.BookExportService;
+import com.critical.catalogservice.util.query.Unbudgeted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Full catalog export for downstream batch consumers. The export is written on the request thread straight to
+ * the response, so it keeps the request's datasource routing and never buffers the catalog.
+ */
+@Tag(name = "Book Export", description = "Full catalog export API")
+@RestController
+@RequestMapping("/v1/api")
+public class BookExportController {
+
+    private final BookExportService exportService;
+
+    @Autowired
+    public BookExportController(BookExportService exportService) {
+
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "Export every Book as gzip compressed NDJSON or CSV, in id order")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(mediaType = "application/gzip") }),
+            @ApiResponse(responseCode = "400", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @Unbudgeted
+    @GetMapping("/books/export")
+    public void exportBooks(@RequestParam(defaultValue = "NDJSON") BookExportFormat format, HttpServletResponse response) throws IOException {
+
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format.getFileName()).build().toString());
+        this.exportService.exportBooks(format, response.getOutputStream());
+    }
+}
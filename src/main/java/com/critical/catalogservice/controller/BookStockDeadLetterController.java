@@ -0,0 +1,80 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.rabbitMq.BookStockDeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Book Stock Dead Letters", description = "Parked book stock messages management API")
+@RestController
+@RequestMapping("/v1/api")
+public class BookStockDeadLetterController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookStockDeadLetterController.class);
+
+    private final BookStockDeadLetterService deadLetterService;
+
+    @Autowired
+    public BookStockDeadLetterController(BookStockDeadLetterService deadLetterService) {
+
+        this.deadLetterService = deadLetterService;
+    }
+
+    @Operation(summary = "Retrieve the number of parked book stock messages")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = Long.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @GetMapping("/stock/dead-letters")
+    public ResponseEntity countParkedMessages() {
+        try {
+            return ResponseEntity.ok(this.deadLetterService.countParkedMessages());
+        } catch (AmqpException exception) {
+            logger.warn(exception.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Replay parked book stock messages")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = Integer.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @PostMapping("/stock/dead-letters/replay")
+    public ResponseEntity replayParkedMessages(@RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Limit must be greater than zero"));
+        }
+        try {
+            return ResponseEntity.ok(this.deadLetterService.replayParkedMessages(limit));
+        } catch (AmqpException exception) {
+            logger.warn(exception.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.stream.BookUpdateBroadcaster;
+import com.critical.catalogservice.service.book.stream.BookUpdateSink;
+import com.critical.catalogservice.service.book.stream.BookUpdateSubscription;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Live stock and prices as Server-Sent Events, replacing polling of {@code /book/{id}}. Each connection subscribes
+ * to a set of books and receives a {@code book} event whenever the stock or price of one of them changes. The
+ * stream ends after {@code catalog.book-stream.timeout}, clients reconnect as {@code EventSource} does by default.
+ * Rejected subscriptions fail with a plain status before the stream starts, an emitter cannot carry an error body.
+ */
+@Tag(name = "Book Stream", description = "Live Book stock and price API")
+@RestController
+@RequestMapping("/v1/api")
+public class BookStreamController {
+    private static final Logger logger = LoggerFactory.getLogger(BookStreamController.class);
+
+    static final String EVENT_NAME = "book";
+
+    private final BookUpdateBroadcaster broadcaster;
+
+    private final Duration timeout;
+
+    @Autowired
+    public BookStreamController(BookUpdateBroadcaster broadcaster, @Value("${catalog.book-stream.timeout}") Duration timeout) {
+
+        this.broadcaster = broadcaster;
+        this.timeout = timeout;
+    }
+
+    @Operation(summary = "Stream the stock and price changes of a set of Books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookStockPriceDto.class), mediaType = MediaType.TEXT_EVENT_STREAM_VALUE) }),
+            @ApiResponse(responseCode = "400", content = @Content),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content = @Content) })
+    @GetMapping(value = "/books/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBooks(@RequestParam("ids") Set<Integer> ids) {
+
+        var emitter = new SseEmitter(timeout.toMillis());
+        BookUpdateSubscription subscription;
+        try {
+            subscription = broadcaster.subscribe(ids, new EmitterSink(emitter)).orElseThrow(() -> {
+                var message = "Book stream subscriber limit reached";
+                logger.warn(message);
+                return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, message);
+            });
+        } catch (IllegalArgumentException exception) {
+            logger.warn(exception.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage());
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements BookUpdateSink {
+
+        @Override
+        public void send(BookStockPriceDto update) throws IOException {
+
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(update, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+
+            emitter.send(SseEmitter.event().comment(""));
+        }
+
+        @Override
+        public void close() {
+
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.data.reactive.ReactiveBookReadRepository;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only book endpoints served over R2DBC, enabled by the "reactive-read" profile.
+ * Collections are streamed as newline delimited JSON; the next rows are only requested
+ * once the previous book has been written to the client. The service stays a servlet application: Spring MVC
+ * writes the {@code Flux} results through its async support, on the {@code applicationTaskExecutor}.
+ */
+@Tag(name = "Book Reactive Read", description = "Read-only Book streaming API")
+@RestController
+@RequestMapping("/v1/api/reactive")
+@Profile("reactive-read")
+public class ReactiveBookReadController {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveBookReadController.class);
+
+    private final ReactiveBookReadRepository repository;
+
+    @Autowired
+    public ReactiveBookReadController(ReactiveBookReadRepository repository) {
+
+        this.repository = repository;
+    }
+
+    @Operation(summary = "Stream all Books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = MediaType.APPLICATION_NDJSON_VALUE) }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))})})
+    @GetMapping(value = "/books", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookDto> streamAllBooks() {
+
+        return this.repository.findAll();
+    }
+
+    @Operation(summary = "Stream all available Books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = MediaType.APPLICATION_NDJSON_VALUE) }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))})})
+    @GetMapping(value = "/availableBooks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookDto> streamAllAvailableBooks() {
+
+        return this.repository.findAllAvailable();
+    }
+
+    @Operation(summary = "Retrieve a Book by Id")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "404", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @GetMapping("/book/{id}")
+    public Mono<ResponseEntity> getBookById(@PathVariable("id") int id) {
+
+        return this.repository.findById(id)
+                .<ResponseEntity>map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    var message = "Book not found with the Id: " + id;
+                    logger.warn(message);
+                    return ResponseEntity
+                            .status(HttpStatus.NOT_FOUND)
+                            .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), message));
+                }));
+    }
+}
@@ -0,0 +1,59 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.util.query.SlowQuery;
+import com.critical.catalogservice.util.query.SlowQueryRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Only exists while {@code catalog.slow-query.enabled} is set, and requires the admin authority of
+ * {@link com.critical.catalogservice.config.OAuth2ResourceServer}.
+ */
+@Tag(name = "Slow Queries", description = "Recent slow SQL statements API")
+@RestController
+@ConditionalOnProperty(name = "catalog.slow-query.enabled", havingValue = "true")
+@RequestMapping("/v1/api")
+public class SlowQueryController {
+
+    private final SlowQueryRecorder recorder;
+
+    @Autowired
+    public SlowQueryController(SlowQueryRecorder recorder) {
+
+        this.recorder = recorder;
+    }
+
+    @Operation(summary = "Retrieve the most recent slow SQL statements, oldest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(array = @ArraySchema(schema = @Schema(implementation = SlowQuery.class)), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @GetMapping("/admin/slow-queries")
+    public ResponseEntity getSlowQueries() {
+
+        return ResponseEntity.ok(this.recorder.getRecentQueries());
+    }
+
+    @Operation(summary = "Clear the recorded slow SQL statements")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @DeleteMapping("/admin/slow-queries")
+    public ResponseEntity clearSlowQueries() {
+
+        this.recorder.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshot;
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotLoader;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.util.query.Unbudgeted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-only book lookups served from the memory-mapped catalog snapshot, enabled by the "snapshot-read" profile.
+ * They never touch the database; the books are as of the snapshot's creation, which is returned in the
+ * {@value #SNAPSHOT_CREATED_AT} header.
+ */
+@Tag(name = "Book Snapshot Read", description = "Read-only Book API served from the catalog snapshot")
+@RestController
+@RequestMapping("/v1/api/snapshot")
+@Profile("snapshot-read")
+public class SnapshotBookReadController {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotBookReadController.class);
+
+    static final String SNAPSHOT_CREATED_AT = "X-Snapshot-Created-At";
+
+    private final CatalogSnapshotLoader loader;
+
+    @Autowired
+    public SnapshotBookReadController(CatalogSnapshotLoader loader) {
+
+        this.loader = loader;
+    }
+
+    @Operation(summary = "Retrieve a Book by Id")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "404", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @Unbudgeted
+    @GetMapping("/book/{id}")
+    public ResponseEntity getBookById(@PathVariable("id") int id) {
+
+        return find(snapshot -> snapshot.findById(id), "Book not found with the Id: " + id);
+    }
+
+    @Operation(summary = "Retrieve a Book by ISBN")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BookDto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "404", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "503", content =
+                    {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}) })
+    @Unbudgeted
+    @GetMapping("/searchBookByIsbn/{isbn}")
+    public ResponseEntity getBookByISBN(@PathVariable("isbn") String isbn) {
+
+        return find(snapshot -> snapshot.findByIsbn(isbn), "Book not found with the ISBN: " + isbn);
+    }
+
+    private ResponseEntity find(Function<CatalogSnapshot, Optional<BookDto>> lookup, String notFound) {
+
+        var snapshot = loader.getSnapshot();
+        if (snapshot.isEmpty()) {
+            var message = "No catalog snapshot loaded yet";
+            logger.warn(message);
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), message));
+        }
+        var createdAt = snapshot.get().getCreatedAt().toString();
+        return lookup.apply(snapshot.get())
+                .<ResponseEntity>map(book -> ResponseEntity.ok().header(SNAPSHOT_CREATED_AT, createdAt).body(book))
+                .orElseGet(() -> {
+                    logger.warn(notFound);
+                    return ResponseEntity
+                            .status(HttpStatus.NOT_FOUND)
+                            .header(SNAPSHOT_CREATED_AT, createdAt)
+                            .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), notFound));
+                });
+    }
+}
@@ -8,6 +8,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -81,22 +83,27 @@ public class Book {
     private Instant updatedOn;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-authors")
     @JoinTable(name = "bookauthor", joinColumns = @JoinColumn(name = "book_id"), inverseJoinColumns = @JoinColumn(name = "author_id"))
     List<Author> authors;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-languages")
     @JoinTable(name = "booklanguage", joinColumns = @JoinColumn(name = "book_id"), inverseJoinColumns = @JoinColumn(name = "language_id"))
     List<Language> languages;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-genres")
     @JoinTable(name = "bookgenre", joinColumns = @JoinColumn(name = "book_id"), inverseJoinColumns = @JoinColumn(name = "genre_id"))
     List<Genre> genres;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-tags")
     @JoinTable(name = "booktag", joinColumns = @JoinColumn(name = "book_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
     List<Tag> tags;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-formats")
     @JoinTable(name = "bookformat", joinColumns = @JoinColumn(name = "book_id"), inverseJoinColumns = @JoinColumn(name = "format_id"))
     List<Format> formats;
 
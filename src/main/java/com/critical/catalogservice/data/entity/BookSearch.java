@@ -0,0 +1,56 @@
+package com.critical.catalogservice.data.entity;
+
+import com.critical.catalogservice.data.entity.enums.BookAvailability;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Denormalized search row of a book: the author, tag, genre and language names as arrays next to the filtered
+ * book columns, so a search reads a single table. Rows are written by the native statements of
+ * {@code BookSearchRepository} only, never through this entity.
+ */
+@Entity
+@Immutable
+@Table(name = "book_search")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookSearch {
+
+    @Id
+    @Column(name = "Book_Id")
+    private int bookId;
+
+    @Column(name = "Author_Names", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] authorNames;
+
+    @Column(name = "Tag_Names", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] tagNames;
+
+    @Column(name = "Genre_Names", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] genreNames;
+
+    @Column(name = "Language_Names", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] languageNames;
+
+    @Column(name = "Price", nullable = false)
+    private Float price;
+
+    @Column(name = "Promotional_Price")
+    private Float promotionalPrice;
+
+    @Column(name = "Is_Series", nullable = false)
+    private boolean isSeries;
+
+    @Column(name = "Availability", nullable = false)
+    private BookAvailability availability;
+}
@@ -0,0 +1,36 @@
+package com.critical.catalogservice.data.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Marks a deleted book in the change feed. Written in the transaction that deletes the book, so consumers syncing
+ * from the feed see the deletion in the same order as the changes around it.
+ */
+@Entity
+@Table(name = "book_tombstone")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookTombstone {
+
+    @Id
+    @Column(name = "Book_Id")
+    private int bookId;
+
+    @Column(name = "Deleted_On", nullable = false)
+    @CreationTimestamp
+    @Setter(AccessLevel.PROTECTED)
+    private Instant deletedOn;
+
+    public BookTombstone(int bookId) {
+
+        this.bookId = bookId;
+    }
+}
@@ -0,0 +1,265 @@
+package com.critical.catalogservice.data.reactive;
+
+import com.critical.catalogservice.data.entity.enums.BookAvailability;
+import com.critical.catalogservice.dtos.*;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.service.book.mapper.BookAvailabilityMapper;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Read-only access to the book tables over R2DBC.
+ * Books are read in id order, one keyset page of the association batch size at a time, and the associations of a
+ * page are loaded with one query per association, run one after the other. Every query releases its connection
+ * before the next one is acquired, so a stream never holds more than one pooled connection and concurrent streams
+ * cannot starve the pool while waiting for each other.
+ */
+@Repository
+@Profile("reactive-read")
+public class ReactiveBookReadRepository {
+
+    private static final String BOOK_COLUMNS = "b.id, b.title, b.original_title, b.isbn, b.edition, b.synopsis, b.is_series, "
+            + "b.availability, b.release_date, b.edition_date, b.price, b.promotional_price, b.stock_available, "
+            + "b.created_on, b.updated_on, b.publisher_id";
+
+    private final DatabaseClient databaseClient;
+
+    private final int associationBatchSize;
+
+    public ReactiveBookReadRepository(
+            DatabaseClient reactiveReadDatabaseClient, @Value("${catalog.r2dbc.association-batch-size}") int associationBatchSize) {
+
+        this.databaseClient = reactiveReadDatabaseClient;
+        this.associationBatchSize = associationBatchSize;
+    }
+
+    public Flux<BookDto> findAll() {
+
+        return findPages("");
+    }
+
+    public Flux<BookDto> findAllAvailable() {
+
+        return findPages("b.stock_available > 0 AND ");
+    }
+
+    public Mono<BookDto> findById(int id) {
+
+        return this.databaseClient.sql("SELECT " + BOOK_COLUMNS + " FROM book b WHERE b.id = :id")
+                .bind("id", id)
+                .map(ReactiveBookReadRepository::mapBook)
+                .all()
+                .collectList()
+                .flatMapMany(this::loadAssociations)
+                .next();
+    }
+
+    /**
+     * Pages are requested one at a time: the next page is only read once the current one has been handed on.
+     */
+    private Flux<BookDto> findPages(String condition) {
+
+        return findPage(condition, 0)
+                .expand(page -> page.size() < this.associationBatchSize ? Mono.empty() : findPage(condition, page.get(page.size() - 1).id))
+                .flatMapIterable(page -> page, 1);
+    }
+
+    private Mono<List<BookDto>> findPage(String condition, int afterId) {
+
+        return this.databaseClient.sql("SELECT " + BOOK_COLUMNS + " FROM book b WHERE " + condition + "b.id > :afterId ORDER BY b.id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", this.associationBatchSize)
+                .map(ReactiveBookReadRepository::mapBook)
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .flatMap(rows -> loadAssociations(rows).collectList());
+    }
+
+    private Flux<BookDto> loadAssociations(List<BookRow> rows) {
+
+        var bookIds = rows.stream().map(row -> row.book().id).toList();
+        var publisherIds = rows.stream().map(BookRow::publisherId).filter(Objects::nonNull).distinct().toList();
+        var associations = new Associations();
+
+        var authors = loadAssociation(
+                "SELECT ba.book_id, a.id, a.name, a.original_name, a.date_of_birth, a.place_of_birth, a.date_of_death, a.place_of_death, a.about "
+                        + "FROM bookauthor ba JOIN author a ON a.id = ba.author_id WHERE ba.book_id IN (:ids) ORDER BY ba.book_id, a.id",
+                bookIds, ReactiveBookReadRepository::mapAuthor);
+        var languages = loadAssociation(
+                "SELECT bl.book_id, l.id, l.name, l.culture FROM booklanguage bl JOIN language l ON l.id = bl.language_id "
+                        + "WHERE bl.book_id IN (:ids) ORDER BY bl.book_id, l.id",
+                bookIds, ReactiveBookReadRepository::mapLanguage);
+        var genres = loadAssociation(
+                "SELECT bg.book_id, g.id, g.name FROM bookgenre bg JOIN genre g ON g.id = bg.genre_id "
+                        + "WHERE bg.book_id IN (:ids) ORDER BY bg.book_id, g.id",
+                bookIds, ReactiveBookReadRepository::mapGenre);
+        var tags = loadAssociation(
+                "SELECT bt.book_id, t.id, t.name FROM booktag bt JOIN tag t ON t.id = bt.tag_id "
+                        + "WHERE bt.book_id IN (:ids) ORDER BY bt.book_id, t.id",
+                bookIds, ReactiveBookReadRepository::mapTag);
+        var formats = loadAssociation(
+                "SELECT bf.book_id, f.id, f.name FROM bookformat bf JOIN format f ON f.id = bf.format_id "
+                        + "WHERE bf.book_id IN (:ids) ORDER BY bf.book_id, f.id",
+                bookIds, ReactiveBookReadRepository::mapFormat);
+        var publishers = publisherIds.isEmpty()
+                ? Mono.just(Map.<Integer, PublisherDto>of())
+                : this.databaseClient.sql("SELECT p.id, p.name FROM publisher p WHERE p.id IN (:ids)")
+                        .bind("ids", publisherIds)
+                        .map(ReactiveBookReadRepository::mapPublisher)
+                        .all()
+                        .collectMap(publisher -> publisher.id);
+
+        // then() subscribes to each query only once the previous one has completed and released its connection
+        return authors.doOnNext(loaded -> associations.authors = loaded)
+                .then(languages.doOnNext(loaded -> associations.languages = loaded))
+                .then(genres.doOnNext(loaded -> associations.genres = loaded))
+                .then(tags.doOnNext(loaded -> associations.tags = loaded))
+                .then(formats.doOnNext(loaded -> associations.formats = loaded))
+                .then(publishers.doOnNext(loaded -> associations.publishers = loaded))
+                .thenMany(Flux.fromIterable(rows).map(row -> {
+                    var book = row.book();
+                    book.authors = associations.authors.getOrDefault(book.id, List.of());
+                    book.languages = associations.languages.getOrDefault(book.id, List.of());
+                    book.genres = associations.genres.getOrDefault(book.id, List.of());
+                    book.tags = associations.tags.getOrDefault(book.id, List.of());
+                    book.formats = associations.formats.getOrDefault(book.id, List.of());
+                    book.publisher = null == row.publisherId() ? null : associations.publishers.get(row.publisherId());
+                    return book;
+                }));
+    }
+
+    private <T> Mono<Map<Integer, List<T>>> loadAssociation(String sql, List<Integer> bookIds, Function<Readable, T> mapper) {
+
+        return this.databaseClient.sql(sql)
+                .bind("ids", bookIds)
+                .map(row -> Map.entry(row.get(0, Integer.class), mapper.apply(row)))
+                .all()
+                .collect(HashMap::new, (BiConsumer<Map<Integer, List<T>>, Map.Entry<Integer, T>>) (grouped, entry) ->
+                        grouped.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(entry.getValue()));
+    }
+
+    private static BookRow mapBook(Readable row) {
+
+        var book = new BookDto();
+        book.id = row.get(0, Integer.class);
+        book.title = row.get(1, String.class);
+        book.originalTitle = row.get(2, String.class);
+        book.isbn = row.get(3, String.class);
+        book.edition = row.get(4, String.class);
+        book.synopsis = row.get(5, String.class);
+        book.isSeries = Boolean.TRUE.equals(row.get(6, Boolean.class));
+        book.availability = BookAvailabilityMapper.MAPPER.map(BookAvailability.values()[toNumber(row.get(7)).intValue()]);
+        book.releaseDate = toDate(row.get(8, LocalDate.class));
+        book.editionDate = toDate(row.get(9, LocalDate.class));
+        book.price = toFloat(row.get(10));
+        book.promotionalPrice = toFloat(row.get(11));
+        book.stockAvailable = row.get(12, Integer.class);
+        var createdOn = row.get(13, LocalDateTime.class);
+        var updatedOn = row.get(14, LocalDateTime.class);
+        book.createdOn = null == createdOn ? null : createdOn.toInstant(ZoneOffset.UTC);
+        book.updatedOn = null == updatedOn ? null : updatedOn.toInstant(ZoneOffset.UTC);
+        return new BookRow(book, row.get(15, Integer.class));
+    }
+
+    private static AuthorDto mapAuthor(Readable row) {
+
+        var author = new AuthorDto();
+        author.id = row.get(1, Integer.class);
+        author.name = row.get(2, String.class);
+        author.originalName = row.get(3, String.class);
+        author.dateOfBirth = toDate(row.get(4, LocalDate.class));
+        author.placeOfBirth = row.get(5, String.class);
+        author.dateOfDeath = toDate(row.get(6, LocalDate.class));
+        author.placeOfDeath = row.get(7, String.class);
+        author.about = row.get(8, String.class);
+        return author;
+    }
+
+    private static LanguageDto mapLanguage(Readable row) {
+
+        var language = new LanguageDto();
+        language.id = row.get(1, Integer.class);
+        language.name = row.get(2, String.class);
+        language.culture = row.get(3, String.class);
+        return language;
+    }
+
+    private static GenreDto mapGenre(Readable row) {
+
+        var genre = new GenreDto();
+        genre.id = row.get(1, Integer.class);
+        genre.name = row.get(2, String.class);
+        return genre;
+    }
+
+    private static TagDto mapTag(Readable row) {
+
+        var tag = new TagDto();
+        tag.id = row.get(1, Integer.class);
+        tag.name = row.get(2, String.class);
+        return tag;
+    }
+
+    private static FormatDto mapFormat(Readable row) {
+
+        var format = new FormatDto();
+        format.id = row.get(1, Integer.class);
+        format.name = row.get(2, String.class);
+        return format;
+    }
+
+    private static PublisherDto mapPublisher(Readable row) {
+
+        var publisher = new PublisherDto();
+        publisher.id = row.get(0, Integer.class);
+        publisher.name = row.get(1, String.class);
+        return publisher;
+    }
+
+    private static Number toNumber(Object value) {
+
+        return (Number) value;
+    }
+
+    private static Float toFloat(Object value) {
+
+        return null == value ? null : toNumber(value).floatValue();
+    }
+
+    private static Date toDate(LocalDate value) {
+
+        return null == value ? null : Date.valueOf(value);
+    }
+
+    private record BookRow(BookDto book, Integer publisherId) {
+    }
+
+    private static class Associations {
+
+        private Map<Integer, List<AuthorDto>> authors = Map.of();
+
+        private Map<Integer, List<LanguageDto>> languages = Map.of();
+
+        private Map<Integer, List<GenreDto>> genres = Map.of();
+
+        private Map<Integer, List<TagDto>> tags = Map.of();
+
+        private Map<Integer, List<FormatDto>> formats = Map.of();
+
+        private Map<Integer, PublisherDto> publishers = Map.of();
+    }
+}
@@ -2,18 +2,26 @@ package com.critical.catalogservice.data.repository;
 
 import com.critical.catalogservice.data.entity.Book;
 import jakarta.annotation.Nullable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Integer> {
 
+    String STREAM_FETCH_SIZE = "500";
+
     Book findByIsbn(String isbn);
 
     List<Book> findByOriginalTitle(String originalTitle);
@@ -27,4 +35,23 @@ public interface BookRepository extends JpaRepository<Book, Integer> {
     List<Book> findAllByAvailability();
 
     List<Book> findAll(@Nullable Specification<Book> spec);
-}
\ No newline at end of file
+
+    /**
+     * Every book in id order, read through a forward-only cursor {@link #STREAM_FETCH_SIZE} rows at a time.
+     * The stream must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT b FROM Book b LEFT JOIN FETCH b.publisher ORDER BY b.id")
+    Stream<Book> streamAll();
+
+    /**
+     * Books changed after the ({@code updatedOn}, {@code id}) position and before {@code until}, in that order.
+     * Served by the (Updated_On, Id) index.
+     */
+    @Query(value = "SELECT b FROM Book b LEFT JOIN FETCH b.publisher WHERE b.updatedOn >= :changedOn "
+            + "AND (b.updatedOn > :changedOn OR b.id > :id) AND b.updatedOn < :until ORDER BY b.updatedOn, b.id")
+    List<Book> findChangedAfter(@Param("changedOn") Instant changedOn, @Param("id") int id, @Param("until") Instant until, Limit limit);
+}
@@ -0,0 +1,80 @@
+package com.critical.catalogservice.data.repository;
+
+import com.critical.catalogservice.data.entity.BookSearch;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the {@code book_search} read model from the normalized tables. The statements are plain SQL that
+ * runs on both PostgreSQL and H2; the pending book changes are flushed first so the join tables are current.
+ * Each statement declares {@code book_search} as its only query space, otherwise Hibernate would treat the native
+ * SQL as touching every table and evict the whole second-level cache.
+ */
+@Repository
+public interface BookSearchRepository extends JpaRepository<BookSearch, Integer> {
+
+    String INSERT = "INSERT INTO book_search (book_id, author_names, tag_names, genre_names, language_names, price, promotional_price, "
+            + "is_series, availability) SELECT b.id, "
+            + "ARRAY(SELECT a.name FROM bookauthor ba JOIN author a ON a.id = ba.author_id WHERE ba.book_id = b.id), "
+            + "ARRAY(SELECT t.name FROM booktag bt JOIN tag t ON t.id = bt.tag_id WHERE bt.book_id = b.id), "
+            + "ARRAY(SELECT g.name FROM bookgenre bg JOIN genre g ON g.id = bg.genre_id WHERE bg.book_id = b.id), "
+            + "ARRAY(SELECT l.name FROM booklanguage bl JOIN language l ON l.id = bl.language_id WHERE bl.book_id = b.id), "
+            + "b.price, b.promotional_price, b.is_series, b.availability FROM book b";
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = "DELETE FROM book_search WHERE book_id = :bookId", nativeQuery = true)
+    int removeBook(@Param("bookId") int bookId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = INSERT + " WHERE b.id = :bookId", nativeQuery = true)
+    int insertBook(@Param("bookId") int bookId);
+
+    /**
+     * Rewrites the search row of a book after it was created or updated.
+     */
+    @Transactional
+    default void refreshBook(int bookId) {
+
+        removeBook(bookId);
+        insertBook(bookId);
+    }
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = "UPDATE book_search SET author_names = ARRAY(SELECT a.name FROM bookauthor ba JOIN author a ON a.id = ba.author_id "
+            + "WHERE ba.book_id = book_search.book_id) WHERE book_id IN (SELECT book_id FROM bookauthor WHERE author_id = :authorId)", nativeQuery = true)
+    int refreshAuthorNames(@Param("authorId") int authorId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = "UPDATE book_search SET tag_names = ARRAY(SELECT t.name FROM booktag bt JOIN tag t ON t.id = bt.tag_id "
+            + "WHERE bt.book_id = book_search.book_id) WHERE book_id IN (SELECT book_id FROM booktag WHERE tag_id = :tagId)", nativeQuery = true)
+    int refreshTagNames(@Param("tagId") int tagId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = "UPDATE book_search SET genre_names = ARRAY(SELECT g.name FROM bookgenre bg JOIN genre g ON g.id = bg.genre_id "
+            + "WHERE bg.book_id = book_search.book_id) WHERE book_id IN (SELECT book_id FROM bookgenre WHERE genre_id = :genreId)", nativeQuery = true)
+    int refreshGenreNames(@Param("genreId") int genreId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_search"))
+    @Query(value = "UPDATE book_search SET language_names = ARRAY(SELECT l.name FROM booklanguage bl JOIN language l ON l.id = bl.language_id "
+            + "WHERE bl.book_id = book_search.book_id) WHERE book_id IN (SELECT book_id FROM booklanguage WHERE language_id = :languageId)", nativeQuery = true)
+    int refreshLanguageNames(@Param("languageId") int languageId);
+}
@@ -0,0 +1,22 @@
+package com.critical.catalogservice.data.repository;
+
+import com.critical.catalogservice.data.entity.BookTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BookTombstoneRepository extends JpaRepository<BookTombstone, Integer> {
+
+    /**
+     * Deletions after the ({@code deletedOn}, {@code bookId}) position and before {@code until}, in that order.
+     */
+    @Query(value = "SELECT t FROM BookTombstone t WHERE t.deletedOn >= :changedOn AND (t.deletedOn > :changedOn OR t.bookId > :id) "
+            + "AND t.deletedOn < :until ORDER BY t.deletedOn, t.bookId")
+    List<BookTombstone> findDeletedAfter(@Param("changedOn") Instant changedOn, @Param("id") int id, @Param("until") Instant until, Limit limit);
+}
@@ -0,0 +1,278 @@
+package com.critical.catalogservice.data.snapshot;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotFormat.Section;
+import com.critical.catalogservice.dtos.*;
+import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
+import com.critical.catalogservice.dtos.book.BookDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+import static com.critical.catalogservice.data.snapshot.CatalogSnapshotFormat.*;
+
+/**
+ * Read-only view of a catalog snapshot file, see {@link CatalogSnapshotFormat}. The file is memory-mapped, so
+ * opening it reads nothing but the header and lookups only touch the pages they need. Lookups are binary searches
+ * on absolute positions of the mapping and are safe to run concurrently.
+ */
+public class CatalogSnapshot {
+
+    private static final BookAvailabilityDto[] AVAILABILITIES = BookAvailabilityDto.values();
+
+    private final ByteBuffer buffer;
+
+    private final int[] sections = new int[Section.values().length + 1];
+
+    private final Instant createdAt;
+
+    private final int books;
+
+    private final int isbns;
+
+    CatalogSnapshot(ByteBuffer buffer) {
+
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || MAGIC != buffer.getInt(0)) {
+            throw new IllegalArgumentException("Not a catalog snapshot");
+        }
+        if (VERSION != buffer.getInt(4)) {
+            throw new IllegalArgumentException("Unsupported catalog snapshot version " + buffer.getInt(4));
+        }
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(8));
+        for (var i = 0; i < sections.length; i++) {
+            sections[i] = buffer.getInt(16 + 4 * i);
+        }
+        if (buffer.capacity() != sections[sections.length - 1]) {
+            throw new IllegalArgumentException("Truncated catalog snapshot");
+        }
+        this.books = length(Section.BOOKS) / BOOK_RECORD_SIZE;
+        this.isbns = length(Section.ISBN_INDEX) / ISBN_ENTRY_SIZE;
+    }
+
+    public static CatalogSnapshot open(Path path) throws IOException {
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new CatalogSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Instant getCreatedAt() {
+
+        return createdAt;
+    }
+
+    public int size() {
+
+        return books;
+    }
+
+    public Optional<BookDto> findById(int id) {
+
+        var low = 0;
+        var high = books - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var middleId = buffer.getInt(start(Section.BOOKS) + middle * BOOK_RECORD_SIZE);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return Optional.of(book(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<BookDto> findByIsbn(String isbn) {
+
+        var key = isbn.getBytes(StandardCharsets.UTF_8);
+        var low = 0;
+        var high = isbns - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var entry = start(Section.ISBN_INDEX) + middle * ISBN_ENTRY_SIZE;
+            var comparison = compareString(buffer.getInt(entry), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(book(buffer.getInt(entry + 4)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private BookDto book(int record) {
+
+        var position = start(Section.BOOKS) + record * BOOK_RECORD_SIZE;
+        var book = new BookDto();
+        book.id = buffer.getInt(position);
+        book.title = string(buffer.getInt(position + 4));
+        book.originalTitle = string(buffer.getInt(position + 8));
+        book.isbn = string(buffer.getInt(position + 12));
+        book.edition = string(buffer.getInt(position + 16));
+        book.synopsis = string(buffer.getInt(position + 20));
+        book.releaseDate = date(buffer.getInt(position + BOOK_RELEASE_DATE));
+        book.editionDate = date(buffer.getInt(position + BOOK_RELEASE_DATE + 4));
+        book.price = price(buffer.getFloat(position + BOOK_PRICE));
+        book.promotionalPrice = price(buffer.getFloat(position + BOOK_PRICE + 4));
+        book.stockAvailable = buffer.getInt(position + BOOK_STOCK);
+        book.createdOn = instant(buffer.getLong(position + BOOK_CREATED_ON));
+        book.updatedOn = instant(buffer.getLong(position + BOOK_UPDATED_ON));
+        var publisher = buffer.getInt(position + BOOK_PUBLISHER);
+        book.publisher = NULL == publisher ? null : publisher(publisher);
+        book.authors = list(buffer.getInt(position + BOOK_LISTS), this::author);
+        book.languages = list(buffer.getInt(position + BOOK_LISTS + 4), this::language);
+        book.genres = list(buffer.getInt(position + BOOK_LISTS + 8), this::genre);
+        book.tags = list(buffer.getInt(position + BOOK_LISTS + 12), this::tag);
+        book.formats = list(buffer.getInt(position + BOOK_LISTS + 16), this::format);
+        book.isSeries = 1 == buffer.get(position + BOOK_IS_SERIES);
+        var availability = buffer.get(position + BOOK_AVAILABILITY);
+        book.availability = NULL == availability ? null : AVAILABILITIES[availability];
+        return book;
+    }
+
+    private AuthorDto author(int record) {
+
+        var position = start(Section.AUTHORS) + record * AUTHOR_RECORD_SIZE;
+        var author = new AuthorDto();
+        author.id = buffer.getInt(position);
+        author.name = string(buffer.getInt(position + 4));
+        author.originalName = string(buffer.getInt(position + 8));
+        author.dateOfBirth = date(buffer.getInt(position + 12));
+        author.placeOfBirth = string(buffer.getInt(position + 16));
+        author.dateOfDeath = date(buffer.getInt(position + 20));
+        author.placeOfDeath = string(buffer.getInt(position + 24));
+        author.about = string(buffer.getInt(position + 28));
+        return author;
+    }
+
+    private LanguageDto language(int record) {
+
+        var position = start(Section.LANGUAGES) + record * LANGUAGE_RECORD_SIZE;
+        var language = new LanguageDto();
+        language.id = buffer.getInt(position);
+        language.name = string(buffer.getInt(position + 4));
+        language.culture = string(buffer.getInt(position + 8));
+        return language;
+    }
+
+    private PublisherDto publisher(int record) {
+
+        var publisher = new PublisherDto();
+        publisher.id = namedId(Section.PUBLISHERS, record);
+        publisher.name = namedName(Section.PUBLISHERS, record);
+        return publisher;
+    }
+
+    private GenreDto genre(int record) {
+
+        var genre = new GenreDto();
+        genre.id = namedId(Section.GENRES, record);
+        genre.name = namedName(Section.GENRES, record);
+        return genre;
+    }
+
+    private TagDto tag(int record) {
+
+        var tag = new TagDto();
+        tag.id = namedId(Section.TAGS, record);
+        tag.name = namedName(Section.TAGS, record);
+        return tag;
+    }
+
+    private FormatDto format(int record) {
+
+        var format = new FormatDto();
+        format.id = namedId(Section.FORMATS, record);
+        format.name = namedName(Section.FORMATS, record);
+        return format;
+    }
+
+    private int namedId(Section section, int record) {
+
+        return buffer.getInt(start(section) + record * NAMED_RECORD_SIZE);
+    }
+
+    private String namedName(Section section, int record) {
+
+        return string(buffer.getInt(start(section) + record * NAMED_RECORD_SIZE + 4));
+    }
+
+    private <T> List<T> list(int offset, IntFunction<T> reference) {
+
+        if (NULL == offset) {
+            return null;
+        }
+        var position = start(Section.LISTS) + offset;
+        var count = buffer.getInt(position);
+        var values = new ArrayList<T>(count);
+        for (var i = 1; i <= count; i++) {
+            values.add(reference.apply(buffer.getInt(position + 4 * i)));
+        }
+        return values;
+    }
+
+    private String string(int offset) {
+
+        if (NULL == offset) {
+            return null;
+        }
+        var position = start(Section.STRINGS) + offset;
+        var bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compareString(int offset, byte[] key) {
+
+        var position = start(Section.STRINGS) + offset;
+        var length = buffer.getInt(position);
+        for (var i = 0; i < Math.min(length, key.length); i++) {
+            var comparison = Byte.compareUnsigned(buffer.get(position + 4 + i), key[i]);
+            if (0 != comparison) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private int start(Section section) {
+
+        return sections[section.ordinal()];
+    }
+
+    private int length(Section section) {
+
+        return sections[section.ordinal() + 1] - sections[section.ordinal()];
+    }
+
+    private static Date date(int epochDay) {
+
+        return NULL_DATE == epochDay ? null : Date.valueOf(LocalDate.ofEpochDay(epochDay));
+    }
+
+    private static Float price(float value) {
+
+        return Float.isNaN(value) ? null : value;
+    }
+
+    private static Instant instant(long epochMicros) {
+
+        return NULL_INSTANT == epochMicros ? null : Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.critical.catalogservice.data.snapshot;
+
+/**
+ * Layout of a catalog snapshot file, all values big-endian:
+ * <ul>
+ *     <li>a header with the magic number, the format version, the creation time in epoch milliseconds and the
+ *     start of every {@link Section}, followed by the end of the file;</li>
+ *     <li>fixed-width book records sorted by id, so the record section is itself the index by id;</li>
+ *     <li>an index by ISBN of fixed-width entries, the ISBN string and the book record, sorted by the ISBN bytes;</li>
+ *     <li>fixed-width records for the referenced authors, publishers, languages, genres, tags and formats, each
+ *     written once and referenced by its position in its section;</li>
+ *     <li>the association lists of the books, a count followed by that many reference positions;</li>
+ *     <li>the string table, each string a byte length followed by its UTF-8 bytes.</li>
+ * </ul>
+ * Strings and lists are referenced by their offset in their section, {@link #NULL} marks an absent value.
+ */
+final class CatalogSnapshotFormat {
+
+    enum Section { BOOKS, ISBN_INDEX, AUTHORS, PUBLISHERS, LANGUAGES, GENRES, TAGS, FORMATS, LISTS, STRINGS }
+
+    static final int MAGIC = 0x43534E50;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 16 + 4 * (Section.values().length + 1);
+
+    static final int NULL = -1;
+
+    static final int NULL_DATE = Integer.MIN_VALUE;
+
+    static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    // Book record: id, title, original title, ISBN, edition, synopsis, release date, edition date, price,
+    // promotional price, stock, created on, updated on, publisher, the five lists, series flag and availability.
+    static final int BOOK_RECORD_SIZE = 88;
+
+    static final int BOOK_RELEASE_DATE = 24;
+
+    static final int BOOK_PRICE = 32;
+
+    static final int BOOK_STOCK = 40;
+
+    static final int BOOK_CREATED_ON = 44;
+
+    static final int BOOK_UPDATED_ON = 52;
+
+    static final int BOOK_PUBLISHER = 60;
+
+    static final int BOOK_LISTS = 64;
+
+    static final int BOOK_IS_SERIES = 84;
+
+    static final int BOOK_AVAILABILITY = 85;
+
+    static final int ISBN_ENTRY_SIZE = 8;
+
+    // Author record: id, name, original name, date of birth, place of birth, date of death, place of death, about.
+    static final int AUTHOR_RECORD_SIZE = 32;
+
+    // Language record: id, name, culture.
+    static final int LANGUAGE_RECORD_SIZE = 12;
+
+    // Publisher, genre, tag and format records: id, name.
+    static final int NAMED_RECORD_SIZE = 8;
+
+    private CatalogSnapshotFormat() {
+    }
+}
@@ -0,0 +1,96 @@
+package com.critical.catalogservice.data.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the latest catalog snapshot mapped. The file is checked periodically and remapped once it was replaced;
+ * lookups in flight keep using the previous mapping, which is released when it is no longer referenced. A file
+ * that fails to load leaves the previous snapshot in place.
+ */
+public class CatalogSnapshotLoader implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotLoader.class);
+
+    private final Path path;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile CatalogSnapshot snapshot;
+
+    private Object loadedVersion;
+
+    public CatalogSnapshotLoader(Path path) {
+
+        this.path = path;
+    }
+
+    /**
+     * Loads once on the calling thread, then checks every interval on a daemon thread.
+     */
+    public void start(Duration interval) {
+
+        reload();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "catalog-snapshot-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reload, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void reload() {
+
+        try {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            var version = Objects.requireNonNullElse(attributes.fileKey(), "") + "@" + attributes.lastModifiedTime();
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+            var loaded = CatalogSnapshot.open(path);
+            snapshot = loaded;
+            loadedVersion = version;
+            logger.info("Loaded catalog snapshot of {} books created at {}", loaded.size(), loaded.getCreatedAt());
+        } catch (NoSuchFileException exception) {
+            if (null == loadedVersion) {
+                logger.debug("No catalog snapshot at {} yet", path);
+            }
+        } catch (Exception exception) {
+            logger.warn("Failed to load the catalog snapshot at " + path + ": " + exception.getMessage());
+        }
+    }
+
+    public Optional<CatalogSnapshot> getSnapshot() {
+
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Age of the loaded snapshot in seconds, {@code NaN} when none is loaded.
+     */
+    public double getAgeSeconds() {
+
+        var current = snapshot;
+        return null == current ? Double.NaN : Duration.between(current.getCreatedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    @Override
+    public void close() {
+
+        if (null != scheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+}
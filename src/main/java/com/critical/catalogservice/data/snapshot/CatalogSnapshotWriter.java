@@ -0,0 +1,292 @@
+package com.critical.catalogservice.data.snapshot;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotFormat.Section;
+import com.critical.catalogservice.dtos.AuthorDto;
+import com.critical.catalogservice.dtos.LanguageDto;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.service.book.export.BookExportWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.critical.catalogservice.data.snapshot.CatalogSnapshotFormat.*;
+
+/**
+ * Writes a catalog snapshot, see {@link CatalogSnapshotFormat}, from books given in ascending id order. The
+ * sections are spooled to temporary files next to the target, so only the referenced entity ids and the ISBNs
+ * are kept in memory. {@link #publish()} assembles the file and atomically replaces the target; closing the
+ * writer discards whatever was not published.
+ */
+public class CatalogSnapshotWriter implements BookExportWriter {
+
+    private final Path target;
+
+    private final Path workDirectory;
+
+    private final Map<Section, DataOutputStream> sections = new EnumMap<>(Section.class);
+
+    private final Map<Section, Map<Integer, Integer>> references = new EnumMap<>(Section.class);
+
+    private final List<IsbnEntry> isbns = new ArrayList<>();
+
+    private int books;
+
+    private int lastId = Integer.MIN_VALUE;
+
+    public CatalogSnapshotWriter(Path target) throws IOException {
+
+        this.target = target.toAbsolutePath();
+        Files.createDirectories(this.target.getParent());
+        this.workDirectory = Files.createTempDirectory(this.target.getParent(), ".snapshot-");
+        for (var section : Section.values()) {
+            if (Section.ISBN_INDEX != section) {
+                sections.put(section, new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spool(section)))));
+            }
+        }
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+
+        if (book.id <= lastId) {
+            throw new IllegalArgumentException("Books must be written in ascending id order, got " + book.id + " after " + lastId);
+        }
+        lastId = book.id;
+        var title = string(book.title);
+        var originalTitle = string(book.originalTitle);
+        var isbn = string(book.isbn);
+        var edition = string(book.edition);
+        var synopsis = string(book.synopsis);
+        var publisher = null == book.publisher ? NULL : named(Section.PUBLISHERS, book.publisher.id, book.publisher.name);
+        var authors = list(book.authors, this::author);
+        var languages = list(book.languages, this::language);
+        var genres = list(book.genres, genre -> named(Section.GENRES, genre.id, genre.name));
+        var tags = list(book.tags, tag -> named(Section.TAGS, tag.id, tag.name));
+        var formats = list(book.formats, format -> named(Section.FORMATS, format.id, format.name));
+
+        var out = sections.get(Section.BOOKS);
+        out.writeInt(book.id);
+        out.writeInt(title);
+        out.writeInt(originalTitle);
+        out.writeInt(isbn);
+        out.writeInt(edition);
+        out.writeInt(synopsis);
+        out.writeInt(date(book.releaseDate));
+        out.writeInt(date(book.editionDate));
+        out.writeFloat(null == book.price ? Float.NaN : book.price);
+        out.writeFloat(null == book.promotionalPrice ? Float.NaN : book.promotionalPrice);
+        out.writeInt(book.stockAvailable);
+        out.writeLong(instant(book.createdOn));
+        out.writeLong(instant(book.updatedOn));
+        out.writeInt(publisher);
+        out.writeInt(authors);
+        out.writeInt(languages);
+        out.writeInt(genres);
+        out.writeInt(tags);
+        out.writeInt(formats);
+        out.writeByte(book.isSeries ? 1 : 0);
+        out.writeByte(null == book.availability ? NULL : book.availability.ordinal());
+        out.writeShort(0);
+
+        if (null != book.isbn) {
+            isbns.add(new IsbnEntry(book.isbn.getBytes(StandardCharsets.UTF_8), isbn, books));
+        }
+        books++;
+    }
+
+    /**
+     * Assembles the snapshot and moves it over the target in one step, so readers never see a partial file.
+     *
+     * @return the number of books in the snapshot
+     */
+    public int publish() throws IOException {
+
+        for (var out : sections.values()) {
+            out.close();
+        }
+        isbns.sort(Comparator.comparing(IsbnEntry::isbn, Arrays::compareUnsigned));
+        var isbnIndex = ByteBuffer.allocate(isbns.size() * ISBN_ENTRY_SIZE);
+        for (var entry : isbns) {
+            isbnIndex.putInt(entry.string()).putInt(entry.record());
+        }
+        isbnIndex.flip();
+
+        var header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(System.currentTimeMillis());
+        long position = HEADER_SIZE;
+        for (var section : Section.values()) {
+            header.putInt((int) position);
+            position += Section.ISBN_INDEX == section ? isbnIndex.remaining() : Files.size(spool(section));
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot exceeds " + Integer.MAX_VALUE + " bytes");
+            }
+        }
+        header.putInt((int) position);
+        header.flip();
+
+        var file = workDirectory.resolve("catalog.snapshot");
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (var section : Section.values()) {
+                if (Section.ISBN_INDEX == section) {
+                    writeFully(channel, isbnIndex);
+                    continue;
+                }
+                try (var spooled = FileChannel.open(spool(section))) {
+                    var size = spooled.size();
+                    for (long copied = 0; copied < size; ) {
+                        copied += spooled.transferTo(copied, size - copied, channel);
+                    }
+                }
+            }
+            channel.force(true);
+        }
+        Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return books;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        for (var out : sections.values()) {
+            out.close();
+        }
+        try (var files = Files.list(workDirectory)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(workDirectory);
+    }
+
+    private Path spool(Section section) {
+
+        return workDirectory.resolve(section.name().toLowerCase());
+    }
+
+    private int author(AuthorDto author) throws IOException {
+
+        var positions = references.computeIfAbsent(Section.AUTHORS, section -> new HashMap<>());
+        var position = positions.get(author.id);
+        if (null != position) {
+            return position;
+        }
+        var out = sections.get(Section.AUTHORS);
+        out.writeInt(author.id);
+        out.writeInt(string(author.name));
+        out.writeInt(string(author.originalName));
+        out.writeInt(date(author.dateOfBirth));
+        out.writeInt(string(author.placeOfBirth));
+        out.writeInt(date(author.dateOfDeath));
+        out.writeInt(string(author.placeOfDeath));
+        out.writeInt(string(author.about));
+        positions.put(author.id, positions.size());
+        return positions.size() - 1;
+    }
+
+    private int language(LanguageDto language) throws IOException {
+
+        var positions = references.computeIfAbsent(Section.LANGUAGES, section -> new HashMap<>());
+        var position = positions.get(language.id);
+        if (null != position) {
+            return position;
+        }
+        var out = sections.get(Section.LANGUAGES);
+        out.writeInt(language.id);
+        out.writeInt(string(language.name));
+        out.writeInt(string(language.culture));
+        positions.put(language.id, positions.size());
+        return positions.size() - 1;
+    }
+
+    private int named(Section section, int id, String name) throws IOException {
+
+        var positions = references.computeIfAbsent(section, key -> new HashMap<>());
+        var position = positions.get(id);
+        if (null != position) {
+            return position;
+        }
+        var out = sections.get(section);
+        out.writeInt(id);
+        out.writeInt(string(name));
+        positions.put(id, positions.size());
+        return positions.size() - 1;
+    }
+
+    private <T> int list(List<T> values, IOToIntFunction<T> reference) throws IOException {
+
+        if (null == values) {
+            return NULL;
+        }
+        var positions = new int[values.size()];
+        for (var i = 0; i < positions.length; i++) {
+            positions[i] = reference.applyAsInt(values.get(i));
+        }
+        var out = sections.get(Section.LISTS);
+        var offset = out.size();
+        out.writeInt(positions.length);
+        for (var position : positions) {
+            out.writeInt(position);
+        }
+        return offset;
+    }
+
+    private int string(String value) throws IOException {
+
+        if (null == value) {
+            return NULL;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        var out = sections.get(Section.STRINGS);
+        var offset = out.size();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return offset;
+    }
+
+    private static int date(Date value) {
+
+        return null == value ? NULL_DATE : (int) value.toLocalDate().toEpochDay();
+    }
+
+    private static long instant(Instant value) {
+
+        return null == value ? NULL_INSTANT : ChronoUnit.MICROS.between(Instant.EPOCH, value);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOToIntFunction<T> {
+
+        int applyAsInt(T value) throws IOException;
+    }
+
+    private record IsbnEntry(byte[] isbn, int string, int record) {
+    }
+}
@@ -3,10 +3,47 @@ package com.critical.catalogservice.data.specification;
 import com.critical.catalogservice.data.entity.*;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.Optional;
+
 public class BookSpecifications {
 
+    /**
+     * Composes the book search filters, absent filters are left out of the query. They are evaluated on the
+     * denormalized {@link BookSearch} rows: the books are selected by id from a single-table subquery instead of
+     * joining the four association tables and their lookup tables. The names are passed as string literals, which
+     * Hibernate renders quoted and escaped: a bound parameter takes the type of the array column, and H2 can only match
+     * an array against an array by unnesting both for every row.
+     */
+    public static Specification<Book> searchReadModel(
+            Optional<String> author, Optional<String> tag, Optional<String> genre, Optional<String> language, Optional<Boolean> isSeries,
+            Optional<Double> minPrice, Optional<Double> maxPrice, Optional<Boolean> promotionStatus, Optional<Integer> availability) {
+
+        return (root, query, criteriaBuilder) -> {
+            var builder = (HibernateCriteriaBuilder) criteriaBuilder;
+            var subquery = query.subquery(Integer.class);
+            var search = subquery.from(BookSearch.class);
+            var predicates = new ArrayList<Predicate>();
+            author.ifPresent(value -> predicates.add(builder.arrayContains(search.<String[]>get("authorNames"), builder.literal(value))));
+            tag.ifPresent(value -> predicates.add(builder.arrayContains(search.<String[]>get("tagNames"), builder.literal(value))));
+            genre.ifPresent(value -> predicates.add(builder.arrayContains(search.<String[]>get("genreNames"), builder.literal(value))));
+            language.ifPresent(value -> predicates.add(builder.arrayContains(search.<String[]>get("languageNames"), builder.literal(value))));
+            isSeries.ifPresent(value -> predicates.add(builder.equal(search.get("isSeries"), value)));
+            minPrice.ifPresent(value -> predicates.add(builder.greaterThanOrEqualTo(search.get("price"), value)));
+            maxPrice.ifPresent(value -> predicates.add(builder.lessThanOrEqualTo(search.get("price"), value)));
+            availability.ifPresent(value -> predicates.add(builder.equal(search.get("availability"), value)));
+            promotionStatus.ifPresent(value -> predicates.add(value
+                    ? builder.greaterThanOrEqualTo(search.get("promotionalPrice"), 1.0)
+                    : builder.equal(search.get("promotionalPrice"), 0.0)));
+            subquery.select(search.get("bookId")).where(predicates.toArray(Predicate[]::new));
+            return root.get("id").in(subquery);
+        };
+    }
+
     public static Specification<Book> hasBooleanProperty(Boolean value, String fieldName ) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get(fieldName), value);
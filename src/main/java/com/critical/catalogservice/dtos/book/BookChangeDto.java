@@ -0,0 +1,20 @@
+package com.critical.catalogservice.dtos.book;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * A book created or updated, with its current state, or a tombstone of a deleted book, without one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookChangeDto {
+
+    public BookChangeTypeDto type;
+
+    public int id;
+
+    public Instant changedOn;
+
+    public BookDto book;
+}
@@ -0,0 +1,16 @@
+package com.critical.catalogservice.dtos.book;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. {@code cursor} resumes right after the last change of the page, or where the request
+ * started when the page is empty, and {@code hasMore} tells whether the next page can be requested right away.
+ */
+public class BookChangeFeedDto {
+
+    public List<BookChangeDto> changes;
+
+    public String cursor;
+
+    public boolean hasMore;
+}
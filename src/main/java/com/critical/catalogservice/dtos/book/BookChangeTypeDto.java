@@ -0,0 +1,3 @@
+package com.critical.catalogservice.dtos.book;
+
+public enum BookChangeTypeDto { UPDATED, DELETED }
@@ -0,0 +1,19 @@
+package com.critical.catalogservice.dtos.book;
+
+import java.time.Instant;
+
+/**
+ * Live stock and price of a book, pushed to the subscribers of the book stream whenever either changes.
+ */
+public class BookStockPriceDto {
+
+    public int id;
+
+    public int stockAvailable;
+
+    public Float price;
+
+    public Float promotionalPrice;
+
+    public Instant updatedOn;
+}
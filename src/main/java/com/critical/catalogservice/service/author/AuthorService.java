@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.author;
 
 import com.critical.catalogservice.data.entity.Author;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.AuthorRepository;
 import com.critical.catalogservice.dtos.AuthorDto;
 import com.critical.catalogservice.service.author.mapper.AuthorMapper;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,18 +23,23 @@ public class AuthorService {
 
     private final AuthorRepository repository;
 
+    private final BookSearchRepository bookSearchRepository;
+
     @Autowired
-    public AuthorService(AuthorRepository repository) {
+    public AuthorService(AuthorRepository repository, BookSearchRepository bookSearchRepository) {
 
         this.repository = repository;
+        this.bookSearchRepository = bookSearchRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<AuthorDto> getAllAuthors() {
 
         var authors = this.repository.findAll();
         return AuthorMapper.MAPPER.mapAuthorsToAuthorsDto(authors);
     }
 
+    @Transactional(readOnly = true)
     public AuthorDto getAuthorById(int id) {
 
         var author = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Author not found with the Id: " + id));
@@ -54,6 +61,7 @@ public class AuthorService {
         logger.info("Author deleted with success.");
     }
 
+    @Transactional
     public boolean updateAuthor(int id, AuthorDto author) {
         if (null == author) {
             logger.warn("Author Information received is null.");
@@ -62,6 +70,7 @@ public class AuthorService {
         var existingAuthor = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Author not found with the Id: " + id));
         existingAuthor.setName(author.name);
         saveAuthor(existingAuthor);
+        this.bookSearchRepository.refreshAuthorNames(id);
         return true;
     }
 
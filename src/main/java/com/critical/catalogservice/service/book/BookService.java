@@ -1,7 +1,11 @@
 package com.critical.catalogservice.service.book;
 
+import com.critical.catalogservice.config.MetricsConfig;
 import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.entity.BookTombstone;
 import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
+import com.critical.catalogservice.data.repository.BookTombstoneRepository;
 import com.critical.catalogservice.data.specification.BookSpecifications;
 import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
 import com.critical.catalogservice.dtos.book.BookDto;
@@ -9,52 +13,74 @@ import com.critical.catalogservice.dtos.book.BookRequestDto;
 import com.critical.catalogservice.dtos.book.BookUpdateRequestDto;
 import com.critical.catalogservice.service.book.mapper.BookAvailabilityMapper;
 import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.service.book.stream.BookUpdateBroadcaster;
 import com.critical.catalogservice.service.rabbitMq.BookStockProducer;
 import com.critical.catalogservice.util.exception.EntityNullException;
 import com.critical.catalogservice.util.exception.SaveEntityException;
+import com.critical.catalogservice.util.jfr.BookOperationEvent;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.jobrunr.jobs.annotations.Job;
 import org.jobrunr.scheduling.JobScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
+@Timed(value = "catalog.book.service", histogram = true)
 public class BookService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookService.class);
 
     private final BookRepository repository;
 
+    private final BookSearchRepository bookSearchRepository;
+
+    private final BookTombstoneRepository bookTombstoneRepository;
+
     private final JobScheduler jobScheduler;
 
     private final BookStockProducer bookStockProducer;
 
+    private final BookUpdateBroadcaster bookUpdateBroadcaster;
+
+    private final MeterRegistry meterRegistry;
 
-    public BookService(BookRepository repository, JobScheduler jobScheduler, BookStockProducer bookStockProducer) {
+
+    public BookService(BookRepository repository, BookSearchRepository bookSearchRepository, BookTombstoneRepository bookTombstoneRepository,
+                       JobScheduler jobScheduler, BookStockProducer bookStockProducer, BookUpdateBroadcaster bookUpdateBroadcaster,
+                       MeterRegistry meterRegistry) {
 
         this.repository = repository;
+        this.bookSearchRepository = bookSearchRepository;
+        this.bookTombstoneRepository = bookTombstoneRepository;
         this.jobScheduler = jobScheduler;
         this.bookStockProducer =bookStockProducer;
+        this.bookUpdateBroadcaster = bookUpdateBroadcaster;
+        this.meterRegistry = meterRegistry;
     }
 
+    @Transactional(readOnly = true)
     public List<BookDto> getAllBooks() {
 
         var books = this.repository.findAll();
         return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
+    @Transactional(readOnly = true)
     public List<BookDto> getAllAvailableBooks() {
 
         var books = this.repository.findAllByAvailability();
         return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
+    @Transactional(readOnly = true)
     public BookDto getBookById(int id) {
 
         var book = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + id));
@@ -62,6 +88,7 @@ public class BookService {
         return BookMapper.MAPPER.mapBookToBookDto(book);
     }
 
+    @Transactional(readOnly = true)
     public List<BookDto> getBookBySynopsis(String synopsis) {
 
         var books = this.repository.findBySynopsis(synopsis);
@@ -73,6 +100,7 @@ public class BookService {
         return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
+    @Transactional(readOnly = true)
     public List<BookDto> getBookByTitle(String Title) {
 
         var books = this.repository.findByTitle(Title);
@@ -84,6 +112,7 @@ public class BookService {
         return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
+    @Transactional(readOnly = true)
     public List<BookDto> getBookByOriginalTitle(String originalTitle) {
 
         var books = this.repository.findByOriginalTitle(originalTitle);
@@ -95,6 +124,7 @@ public class BookService {
         return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
+    @Transactional(readOnly = true)
     public BookDto getBookByISBN(String isbn) {
 
         var book = this.repository.findByIsbn(isbn);
@@ -106,9 +136,14 @@ public class BookService {
         return BookMapper.MAPPER.mapBookToBookDto(book);
     }
 
+    @Transactional
     public void deleteBook(int id) {
 
-        this.repository.deleteById(id);
+        this.bookSearchRepository.removeBook(id);
+        this.repository.findById(id).ifPresent(book -> {
+            this.repository.delete(book);
+            this.bookTombstoneRepository.save(new BookTombstone(id));
+        });
         logger.info("Book deleted with success.");
     }
 
@@ -120,27 +155,32 @@ public class BookService {
             logger.warn("Book Information received is null.");
             throw new EntityNullException("Book received is null");
         }
-        var book = BookMapper.MAPPER.mapBookRequestDtoToBook(bookRequest);
+        var event = new BookOperationEvent(BookOperationEvent.CREATE);
+        var book = event.mapping(() -> BookMapper.MAPPER.mapBookRequestDtoToBook(bookRequest));
         try{
-            return this.saveBook(book);
+            return this.saveBook(book, event).getId();
         }catch (Exception exception){
+            event.failed(exception);
             jobScheduler.enqueue(() -> this.saveBook(book));
+            meterRegistry.counter(MetricsConfig.JOBRUNR_ENQUEUED, "job", "saveBook").increment();
             throw new SaveEntityException(exception.getMessage());
+        }finally {
+            event.finish();
         }
 
     }
 
-    @Job(name="Update Book Stock", retries=10)
+    /**
+     * Runs in one transaction so the stock change is flushed from the loaded book. Saving a detached copy merges it
+     * through the cascaded publisher and authors, which loads every book of both.
+     */
+    @Transactional
     public void updateBookStock(int id, int stock) {
 
-        try {
-            this.updateBookStockInformation(id, stock);
-        } catch (EntityNotFoundException ex) {
-
-            jobScheduler.enqueue(() -> this.updateBookStockInformation(id, stock));
-        }
+        this.updateBookStockInformation(id, stock);
     }
 
+    @Transactional
     @Job(name="Update Book Information", retries=10)
     public boolean updateBook(int id, BookUpdateRequestDto book) {
 
@@ -152,6 +192,7 @@ public class BookService {
             this.updateBookInformation(id, book);
         }catch (Exception ex){
             jobScheduler.enqueue(() -> this.updateBookInformation(id, book));
+            meterRegistry.counter(MetricsConfig.JOBRUNR_ENQUEUED, "job", "updateBookInformation").increment();
             throw ex;
         }
 
@@ -160,49 +201,58 @@ public class BookService {
 
 
 
+    @Transactional(readOnly = true)
     public List<BookDto> searchBooks(
             Optional<String> author, Optional<String> tag, Optional<String> genre, Optional<String> language, Optional<Boolean> IsSeries, Optional<Double> minPrice, Optional<Double> maxPrice, Optional<Boolean> promotionStatus, Optional<BookAvailabilityDto> availability) {
 
-        Specification<Book> spec = Specification.where(null);
-        if (author.isPresent()) {
-            spec = spec.and(BookSpecifications.hasAuthorEqualTo(author.get()));
-        }
-        if (tag.isPresent()) {
-            spec = spec.and(BookSpecifications.hasTagEqualTo(tag.get()));
+        var event = new BookOperationEvent(BookOperationEvent.SEARCH);
+        if (event.isEnabled()) {
+            event.parameters = "author=" + author.orElse(null) + ", tag=" + tag.orElse(null) + ", genre=" + genre.orElse(null)
+                    + ", language=" + language.orElse(null) + ", isSeries=" + IsSeries.orElse(null) + ", minPrice=" + minPrice.orElse(null)
+                    + ", maxPrice=" + maxPrice.orElse(null) + ", promotionStatus=" + promotionStatus.orElse(null) + ", availability=" + availability.orElse(null);
         }
-        if (genre.isPresent()) {
-            spec = spec.and(BookSpecifications.hasGenreEqualTo(genre.get()));
-        }
-        if (language.isPresent()) {
-            spec = spec.and(BookSpecifications.hasLanguageEqualTo(language.get()));
-        }
-        if (IsSeries.isPresent()) {
-            spec = spec.and(BookSpecifications.hasBooleanProperty(IsSeries.get(), "is_series"));
-        }
-        if (minPrice.isPresent()) {
-            spec = spec.and(BookSpecifications.hasFloatPropertyGreaterThan(minPrice.get(), "price"));
-        }
-        if (maxPrice.isPresent()) {
-            spec = spec.and(BookSpecifications.hasFloatPropertyLessThan(maxPrice.get(), "price"));
-        }
-        if (availability.isPresent()) {
-            spec = spec.and(BookSpecifications.hasIntProperty(availability.get().getValue(), "availability"));
-        }
-        if (promotionStatus.isPresent()) {
-            spec = promotionStatus.get() ? spec.and(BookSpecifications.hasFloatPropertyGreaterThan(1.0, "promotional_price")) : spec.and(BookSpecifications.hasFloatPropertyEqualTo(0.0, "promotional_price"));
+        var spec = BookSpecifications.searchReadModel(author, tag, genre, language, IsSeries, minPrice, maxPrice, promotionStatus,
+                availability.map(BookAvailabilityDto::getValue));
+        try {
+            var books = event.database(() -> repository.findAll(spec));
+            if (null == books || books.isEmpty()) {
+                var message = "Book not found with the search parameters sent";
+                logger.warn(message);
+                throw new EntityNotFoundException(message);
+            }
+            event.rows = books.size();
+            return event.mapping(() -> BookMapper.MAPPER.mapBooksToBooksDto(books));
+        } catch (RuntimeException exception) {
+            event.failed(exception);
+            throw exception;
+        } finally {
+            event.finish();
         }
-        var books = repository.findAll(spec);
-        if (null == books || books.isEmpty()) {
-            var message = "Book not found with the search parameters sent";
-            logger.warn(message);
-            throw new EntityNotFoundException(message);
+    }
+
+    /**
+     * Retry target of {@link #updateBook}, public so JobRunr runs it through the transactional proxy.
+     */
+    @Transactional
+    public void updateBookInformation(int id, BookUpdateRequestDto book) {
+
+        var event = new BookOperationEvent(BookOperationEvent.UPDATE);
+        try {
+            updateBookInformation(id, book, event);
+        } catch (RuntimeException exception) {
+            event.failed(exception);
+            throw exception;
+        } finally {
+            event.finish();
         }
-        return BookMapper.MAPPER.mapBooksToBooksDto(books);
     }
 
-    private void updateBookInformation(int id, BookUpdateRequestDto book) {
+    private void updateBookInformation(int id, BookUpdateRequestDto book, BookOperationEvent event) {
 
-        var existingBook = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + id));
+        event.bookId = id;
+        var existingBook = event.database(() -> this.repository.findById(id)).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + id));
+        var stockOrPriceChanged = existingBook.getStockAvailable() != book.stockAvailable
+                || !Objects.equals(existingBook.getPrice(), book.price) || !Objects.equals(existingBook.getPromotionalPrice(), book.promotionalPrice);
         existingBook.setIsbn(book.isbn);
         existingBook.setAvailability(BookAvailabilityMapper.MAPPER.map(book.availability));
         existingBook.setEdition(book.edition);
@@ -216,18 +266,44 @@ public class BookService {
         existingBook.setPrice(book.price);
         existingBook.setPromotionalPrice(book.promotionalPrice);
 
-        saveBook(existingBook);
+        var savedBook = saveBook(existingBook, event);
+        if (stockOrPriceChanged) {
+            bookUpdateBroadcaster.publish(savedBook);
+        }
 
         bookStockProducer.sendBockStockRequestMessage(existingBook.getId(), existingBook.getStockAvailable());
     }
 
-    private int saveBook(Book book) {
+    /**
+     * Retry target of {@link #createBook}, public so JobRunr runs it through the transactional proxy.
+     */
+    @Transactional
+    public int saveBook(Book book) {
 
+        var event = new BookOperationEvent(BookOperationEvent.CREATE);
         try {
-            var savedBook = this.repository.save(book);
+            return saveBook(book, event).getId();
+        } catch (RuntimeException exception) {
+            event.failed(exception);
+            throw exception;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private Book saveBook(Book book, BookOperationEvent event) {
+
+        try {
+            var savedBook = event.database(() -> {
+                var saved = this.repository.save(book);
+                this.bookSearchRepository.refreshBook(saved.getId());
+                return saved;
+            });
+            event.bookId = savedBook.getId();
+            event.rows = 1;
             bookStockProducer.sendBockStockRequestMessage(savedBook.getId(), savedBook.getStockAvailable());
             logger.info("Book saved with success.");
-            return savedBook.getId();
+            return savedBook;
         } catch (Exception exception) {
             logger.error("Error occurred while upserting the book information", exception);
             throw exception;
@@ -235,36 +311,63 @@ public class BookService {
     }
 
     private void updateBookStockInformation(int id, int stock){
+        var event = new BookOperationEvent(BookOperationEvent.STOCK_UPDATE);
+        event.bookId = id;
+        if (event.isEnabled()) {
+            event.parameters = "stock=" + stock;
+        }
         try{
-            var book = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + id));
+            var book = event.database(() -> this.repository.findById(id)).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + id));
 
             book.setStockAvailable(book.getStockAvailable() + stock);
 
-            this.repository.save(book);
+            var savedBook = event.database(() -> this.repository.save(book));
+            event.rows = 1;
+            bookUpdateBroadcaster.publish(savedBook);
 
             bookStockProducer.sendBockStockRequestMessage(id, stock);
 
             logger.info("Book stock updated with success.");
         }catch (EntityNotFoundException ex) {
+            event.failed(ex);
             logger.warn(ex.getMessage());
             throw ex;
+        }catch (RuntimeException ex) {
+            event.failed(ex);
+            throw ex;
+        }finally {
+            event.finish();
         }
     }
 
+    @Transactional
     public void sellBook(int bookId, int stock) {
+        var event = new BookOperationEvent(BookOperationEvent.STOCK_SELL);
+        event.bookId = bookId;
+        if (event.isEnabled()) {
+            event.parameters = "stock=" + stock;
+        }
         try{
-            var book = this.repository.findById(bookId).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + bookId));
+            var book = event.database(() -> this.repository.findById(bookId)).orElseThrow(() -> new EntityNotFoundException("Book not found with the Id: " + bookId));
 
             book.setStockAvailable(book.getStockAvailable() - stock);
 
-            this.repository.save(book);
+            var savedBook = event.database(() -> this.repository.save(book));
+            event.rows = 1;
+            bookUpdateBroadcaster.publish(savedBook);
 
             bookStockProducer.sendBockStockRequestMessage(bookId, stock);
 
             logger.info("Book stock updated with success.");
         }catch (EntityNotFoundException ex) {
+            event.failed(ex);
             logger.warn(ex.getMessage());
             throw ex;
+        }catch (RuntimeException ex) {
+            event.failed(ex);
+            throw ex;
+        }finally {
+            event.finish();
         }
     }
 }
\ No newline at end of file
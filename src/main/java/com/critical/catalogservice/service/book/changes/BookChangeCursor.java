@@ -0,0 +1,43 @@
+package com.critical.catalogservice.service.book.changes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in the change feed: the last change seen, ordered by time then book id. Encoded as an opaque URL safe
+ * token. The time is kept to the microsecond precision of the database, rounding down, so a resumed feed may repeat
+ * a change but never skips one.
+ */
+record BookChangeCursor(Instant changedOn, int id) {
+
+    static final BookChangeCursor START = new BookChangeCursor(Instant.EPOCH, 0);
+
+    BookChangeCursor {
+
+        changedOn = changedOn.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    static BookChangeCursor parse(String cursor) {
+
+        if (null == cursor || cursor.isEmpty()) {
+            return START;
+        }
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (2 != parts.length) {
+                throw new IllegalArgumentException();
+            }
+            return new BookChangeCursor(Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS), Integer.parseInt(parts[1]));
+        } catch (IllegalArgumentException | ArithmeticException exception) {
+            throw new IllegalArgumentException("Invalid change feed cursor: " + cursor);
+        }
+    }
+
+    String encode() {
+
+        var value = ChronoUnit.MICROS.between(Instant.EPOCH, changedOn) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
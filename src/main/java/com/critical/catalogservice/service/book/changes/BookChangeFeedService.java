@@ -0,0 +1,129 @@
+package com.critical.catalogservice.service.book.changes;
+
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.entity.BookTombstone;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.data.repository.BookTombstoneRepository;
+import com.critical.catalogservice.dtos.book.BookChangeDto;
+import com.critical.catalogservice.dtos.book.BookChangeFeedDto;
+import com.critical.catalogservice.dtos.book.BookChangeTypeDto;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Incremental change feed of the catalog: books created or updated and tombstones of deleted books, in
+ * (time, book id) order from a resumable {@link BookChangeCursor}. Each page reads both sources through their
+ * (time, id) indexes, so a consumer pays for the changes since its cursor and not for the size of the catalog.
+ * <p>
+ * Timestamps are taken before the writing transaction commits, so a change can become visible after later ones.
+ * The feed stops {@code catalog.change-feed.settle-time} short of now, which must exceed the longest book write
+ * transaction and the clock skew between nodes, so a cursor never moves past a change that is not visible yet.
+ * The transaction is not read-only so the read/write routing keeps the feed on the primary: a lagging replica could
+ * hide changes older than the settle time from a cursor for good.
+ */
+@Service
+public class BookChangeFeedService {
+
+    private final BookRepository bookRepository;
+
+    private final BookTombstoneRepository tombstoneRepository;
+
+    private final EntityManager entityManager;
+
+    private final Duration settleTime;
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    public BookChangeFeedService(BookRepository bookRepository, BookTombstoneRepository tombstoneRepository, EntityManager entityManager,
+                                 @Value("${catalog.change-feed.settle-time}") Duration settleTime,
+                                 @Value("${catalog.change-feed.default-page-size}") int defaultPageSize,
+                                 @Value("${catalog.change-feed.max-page-size}") int maxPageSize) {
+
+        this.bookRepository = bookRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.entityManager = entityManager;
+        this.settleTime = settleTime;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * @param cursor the cursor of the previous page, none to start from the beginning
+     * @param size   the maximum number of changes, none for the default page size
+     * @throws IllegalArgumentException when the cursor is not one of this feed or the size is out of range
+     */
+    @Transactional
+    public BookChangeFeedDto getChanges(String cursor, Integer size) {
+
+        var pageSize = null == size ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        var position = BookChangeCursor.parse(cursor);
+        var until = Instant.now().minus(settleTime);
+        var session = entityManager.unwrap(Session.class);
+        var fetchBatchSize = session.getFetchBatchSize();
+        // The collections of the page's books are loaded together on first access.
+        session.setFetchBatchSize(pageSize);
+        try {
+            // One more of each tells whether another page follows.
+            var books = bookRepository.findChangedAfter(position.changedOn(), position.id(), until, Limit.of(pageSize + 1));
+            var tombstones = tombstoneRepository.findDeletedAfter(position.changedOn(), position.id(), until, Limit.of(pageSize + 1));
+            var changes = new ArrayList<BookChangeDto>(pageSize);
+            var nextBook = 0;
+            var nextTombstone = 0;
+            while (changes.size() < pageSize && (nextBook < books.size() || nextTombstone < tombstones.size())) {
+                if (nextTombstone == tombstones.size()
+                        || (nextBook < books.size() && isBefore(books.get(nextBook), tombstones.get(nextTombstone)))) {
+                    changes.add(updated(books.get(nextBook++)));
+                } else {
+                    changes.add(deleted(tombstones.get(nextTombstone++)));
+                }
+            }
+            var feed = new BookChangeFeedDto();
+            feed.changes = changes;
+            feed.hasMore = nextBook < books.size() || nextTombstone < tombstones.size();
+            feed.cursor = (changes.isEmpty() ? position : new BookChangeCursor(changes.get(changes.size() - 1).changedOn,
+                    changes.get(changes.size() - 1).id)).encode();
+            return feed;
+        } finally {
+            session.setFetchBatchSize(fetchBatchSize);
+        }
+    }
+
+    private static boolean isBefore(Book book, BookTombstone tombstone) {
+
+        var comparison = book.getUpdatedOn().compareTo(tombstone.getDeletedOn());
+        return comparison < 0 || (0 == comparison && book.getId() < tombstone.getBookId());
+    }
+
+    private static BookChangeDto updated(Book book) {
+
+        var change = new BookChangeDto();
+        change.type = BookChangeTypeDto.UPDATED;
+        change.id = book.getId();
+        change.changedOn = book.getUpdatedOn();
+        change.book = BookMapper.MAPPER.mapBookToBookDto(book);
+        return change;
+    }
+
+    private static BookChangeDto deleted(BookTombstone tombstone) {
+
+        var change = new BookChangeDto();
+        change.type = BookChangeTypeDto.DELETED;
+        change.id = tombstone.getBookId();
+        change.changedOn = tombstone.getDeletedOn();
+        return change;
+    }
+}
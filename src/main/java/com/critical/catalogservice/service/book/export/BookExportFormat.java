@@ -0,0 +1,38 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum BookExportFormat {
+
+    NDJSON("ndjson") {
+        @Override
+        public BookExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+
+            return new NdjsonBookExportWriter(outputStream, objectMapper);
+        }
+    },
+    CSV("csv") {
+        @Override
+        public BookExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) {
+
+            return new CsvBookExportWriter(outputStream);
+        }
+    };
+
+    private final String extension;
+
+    BookExportFormat(String extension) {
+
+        this.extension = extension;
+    }
+
+    public String getFileName() {
+
+        return "books." + extension + ".gz";
+    }
+
+    public abstract BookExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+}
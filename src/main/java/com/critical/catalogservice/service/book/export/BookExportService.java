@@ -0,0 +1,110 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.util.query.Unbudgeted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the whole catalog as gzip compressed NDJSON or CSV. Books are read through a forward-only cursor and
+ * written in batches: the associations of a batch are loaded together, then the batch is detached, so memory use
+ * depends on the batch size and not on the size of the catalog.
+ */
+@Service
+public class BookExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BookRepository repository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+
+    public BookExportService(BookRepository repository, EntityManager entityManager, ObjectMapper objectMapper,
+                             @Value("${catalog.export.batch-size}") int batchSize) {
+
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Writes every book to the stream and closes it.
+     *
+     * @return the number of books exported
+     */
+    @Unbudgeted
+    @Transactional(readOnly = true)
+    public long exportBooks(BookExportFormat format, OutputStream outputStream) throws IOException {
+
+        try (var writer = format.open(new GZIPOutputStream(outputStream, BUFFER_SIZE), objectMapper)) {
+            var exported = exportBooks(writer);
+            logger.info("Exported {} books as {}", exported, format);
+            return exported;
+        }
+    }
+
+    /**
+     * Writes every book, in id order, to the writer and leaves it open.
+     *
+     * @return the number of books exported
+     */
+    @Unbudgeted
+    @Transactional(readOnly = true)
+    public long exportBooks(BookExportWriter writer) throws IOException {
+
+        var session = entityManager.unwrap(Session.class);
+        var cacheMode = session.getCacheMode();
+        var fetchBatchSize = session.getFetchBatchSize();
+        // Read the second-level cache without flooding it with the whole catalog.
+        session.setCacheMode(CacheMode.GET);
+        session.setFetchBatchSize(batchSize);
+        try (var books = repository.streamAll()) {
+            long exported = 0;
+            var batch = new ArrayList<Book>(batchSize);
+            for (var iterator = books.iterator(); iterator.hasNext(); ) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    exported += write(batch, writer);
+                }
+            }
+            exported += write(batch, writer);
+            return exported;
+        } finally {
+            session.setCacheMode(cacheMode);
+            session.setFetchBatchSize(fetchBatchSize);
+        }
+    }
+
+    private int write(List<Book> batch, BookExportWriter writer) throws IOException {
+
+        for (var book : batch) {
+            writer.write(BookMapper.MAPPER.mapBookToBookDto(book));
+        }
+        var written = batch.size();
+        batch.clear();
+        entityManager.clear();
+        return written;
+    }
+}
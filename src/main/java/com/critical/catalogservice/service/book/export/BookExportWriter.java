@@ -0,0 +1,14 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.critical.catalogservice.dtos.book.BookDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported books one at a time; closing the writer closes the underlying stream.
+ */
+public interface BookExportWriter extends Closeable {
+
+    void write(BookDto book) throws IOException;
+}
@@ -0,0 +1,80 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.critical.catalogservice.dtos.book.BookDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RFC 4180 CSV with a header row. Associations are written as their names separated by {@value #NAME_SEPARATOR}.
+ */
+class CsvBookExportWriter implements BookExportWriter {
+
+    static final String HEADER = "id,title,original_title,isbn,edition,synopsis,is_series,availability,release_date,edition_date,"
+            + "price,promotional_price,stock_available,created_on,updated_on,publisher,authors,languages,genres,tags,formats";
+
+    static final String NAME_SEPARATOR = "|";
+
+    private final Writer writer;
+
+    private boolean headerWritten;
+
+    CsvBookExportWriter(OutputStream outputStream) {
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write("\r\n");
+            headerWritten = true;
+        }
+        writeRow(book.id, book.title, book.originalTitle, book.isbn, book.edition, book.synopsis, book.isSeries,
+                book.availability, book.releaseDate, book.editionDate, book.price, book.promotionalPrice, book.stockAvailable,
+                book.createdOn, book.updatedOn, null == book.publisher ? null : book.publisher.name,
+                names(book.authors, author -> author.name), names(book.languages, language -> language.name),
+                names(book.genres, genre -> genre.name), names(book.tags, tag -> tag.name), names(book.formats, format -> format.name));
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        writer.close();
+    }
+
+    private void writeRow(Object... values) throws IOException {
+
+        for (var i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (null != values[i]) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escape(String value) {
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static <T> String names(List<T> values, Function<T, String> name) {
+
+        return null == values ? null : values.stream().map(name).collect(Collectors.joining(NAME_SEPARATOR));
+    }
+}
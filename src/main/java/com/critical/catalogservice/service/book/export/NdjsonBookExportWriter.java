@@ -0,0 +1,41 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON document per line, serialized like the book API responses.
+ */
+class NdjsonBookExportWriter implements BookExportWriter {
+
+    private final JsonGenerator generator;
+
+    private final ObjectWriter writer;
+
+    NdjsonBookExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        // Flushing after every book would push each one through the compressor and the socket on its own.
+        this.writer = objectMapper.writerFor(BookDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+
+        writer.writeValue(generator, book);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        generator.close();
+    }
+}
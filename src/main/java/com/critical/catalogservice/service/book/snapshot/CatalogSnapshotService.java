@@ -0,0 +1,48 @@
+package com.critical.catalogservice.service.book.snapshot;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotWriter;
+import com.critical.catalogservice.service.book.export.BookExportService;
+import com.critical.catalogservice.util.query.Unbudgeted;
+import org.jobrunr.jobs.annotations.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Produces the catalog snapshot served by read-only nodes, see {@link CatalogSnapshotWriter}. The export runs over
+ * the same batched cursor as the full catalog export; the file only replaces the previous one once it is complete.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private final BookExportService exportService;
+
+    private final Path path;
+
+    public CatalogSnapshotService(BookExportService exportService, @Value("${catalog.snapshot.path}") Path path) {
+
+        this.exportService = exportService;
+        this.path = path;
+    }
+
+    /**
+     * Writes a new snapshot over the previous one. Returns nothing, JobRunr cannot analyse a job lambda that
+     * discards a long result.
+     */
+    @Unbudgeted
+    @Job(name = "Write catalog snapshot", retries = 2)
+    public void writeSnapshot() throws IOException {
+
+        try (var writer = new CatalogSnapshotWriter(path)) {
+            exportService.exportBooks(writer);
+            var books = writer.publish();
+            logger.info("Wrote catalog snapshot of {} books to {}", books, path);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.critical.catalogservice.service.book.stream;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans stock and price changes out to the subscribers of the books that changed. Subscriptions are indexed by book
+ * id, so a change costs one lookup plus one buffer offer per interested subscriber, however many subscribers there
+ * are in total. Sending happens on a small pool of sender threads, never on the thread that changed the book. The
+ * subscriber limit is enforced by reserving a slot before the subscription is registered.
+ * <p>
+ * Sends are blocking servlet writes, so a subscriber that stops reading blocks its sender thread once the socket
+ * buffers fill up. A subscriber whose send is still in flight after the send timeout is dropped, and the pool gets a
+ * spare thread until the blocked write fails on the connection timeout, so the other subscribers keep their senders.
+ */
+@Service
+public class BookUpdateBroadcaster implements DisposableBean {
+
+    private final Map<Integer, Set<BookUpdateSubscription>> subscriptionsByBook = new ConcurrentHashMap<>();
+
+    private final Set<BookUpdateSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final int maxSubscribers;
+
+    private final int maxBookIds;
+
+    private final ThreadPoolExecutor sender;
+
+    private final ScheduledExecutorService heartbeats;
+
+    private final Counter published;
+
+    private final Counter superseded;
+
+    private final Counter dropped;
+
+    private final AtomicInteger slots = new AtomicInteger();
+
+    public BookUpdateBroadcaster(@Value("${catalog.book-stream.max-subscribers}") int maxSubscribers,
+                                 @Value("${catalog.book-stream.max-book-ids}") int maxBookIds,
+                                 @Value("${catalog.book-stream.sender-threads}") int senderThreads,
+                                 @Value("${catalog.book-stream.heartbeat-interval}") Duration heartbeatInterval,
+                                 @Value("${catalog.book-stream.send-timeout}") Duration sendTimeout,
+                                 MeterRegistry meterRegistry) {
+
+        this.maxSubscribers = maxSubscribers;
+        this.maxBookIds = maxBookIds;
+        // Up to senderThreads spare threads stand in for the ones blocked by dropped subscribers.
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads * 2, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("book-stream-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("book-stream-heartbeat-"));
+        this.heartbeats.scheduleWithFixedDelay(() -> subscriptions.forEach(BookUpdateSubscription::heartbeat),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.heartbeats.scheduleWithFixedDelay(() -> dropStalled(sendTimeout.toNanos()),
+                sendTimeout.toMillis(), sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        this.published = Counter.builder(MetricsConfig.BOOK_STREAM_UPDATES).tag("result", "published").register(meterRegistry);
+        this.superseded = Counter.builder(MetricsConfig.BOOK_STREAM_UPDATES).tag("result", "superseded").register(meterRegistry);
+        this.dropped = Counter.builder(MetricsConfig.BOOK_STREAM_DROPPED)
+                .description("Subscriptions dropped because a send outlasted the send timeout")
+                .register(meterRegistry);
+        Gauge.builder(MetricsConfig.BOOK_STREAM_SUBSCRIBERS, subscriptions, Set::size)
+                .description("Open book stream subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the subscription, none when the subscriber limit is reached
+     * @throws IllegalArgumentException when no or too many book ids are given
+     */
+    public Optional<BookUpdateSubscription> subscribe(Set<Integer> bookIds, BookUpdateSink sink) {
+
+        if (bookIds.isEmpty() || bookIds.size() > maxBookIds) {
+            throw new IllegalArgumentException("Subscribe to between 1 and " + maxBookIds + " books");
+        }
+        if (!reserveSlot()) {
+            return Optional.empty();
+        }
+        var subscription = new BookUpdateSubscription(bookIds, sink, sender, this::unsubscribe);
+        subscriptions.add(subscription);
+        for (var bookId : subscription.getBookIds()) {
+            subscriptionsByBook.compute(bookId, (id, subscribers) -> {
+                var updated = null == subscribers ? ConcurrentHashMap.<BookUpdateSubscription>newKeySet() : subscribers;
+                updated.add(subscription);
+                return updated;
+            });
+        }
+        if (subscription.isClosed()) {
+            // A failed heartbeat closed it while it was being indexed.
+            unindex(subscription);
+        }
+        return Optional.of(subscription);
+    }
+
+    /**
+     * Pushes the current stock and price of the book to its subscribers. Within a transaction the update is sent once
+     * it commits, read from the book at that point, so subscribers never see a change that was rolled back.
+     */
+    public void publish(Book book) {
+
+        if (!subscriptionsByBook.containsKey(book.getId())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+
+                    dispatch(book);
+                }
+            });
+            return;
+        }
+        dispatch(book);
+    }
+
+    public int getSubscriberCount() {
+
+        return subscriptions.size();
+    }
+
+    @Override
+    public void destroy() {
+
+        heartbeats.shutdownNow();
+        subscriptions.forEach(BookUpdateSubscription::close);
+        sender.shutdownNow();
+    }
+
+    private void dispatch(Book book) {
+
+        var subscribers = subscriptionsByBook.get(book.getId());
+        if (null == subscribers) {
+            return;
+        }
+        var update = new BookStockPriceDto();
+        update.id = book.getId();
+        update.stockAvailable = book.getStockAvailable();
+        update.price = book.getPrice();
+        update.promotionalPrice = book.getPromotionalPrice();
+        update.updatedOn = book.getUpdatedOn();
+        for (var subscription : subscribers) {
+            published.increment();
+            if (subscription.offer(update)) {
+                superseded.increment();
+            }
+        }
+    }
+
+    private void dropStalled(long sendTimeoutNanos) {
+
+        var now = System.nanoTime();
+        for (var subscription : subscriptions) {
+            if (!subscription.isStalled(now, sendTimeoutNanos)) {
+                continue;
+            }
+            Runnable onSendReturned = lendSender() ? this::returnSender : () -> { };
+            if (subscription.dropIfStalled(now, sendTimeoutNanos, onSendReturned)) {
+                dropped.increment();
+            } else {
+                onSendReturned.run();
+            }
+        }
+    }
+
+    private synchronized boolean lendSender() {
+
+        var threads = sender.getCorePoolSize();
+        if (threads == sender.getMaximumPoolSize()) {
+            return false;
+        }
+        sender.setCorePoolSize(threads + 1);
+        return true;
+    }
+
+    private synchronized void returnSender() {
+
+        sender.setCorePoolSize(sender.getCorePoolSize() - 1);
+    }
+
+    private boolean reserveSlot() {
+
+        var taken = slots.get();
+        while (taken < maxSubscribers) {
+            if (slots.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+            taken = slots.get();
+        }
+        return false;
+    }
+
+    private void unsubscribe(BookUpdateSubscription subscription) {
+
+        if (subscriptions.remove(subscription)) {
+            slots.decrementAndGet();
+        }
+        unindex(subscription);
+    }
+
+    private void unindex(BookUpdateSubscription subscription) {
+
+        for (var bookId : subscription.getBookIds()) {
+            subscriptionsByBook.computeIfPresent(bookId, (id, subscribers) -> {
+                subscribers.remove(subscription);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.critical.catalogservice.service.book.stream;
+
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+
+import java.io.IOException;
+
+/**
+ * Connection of one subscriber. Called from a single sender thread at a time; a failure ends the subscription.
+ */
+public interface BookUpdateSink {
+
+    void send(BookStockPriceDto update) throws IOException;
+
+    /**
+     * Keeps an idle connection open and finds the ones the client has left.
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * Ends the connection, the subscription is already removed.
+     */
+    void close();
+}
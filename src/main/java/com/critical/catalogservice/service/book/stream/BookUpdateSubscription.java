@@ -0,0 +1,212 @@
+package com.critical.catalogservice.service.book.stream;
+
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * One subscriber of the book stream with its own buffer of pending updates, holding the latest update per book.
+ * Publishing never waits on the subscriber: a newer update of a book still pending replaces the older one in place,
+ * so a slow subscriber skips intermediate values but always gets the current stock and price of every book it
+ * watches, and the buffer never holds more than one update per subscribed book. At most one sender task per
+ * subscription drains the buffer, in the order the books first became pending.
+ */
+public class BookUpdateSubscription {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookUpdateSubscription.class);
+
+    private final Set<Integer> bookIds;
+
+    private final BookUpdateSink sink;
+
+    private final Executor sender;
+
+    private final Consumer<BookUpdateSubscription> onClose;
+
+    private final LinkedHashMap<Integer, BookStockPriceDto> pending;
+
+    private boolean draining;
+
+    private boolean heartbeatDue;
+
+    private boolean closed;
+
+    private boolean sending;
+
+    private long sendingSince;
+
+    private Runnable onSendReturned;
+
+    private long superseded;
+
+    BookUpdateSubscription(Set<Integer> bookIds, BookUpdateSink sink, Executor sender, Consumer<BookUpdateSubscription> onClose) {
+
+        this.bookIds = Set.copyOf(bookIds);
+        this.sink = sink;
+        this.sender = sender;
+        this.onClose = onClose;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    public Set<Integer> getBookIds() {
+
+        return bookIds;
+    }
+
+    /**
+     * @return whether a pending update of the same book was replaced
+     */
+    boolean offer(BookStockPriceDto update) {
+
+        boolean replaced;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            replaced = null != pending.put(update.id, update);
+            if (replaced) {
+                superseded++;
+            }
+            if (draining) {
+                return replaced;
+            }
+            draining = true;
+        }
+        schedule();
+        return replaced;
+    }
+
+    /**
+     * Sends a heartbeat unless updates are already on their way.
+     */
+    void heartbeat() {
+
+        synchronized (this) {
+            if (closed || draining) {
+                return;
+            }
+            heartbeatDue = true;
+            draining = true;
+        }
+        schedule();
+    }
+
+    public synchronized long getSuperseded() {
+
+        return superseded;
+    }
+
+    public synchronized boolean isClosed() {
+
+        return closed;
+    }
+
+    synchronized boolean isStalled(long now, long sendTimeoutNanos) {
+
+        return !closed && sending && now - sendingSince >= sendTimeoutNanos;
+    }
+
+    /**
+     * Stops delivery when the send in flight has outlasted the timeout. The sender thread stays inside the blocked
+     * write, which also holds the sink, so the sink is closed and {@code onSendReturned} runs once the write returns.
+     *
+     * @return whether the subscription was dropped
+     */
+    boolean dropIfStalled(long now, long sendTimeoutNanos, Runnable onSendReturned) {
+
+        synchronized (this) {
+            if (!isStalled(now, sendTimeoutNanos)) {
+                return false;
+            }
+            closed = true;
+            pending.clear();
+            this.onSendReturned = onSendReturned;
+        }
+        onClose.accept(this);
+        return true;
+    }
+
+    /**
+     * Stops delivery and releases the connection. Idempotent.
+     */
+    public void close() {
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClose.accept(this);
+        sink.close();
+    }
+
+    private void schedule() {
+
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException exception) {
+            close();
+        }
+    }
+
+    private void drain() {
+
+        while (true) {
+            BookStockPriceDto update = null;
+            boolean heartbeat;
+            synchronized (this) {
+                var next = pending.values().iterator();
+                if (next.hasNext()) {
+                    update = next.next();
+                    next.remove();
+                }
+                heartbeat = null == update && heartbeatDue;
+                heartbeatDue = false;
+                if (null == update && !heartbeat) {
+                    draining = false;
+                    return;
+                }
+                sending = true;
+                sendingSince = System.nanoTime();
+            }
+            Exception failure = null;
+            try {
+                if (heartbeat) {
+                    sink.heartbeat();
+                } else {
+                    sink.send(update);
+                }
+            } catch (Exception exception) {
+                failure = exception;
+            }
+            Runnable returned;
+            synchronized (this) {
+                sending = false;
+                returned = onSendReturned;
+                onSendReturned = null;
+            }
+            if (null != returned) {
+                logger.warn("Book stream subscriber dropped, a send outlasted the send timeout");
+                try {
+                    sink.close();
+                } finally {
+                    returned.run();
+                }
+                return;
+            }
+            if (null != failure) {
+                logger.debug("Book stream subscriber gone: " + failure.getMessage());
+                close();
+                return;
+            }
+        }
+    }
+}
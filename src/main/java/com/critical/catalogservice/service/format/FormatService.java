@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,12 +28,14 @@ public class FormatService {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public List<FormatDto> getAllFormats() {
 
         var formats = this.repository.findAll();
         return FormatMapper.MAPPER.mapFormatsToFormatsDto(formats);
     }
 
+    @Transactional(readOnly = true)
     public FormatDto getFormatById(int id) {
 
         var format = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Format not found with the Id: " + id));
@@ -54,6 +57,7 @@ public class FormatService {
         logger.info("Format deleted with success.");
     }
 
+    @Transactional
     public boolean updateFormat(int id, FormatDto format) {
         if (null == format) {
             logger.warn("Format Information received is null.");
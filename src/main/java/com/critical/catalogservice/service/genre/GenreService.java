@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.genre;
 
 import com.critical.catalogservice.data.entity.Genre;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.GenreRepository;
 import com.critical.catalogservice.dtos.GenreDto;
 import com.critical.catalogservice.service.genre.mapper.GenreMapper;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,18 +23,23 @@ public class GenreService {
 
     private final GenreRepository repository;
 
+    private final BookSearchRepository bookSearchRepository;
+
     @Autowired
-    public GenreService(GenreRepository repository) {
+    public GenreService(GenreRepository repository, BookSearchRepository bookSearchRepository) {
 
         this.repository = repository;
+        this.bookSearchRepository = bookSearchRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<GenreDto> getAllGenres() {
 
         var genres = this.repository.findAll();
         return GenreMapper.MAPPER.mapGenresToGenresDto(genres);
     }
 
+    @Transactional(readOnly = true)
     public GenreDto getGenreById(int id) {
 
         var genre = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Genre not found with the Id: " + id));
@@ -55,6 +62,7 @@ public class GenreService {
         logger.info("Genre deleted with success.");
     }
 
+    @Transactional
     public boolean updateGenre(int id, GenreDto genre) {
         if (null == genre) {
             logger.warn("Genre Information received is null.");
@@ -63,6 +71,7 @@ public class GenreService {
         var existingGenre = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Genre not found with the Id: " + id));
         existingGenre.setName(genre.name);
         saveGenre(existingGenre);
+        this.bookSearchRepository.refreshGenreNames(id);
         return true;
     }
 
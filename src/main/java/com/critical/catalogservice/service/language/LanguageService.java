@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.language;
 
 import com.critical.catalogservice.data.entity.Language;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.LanguageRepository;
 import com.critical.catalogservice.dtos.LanguageDto;
 import com.critical.catalogservice.service.language.mapper.LanguageMapper;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,17 +21,22 @@ public class LanguageService {
     private static final Logger logger = LoggerFactory.getLogger(LanguageService.class);
     private final LanguageRepository repository;
 
+    private final BookSearchRepository bookSearchRepository;
+
     @Autowired
-    public LanguageService(LanguageRepository repository) {
+    public LanguageService(LanguageRepository repository, BookSearchRepository bookSearchRepository) {
 
         this.repository = repository;
+        this.bookSearchRepository = bookSearchRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<LanguageDto> getAllLanguages() {
         var languages= this.repository.findAll();
         return LanguageMapper.MAPPER.mapLanguagesToLanguagesDto(languages);
     }
 
+    @Transactional(readOnly = true)
     public LanguageDto getLanguageById(int id)
     {
         var language = this.repository.findById(id)
@@ -42,6 +49,7 @@ public class LanguageService {
         logger.info("Language deleted with success.");
     }
 
+    @Transactional
     public boolean updateLanguage(int id, LanguageDto language){
         if (null == language) {
             logger.warn("Language Information received is null.");
@@ -56,6 +64,7 @@ public class LanguageService {
         existingLanguage.setName(language.name);
 
         saveLanguage(existingLanguage);
+        this.bookSearchRepository.refreshLanguageNames(id);
 
         return true;
     }
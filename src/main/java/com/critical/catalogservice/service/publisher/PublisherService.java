@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,12 +28,14 @@ public class PublisherService {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public List<PublisherDto> getAllPublishers() {
 
         var publishers = this.repository.findAll();
         return PublisherMapper.MAPPER.mapPublishersToPublishersDto(publishers);
     }
 
+    @Transactional(readOnly = true)
     public PublisherDto getPublisherById(int id) {
 
         var publisher = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Publisher not found with the Id: " + id));
@@ -55,6 +58,7 @@ public class PublisherService {
         logger.info("Publisher deleted with success.");
     }
 
+    @Transactional
     public boolean updatePublisher(int id, PublisherDto publisher) {
         if (null == publisher) {
             logger.warn("Publisher Information received is null.");
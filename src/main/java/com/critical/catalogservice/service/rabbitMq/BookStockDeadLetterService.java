@@ -0,0 +1,138 @@
+package com.critical.catalogservice.service.rabbitMq;
+
+import com.critical.catalogservice.config.RabbitMQConfig;
+import com.rabbitmq.client.AMQP;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+
+@Service
+@Slf4j
+public class BookStockDeadLetterService {
+
+    public static final String RETRY_COUNT_HEADER = "x-catalog-retry-count";
+
+    public static final String FAILURE_REASON_HEADER = "x-catalog-failure-reason";
+
+    @Value("${catalog.rabbitmq.queue-update-book-stock}")
+    private String queueUpdateBookStockName;
+
+    @Value("${catalog.queue.update-book-stock-exchange}")
+    private String exchangeUpdateBookStock;
+
+    @Value("${catalog.queue.catalog.queue.update-book-stock-routing-key}")
+    private String stockRoutingKey;
+
+    @Value("${catalog.rabbitmq.update-book-stock-retry-exchange}")
+    private String retryExchangeUpdateBookStock;
+
+    @Value("${catalog.rabbitmq.update-book-stock-retry-delays}")
+    private List<Long> retryDelays;
+
+    @Value("${catalog.rabbitmq.update-book-stock-dead-letter-exchange}")
+    private String deadLetterExchangeUpdateBookStock;
+
+    @Value("${catalog.rabbitmq.queue-update-book-stock-dead-letter}")
+    private String queueUpdateBookStockDeadLetterName;
+
+    @Value("${catalog.rabbitmq.replay-confirm-timeout}")
+    private Duration confirmTimeout;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private final AmqpAdmin amqpAdmin;
+
+    public BookStockDeadLetterService(RabbitTemplate rabbitTemplate, AmqpAdmin amqpAdmin) {
+
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+    }
+
+    /**
+     * Sends a failed stock message to the next retry tier, or parks it on the dead letter queue
+     * once every tier has been used.
+     */
+    public void retryOrPark(Message message, Exception cause) {
+
+        var properties = message.getMessageProperties();
+        var retryCount = retryCount(message);
+        properties.setHeader(FAILURE_REASON_HEADER, cause.getMessage());
+
+        if (retryCount < retryDelays.size()) {
+            var delay = retryDelays.get(retryCount);
+            properties.setHeader(RETRY_COUNT_HEADER, retryCount + 1);
+            log.warn("Book stock message failed, retry " + (retryCount + 1) + " scheduled in " + delay + "ms: " + cause.getMessage());
+            rabbitTemplate.send(retryExchangeUpdateBookStock, RabbitMQConfig.retryQueueName(queueUpdateBookStockName, delay), message);
+            return;
+        }
+
+        log.error("Book stock message failed after " + retryCount + " retries, parked on " + queueUpdateBookStockDeadLetterName);
+        rabbitTemplate.send(deadLetterExchangeUpdateBookStock, queueUpdateBookStockDeadLetterName, message);
+    }
+
+    /**
+     * Moves up to {@code limit} parked messages back to the update book stock exchange with a fresh retry budget.
+     * Each message is only acknowledged on the dead letter queue once the broker confirmed the republish, a failed
+     * republish is requeued and stops the replay.
+     */
+    public int replayParkedMessages(int limit) {
+
+        var replayed = rabbitTemplate.execute(channel -> {
+            channel.confirmSelect();
+            var count = 0;
+            while (count < limit) {
+                var response = channel.basicGet(queueUpdateBookStockDeadLetterName, false);
+                if (null == response) {
+                    break;
+                }
+                var deliveryTag = response.getEnvelope().getDeliveryTag();
+                var confirmed = false;
+                try {
+                    channel.basicPublish(exchangeUpdateBookStock, stockRoutingKey, withoutRetryHeaders(response.getProps()), response.getBody());
+                    confirmed = channel.waitForConfirms(confirmTimeout.toMillis());
+                } finally {
+                    if (confirmed) {
+                        channel.basicAck(deliveryTag, false);
+                    } else if (channel.isOpen()) {
+                        channel.basicNack(deliveryTag, false, true);
+                    }
+                }
+                if (!confirmed) {
+                    throw new AmqpException("Book stock parked message replay not confirmed by the broker, requeued after " + count + " replayed");
+                }
+                count++;
+            }
+            return count;
+        });
+        log.info("Book stock parked messages replayed: " + replayed);
+        return null == replayed ? 0 : replayed;
+    }
+
+    public long countParkedMessages() {
+
+        var queueInformation = amqpAdmin.getQueueInfo(queueUpdateBookStockDeadLetterName);
+        return null == queueInformation ? 0 : queueInformation.getMessageCount();
+    }
+
+    private static AMQP.BasicProperties withoutRetryHeaders(AMQP.BasicProperties properties) {
+
+        var headers = null == properties.getHeaders() ? new HashMap<String, Object>() : new HashMap<>(properties.getHeaders());
+        headers.remove(RETRY_COUNT_HEADER);
+        headers.remove(FAILURE_REASON_HEADER);
+        return properties.builder().headers(headers).build();
+    }
+
+    private static int retryCount(Message message) {
+
+        var header = message.getMessageProperties().getHeader(RETRY_COUNT_HEADER);
+        return header instanceof Number number ? number.intValue() : 0;
+    }
+}
@@ -1,11 +1,17 @@
 package com.critical.catalogservice.service.rabbitMq;
 
+import com.critical.catalogservice.config.MetricsConfig;
 import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.util.jfr.BookStockMessageEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+
 @Service
 @Slf4j
 public class BookStockProducer {
@@ -18,14 +24,31 @@ public class BookStockProducer {
 
     private final RabbitTemplate rabbitTemplate;
 
-    public BookStockProducer(RabbitTemplate rabbitTemplate) {
+    private final MeterRegistry meterRegistry;
+
+    public BookStockProducer(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
 
         this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
     public void sendBockStockRequestMessage(int bookId, int stock) {
 
         log.info("Book stock request event sent: " + bookId + " - " + stock);
-        rabbitTemplate.convertAndSend(exchange, routingKey, new UpdateBookStockEvent(bookId, stock));
+        var event = new BookStockMessageEvent(BookStockMessageEvent.PUBLISH, exchange, bookId, stock);
+        var sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            rabbitTemplate.convertAndSend(exchange, routingKey, new UpdateBookStockEvent(bookId, stock), message -> {
+                message.getMessageProperties().setTimestamp(new Date());
+                return message;
+            });
+        } catch (RuntimeException exception) {
+            outcome = "failure";
+            throw exception;
+        } finally {
+            sample.stop(meterRegistry.timer(MetricsConfig.STOCK_EVENT_PUBLISH, "exchange", exchange, "outcome", outcome));
+            event.finish(outcome);
+        }
     }
-}
\ No newline at end of file
+}
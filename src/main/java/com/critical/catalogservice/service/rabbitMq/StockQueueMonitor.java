@@ -0,0 +1,110 @@
+package com.critical.catalogservice.service.rabbitMq;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backlog of the update book stock queue, read from the broker. The stock service does not timestamp its messages,
+ * so the queue depth and consumer count are the reliable measure of how far the listener is behind. The broker is
+ * polled on a daemon thread, a scrape never waits on it; both gauges are {@code NaN} while it is unreachable.
+ */
+@Component
+@Slf4j
+public class StockQueueMonitor implements DisposableBean {
+
+    private final AmqpAdmin amqpAdmin;
+
+    private final String queueName;
+
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile double depth = Double.NaN;
+
+    private volatile double consumers = Double.NaN;
+
+    private boolean reachable = true;
+
+    public StockQueueMonitor(AmqpAdmin amqpAdmin, MeterRegistry meterRegistry,
+                             @Value("${catalog.rabbitmq.queue-update-book-stock}") String queueName,
+                             @Value("${catalog.rabbitmq.queue-monitor-interval}") Duration interval) {
+
+        this.amqpAdmin = amqpAdmin;
+        this.queueName = queueName;
+        this.interval = interval;
+        Gauge.builder(MetricsConfig.STOCK_QUEUE_DEPTH, this, StockQueueMonitor::getDepth)
+                .description("Messages waiting on the update book stock queue, NaN when the broker is unreachable")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+        Gauge.builder(MetricsConfig.STOCK_QUEUE_CONSUMERS, this, StockQueueMonitor::getConsumers)
+                .description("Consumers of the update book stock queue, NaN when the broker is unreachable")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+
+        if (null != scheduler) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "stock-queue-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void check() {
+
+        try {
+            var queueInformation = amqpAdmin.getQueueInfo(queueName);
+            depth = null == queueInformation ? Double.NaN : queueInformation.getMessageCount();
+            consumers = null == queueInformation ? Double.NaN : queueInformation.getConsumerCount();
+            if (!reachable) {
+                log.info("Update book stock queue reachable again");
+            }
+            reachable = true;
+        } catch (Exception exception) {
+            depth = Double.NaN;
+            consumers = Double.NaN;
+            if (reachable) {
+                log.warn("Update book stock queue depth check failed: " + exception.getMessage());
+            }
+            reachable = false;
+        }
+    }
+
+    public double getDepth() {
+
+        return depth;
+    }
+
+    public double getConsumers() {
+
+        return consumers;
+    }
+
+    @Override
+    public synchronized void destroy() {
+
+        if (null != scheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.critical.catalogservice.service.rabbitMq;
 
+import com.critical.catalogservice.config.MetricsConfig;
 import com.critical.catalogservice.data.event.UpdateBookStockEvent;
 import com.critical.catalogservice.service.book.BookService;
+import com.critical.catalogservice.util.jfr.BookStockMessageEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Argument;
 import org.springframework.amqp.rabbit.annotation.Exchange;
 import org.springframework.amqp.rabbit.annotation.Queue;
 import org.springframework.amqp.rabbit.annotation.QueueBinding;
@@ -10,6 +17,8 @@ import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Slf4j
 public class UpdateBookStockListener {
@@ -17,14 +26,53 @@ public class UpdateBookStockListener {
     @Autowired
     private BookService service;
 
-    @RabbitListener(bindings = @QueueBinding(value = @Queue(value = "catalog.queue.update-book-stock", durable = "true"),
+    @Autowired
+    private BookStockDeadLetterService deadLetterService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue(value = "catalog.queue.update-book-stock", durable = "true",
+            arguments = {
+                    @Argument(name = "x-dead-letter-exchange", value = "catalog.queue.update-book-stock-dead-letter-exchange"),
+                    @Argument(name = "x-dead-letter-routing-key", value = "catalog.queue.update-book-stock.dead-letter")}),
             exchange = @Exchange(value = "catalog.queue.update-book-stock-exchange", ignoreDeclarationExceptions = "true"),
             key = "catalog.queue.catalog.queue.update-book-stock-routing-key"))
-    public void onUpdateBookStock(UpdateBookStockEvent event) {
+    public void onUpdateBookStock(UpdateBookStockEvent event, Message message) {
         log.info("Update Book Stock Event Received: " + event.bookId + " - " + event.stock);
+        var jfrEvent = new BookStockMessageEvent(BookStockMessageEvent.CONSUME, message.getMessageProperties().getConsumerQueue(), event.bookId, event.stock);
+        jfrEvent.lag = recordLag(message);
 
-        service.updateBookStock(event.bookId, event.stock);
+        var sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            service.updateBookStock(event.bookId, event.stock);
+        } catch (EntityNotFoundException exception) {
+            outcome = "retry";
+            deadLetterService.retryOrPark(message, exception);
+            return;
+        } finally {
+            sample.stop(meterRegistry.timer(MetricsConfig.STOCK_EVENT_CONSUME, "outcome", outcome));
+            jfrEvent.finish(outcome);
+        }
 
         log.info("Update Book Stock Event finished: " + event.bookId + " - " + event.stock);
     }
-}
\ No newline at end of file
+
+    /**
+     * Queue lag from the AMQP {@code timestamp} property, which producers set to the send time in milliseconds.
+     * The stock service does not set it yet; its messages are counted as unstamped and the backlog is measured
+     * by {@link StockQueueMonitor} instead.
+     */
+    private long recordLag(Message message) {
+
+        var timestamp = message.getMessageProperties().getTimestamp();
+        if (null == timestamp) {
+            meterRegistry.counter(MetricsConfig.STOCK_EVENT_UNSTAMPED).increment();
+            return 0;
+        }
+        var lag = Math.max(0, System.currentTimeMillis() - timestamp.getTime());
+        meterRegistry.timer(MetricsConfig.STOCK_EVENT_LAG).record(Duration.ofMillis(lag));
+        return lag;
+    }
+}
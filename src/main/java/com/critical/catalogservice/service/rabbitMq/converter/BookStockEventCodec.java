@@ -0,0 +1,86 @@
+package com.critical.catalogservice.service.rabbitMq.converter;
+
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * Compact binary layout for {@link UpdateBookStockEvent}:
+ * one version byte followed by the book id and the stock as zig-zag encoded varints.
+ * Each varint takes 1 to 5 bytes, so an event takes 3 to 11 bytes ({@link #MAX_ENCODED_SIZE}). A book id below
+ * 1,048,576 with a stock between -8,192 and 8,191 takes at most 6 bytes, against the ~30 bytes of its JSON form.
+ */
+public final class BookStockEventCodec {
+
+    public static final byte VERSION = 1;
+
+    public static final int MAX_ENCODED_SIZE = 1 + 5 + 5;
+
+    private BookStockEventCodec() {
+    }
+
+    public static byte[] encode(UpdateBookStockEvent event) {
+
+        var buffer = new byte[MAX_ENCODED_SIZE];
+        var position = 0;
+        buffer[position++] = VERSION;
+        position = writeVarInt(buffer, position, zigZag(event.bookId));
+        position = writeVarInt(buffer, position, zigZag(event.stock));
+
+        var encoded = new byte[position];
+        System.arraycopy(buffer, 0, encoded, 0, position);
+        return encoded;
+    }
+
+    public static UpdateBookStockEvent decode(byte[] body) {
+
+        if (null == body || body.length < 3) {
+            throw new MessageConversionException("Book stock message is too short to be decoded");
+        }
+        if (body[0] != VERSION) {
+            throw new MessageConversionException("Unsupported book stock message version: " + body[0]);
+        }
+        var cursor = new int[]{1};
+        var bookId = unZigZag(readVarInt(body, cursor));
+        var stock = unZigZag(readVarInt(body, cursor));
+        if (cursor[0] != body.length) {
+            throw new MessageConversionException("Unexpected trailing bytes in book stock message");
+        }
+        return new UpdateBookStockEvent(bookId, stock);
+    }
+
+    private static int zigZag(int value) {
+
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarInt(byte[] buffer, int position, int value) {
+
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int readVarInt(byte[] body, int[] cursor) {
+
+        var result = 0;
+        for (var shift = 0; shift < 35; shift += 7) {
+            if (cursor[0] >= body.length) {
+                throw new MessageConversionException("Truncated varint in book stock message");
+            }
+            var current = body[cursor[0]++];
+            result |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new MessageConversionException("Malformed varint in book stock message");
+    }
+}
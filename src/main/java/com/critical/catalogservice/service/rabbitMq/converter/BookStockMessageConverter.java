@@ -0,0 +1,49 @@
+package com.critical.catalogservice.service.rabbitMq.converter;
+
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Message converter negotiated through the content type of each message.
+ * Outgoing {@link UpdateBookStockEvent}s are written in the compact binary layout when enabled,
+ * incoming messages carrying {@link #CONTENT_TYPE} are decoded with {@link BookStockEventCodec}
+ * and everything else falls back to the JSON converter.
+ */
+public class BookStockMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/vnd.catalog.book-stock.v1+binary";
+
+    private final MessageConverter fallbackConverter;
+
+    private final boolean binaryEnabled;
+
+    public BookStockMessageConverter(MessageConverter fallbackConverter, boolean binaryEnabled) {
+
+        this.fallbackConverter = fallbackConverter;
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+
+        if (binaryEnabled && object instanceof UpdateBookStockEvent event) {
+            var body = BookStockEventCodec.encode(event);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        }
+        return this.fallbackConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+
+        if (CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return BookStockEventCodec.decode(message.getBody());
+        }
+        return this.fallbackConverter.fromMessage(message);
+    }
+}
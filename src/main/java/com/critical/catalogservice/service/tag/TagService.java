@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.tag;
 
 import com.critical.catalogservice.data.entity.Tag;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.TagRepository;
 import com.critical.catalogservice.dtos.TagDto;
 import com.critical.catalogservice.service.tag.mapper.TagMapper;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,18 +23,23 @@ public class TagService {
 
     private final TagRepository repository;
 
+    private final BookSearchRepository bookSearchRepository;
+
     @Autowired
-    public TagService(TagRepository repository) {
+    public TagService(TagRepository repository, BookSearchRepository bookSearchRepository) {
 
         this.repository = repository;
+        this.bookSearchRepository = bookSearchRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<TagDto> getAllTags() {
 
         var tags = this.repository.findAll();
         return TagMapper.MAPPER.mapTagsToTagsDto(tags);
     }
 
+    @Transactional(readOnly = true)
     public TagDto getTagById(int id) {
 
         var tag = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Tag not found with the Id: " + id));
@@ -54,6 +61,7 @@ public class TagService {
         logger.info("Tag deleted with success.");
     }
 
+    @Transactional
     public boolean updateTag(int id, TagDto tag) {
         if (null == tag) {
             logger.warn("Tag Information received is null.");
@@ -63,6 +71,7 @@ public class TagService {
         var existingTag = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Tag not found with the Id: " + id));
         existingTag.setName(tag.name);
         SaveTag(existingTag);
+        this.bookSearchRepository.refreshTagNames(id);
         return true;
     }
 
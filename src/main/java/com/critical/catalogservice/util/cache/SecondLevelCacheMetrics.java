@@ -0,0 +1,74 @@
+package com.critical.catalogservice.util.cache;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Publishes the JCache metrics of every Hibernate second-level cache region, tagged by cache name: the
+ * {@code cache.gets} hits and misses, {@code cache.puts}, {@code cache.evictions} and {@code cache.removals}, plus
+ * the hit ratio. The counts come from the statistics the Caffeine provider keeps per cache, enabled by
+ * {@code monitoring.statistics} in {@code application.conf}, not from the Hibernate statistics.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheMetrics(CacheManager cacheManager) {
+
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        for (var region : cacheManager.getCacheNames()) {
+            var cache = cacheManager.getCache(region);
+            new JCacheMetrics<>(cache, Tags.empty()).bindTo(registry);
+            Gauge.builder(MetricsConfig.CACHE_HIT_RATIO, statistics(cache), SecondLevelCacheMetrics::hitRatio)
+                    .description("Share of second-level cache lookups that were hits, NaN before the first lookup")
+                    .tag("cache", region)
+                    .register(registry);
+        }
+    }
+
+    private static CacheStatisticsMXBean statistics(Cache<?, ?> cache) {
+
+        // The JSR-107 name of the statistics bean the provider registers, as JCacheMetrics reads it.
+        var name = "javax.cache:type=CacheStatistics,CacheManager=" + quote(cache.getCacheManager().getURI().toString())
+                + ",Cache=" + quote(cache.getName());
+        try {
+            return JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(), new ObjectName(name), CacheStatisticsMXBean.class);
+        } catch (MalformedObjectNameException exception) {
+            throw new IllegalArgumentException("Cache name " + cache.getName() + " is not a valid JMX name", exception);
+        }
+    }
+
+    private static String quote(String value) {
+
+        return value.replaceAll("[,:=\n]", ".");
+    }
+
+    private static double hitRatio(CacheStatisticsMXBean statistics) {
+
+        try {
+            var hits = statistics.getCacheHits();
+            var lookups = hits + statistics.getCacheMisses();
+            return 0 == lookups ? Double.NaN : (double) hits / lookups;
+        } catch (RuntimeException exception) {
+            // The statistics bean is gone once the cache is closed.
+            return Double.NaN;
+        }
+    }
+}
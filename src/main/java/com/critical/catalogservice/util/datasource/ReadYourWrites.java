@@ -0,0 +1,49 @@
+package com.critical.catalogservice.util.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Marks the current thread as having to read from the primary, so a client reads its own writes while the replica
+ * may still lag behind. Set by {@link ReadYourWritesFilter} for the duration of a request and carried over to the
+ * async executors through {@link #propagate}.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> primary = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void stickToPrimary() {
+
+        primary.set(Boolean.TRUE);
+    }
+
+    public static boolean isStuckToPrimary() {
+
+        return Boolean.TRUE.equals(primary.get());
+    }
+
+    public static void clear() {
+
+        primary.remove();
+    }
+
+    /**
+     * {@link TaskDecorator} running the task with the stickiness of the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        if (!isStuckToPrimary()) {
+            return task;
+        }
+        return () -> {
+            stickToPrimary();
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
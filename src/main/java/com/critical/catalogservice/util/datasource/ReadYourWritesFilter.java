@@ -0,0 +1,71 @@
+package com.critical.catalogservice.util.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for a window after it wrote. Every write request answers with a cookie holding the
+ * end of the window, failed ones included, since the outcome is unknown before the response commits. Requests
+ * carrying an unexpired cookie, and the write requests themselves, read from the primary. The state lives in the
+ * client, so it holds across instances.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "catalog-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        var write = !SAFE_METHODS.contains(request.getMethod());
+        if (write || withinWindow(request)) {
+            ReadYourWrites.stickToPrimary();
+        }
+        try {
+            if (write) {
+                // The cookie must be added before the body commits the response.
+                var cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + window.toMillis()));
+                cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                response.addCookie(cookie);
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean withinWindow(HttpServletRequest request) {
+
+        if (null == request.getCookies()) {
+            return false;
+        }
+        for (var cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException exception) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
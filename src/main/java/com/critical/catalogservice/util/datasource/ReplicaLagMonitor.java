@@ -0,0 +1,107 @@
+package com.critical.catalogservice.util.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures the replication lag of the replica with the configured query, which returns the lag in
+ * seconds. The replica is usable while the last check succeeded within the maximum lag; a failed check or a lag
+ * over the maximum sends the reads to the primary until a later check recovers.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    /**
+     * Lag of a PostgreSQL standby, zero when it has replayed everything it received.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+
+    private final String lagQuery;
+
+    private final double maxLagSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    private volatile boolean usable;
+
+    private boolean checked;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    /**
+     * Checks once on the calling thread, then every interval on a daemon thread.
+     */
+    public void start(Duration interval) {
+
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void check() {
+
+        var announce = !checked || usable;
+        checked = true;
+        try (var connection = replica.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(lagQuery)) {
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            usable = lagSeconds <= maxLagSeconds;
+        } catch (Exception exception) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (announce) {
+                logger.warn("Replica lag check failed, reading from the primary: " + exception.getMessage());
+            }
+            return;
+        }
+        if (announce && !usable) {
+            logger.warn("Replica lags " + lagSeconds + "s behind, reading from the primary");
+        } else if (!announce && usable) {
+            logger.info("Replica caught up, reading from the replica");
+        }
+    }
+
+    public boolean isReplicaUsable() {
+
+        return usable;
+    }
+
+    /**
+     * Last measured lag in seconds, {@code NaN} when the last check failed.
+     */
+    public double getLagSeconds() {
+
+        return lagSeconds;
+    }
+
+    @Override
+    public void close() {
+
+        if (null != scheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.critical.catalogservice.util.datasource;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends the connections of read-only transactions to the replica and everything else to the primary. Reads stay on
+ * the primary while the thread reads its own writes, see {@link ReadYourWrites}, or while the replica lags, see
+ * {@link ReplicaLagMonitor}.
+ * <p>
+ * The transaction managers fetch the connection before they publish the read-only flag, so the routing datasource
+ * must sit behind a {@link LazyConnectionDataSourceProxy}, see {@link #lazy}.
+ * <p>
+ * A session reading from the replica only gets from the second-level cache and never puts into it, so a lagging
+ * replica cannot put back an entity or collection the primary just evicted; the cache is filled by primary reads.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter writes;
+
+    private final Counter reads;
+
+    private final Counter stickyReads;
+
+    private final Counter laggingReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        writes = routed(meterRegistry, Target.PRIMARY, "write");
+        reads = routed(meterRegistry, Target.REPLICA, "read");
+        stickyReads = routed(meterRegistry, Target.PRIMARY, "read-your-writes");
+        laggingReads = routed(meterRegistry, Target.PRIMARY, "replica-lag");
+    }
+
+    public static DataSource lazy(ReplicaRoutingDataSource routingDataSource) {
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (ReadYourWrites.isStuckToPrimary()) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            laggingReads.increment();
+            return Target.PRIMARY;
+        }
+        reads.increment();
+        skipCachePuts();
+        return Target.REPLICA;
+    }
+
+    private static void skipCachePuts() {
+
+        for (var resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                var session = holder.getEntityManager().unwrap(Session.class);
+                var cacheMode = session.getCacheMode();
+                session.setCacheMode(CacheMode.GET);
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+
+                            if (session.isOpen()) {
+                                session.setCacheMode(cacheMode);
+                            }
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, Target target, String reason) {
+
+        return Counter.builder(MetricsConfig.DATASOURCE_ROUTED)
+                .description("Connections handed out by the read/write routing datasource")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
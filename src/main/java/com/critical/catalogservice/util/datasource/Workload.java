@@ -0,0 +1,62 @@
+package com.critical.catalogservice.util.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Kind of work the current thread does, which selects its connection pool in {@link WorkloadRoutingDataSource}.
+ * HTTP requests are classified by {@link WorkloadFilter}, the stock listener threads by the listener container;
+ * JobRunr and every other unclassified thread count as {@link #JOBS}.
+ */
+public enum Workload {
+
+    READ("reads"), WRITE("writes"), MESSAGING("messaging"), JOBS("jobs");
+
+    private static final ThreadLocal<Workload> current = new ThreadLocal<>();
+
+    private final String poolName;
+
+    Workload(String poolName) {
+
+        this.poolName = poolName;
+    }
+
+    public String getPoolName() {
+
+        return poolName;
+    }
+
+    public static Workload current() {
+
+        var workload = current.get();
+        return null == workload ? JOBS : workload;
+    }
+
+    public static void enter(Workload workload) {
+
+        current.set(workload);
+    }
+
+    public static void clear() {
+
+        current.remove();
+    }
+
+    /**
+     * {@link TaskDecorator} running the task under the workload of the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        var workload = current.get();
+        if (null == workload) {
+            return task;
+        }
+        return () -> {
+            enter(workload);
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.critical.catalogservice.util.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Classifies API requests as {@link Workload#READ} or {@link Workload#WRITE} by their HTTP method.
+ */
+public class WorkloadFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        var method = request.getMethod();
+        Workload.enter("GET".equals(method) || "HEAD".equals(method) ? Workload.READ : Workload.WRITE);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Workload.clear();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.critical.catalogservice.util.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads: one independently sized connection pool per {@link Workload}, so a backlog in one kind of work waits
+ * on its own pool instead of starving the others. The pools are owned by this datasource and closed with it.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<Workload, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, HikariDataSource> pools) {
+
+        this.pools = new EnumMap<>(pools);
+        for (var workload : Workload.values()) {
+            if (!this.pools.containsKey(workload)) {
+                throw new IllegalArgumentException("No connection pool for the " + workload + " workload");
+            }
+        }
+        setTargetDataSources(new HashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Workload.JOBS));
+        afterPropertiesSet();
+    }
+
+    public HikariDataSource getPool(Workload workload) {
+
+        return pools.get(workload);
+    }
+
+    @Override
+    protected Workload determineCurrentLookupKey() {
+
+        return Workload.current();
+    }
+
+    @Override
+    public void close() {
+
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,98 @@
+package com.critical.catalogservice.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.function.Supplier;
+
+/**
+ * Flight Recorder event for a {@code BookService} operation. The event is begun on construction and
+ * committed by {@link #finish()}; the parameters are only rendered when the event is enabled.
+ */
+@Name("com.critical.catalogservice.BookOperation")
+@Label("Book Operation")
+@Category({"Catalog Service", "Book"})
+@Description("Search, create, update and stock operations of the book service")
+@StackTrace(false)
+public class BookOperationEvent extends Event {
+
+    public static final String SEARCH = "search";
+
+    public static final String CREATE = "create";
+
+    public static final String UPDATE = "update";
+
+    public static final String STOCK_UPDATE = "stock-update";
+
+    public static final String STOCK_SELL = "stock-sell";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Parameters")
+    public String parameters;
+
+    @Label("Book Id")
+    public int bookId;
+
+    @Label("Rows")
+    @Description("Books returned or written by the operation")
+    public int rows;
+
+    @Label("Database Time")
+    @Description("Time spent in repository calls")
+    @Timespan(Timespan.NANOSECONDS)
+    public long databaseTime;
+
+    @Label("Mapping Time")
+    @Description("Time spent mapping between entities and DTOs, including lazy association loads")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mappingTime;
+
+    @Label("Outcome")
+    public String outcome = "success";
+
+    public BookOperationEvent(String operation) {
+
+        this.operation = operation;
+        begin();
+    }
+
+    public <T> T database(Supplier<T> call) {
+
+        var start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            databaseTime += System.nanoTime() - start;
+        }
+    }
+
+    public <T> T mapping(Supplier<T> call) {
+
+        var start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            mappingTime += System.nanoTime() - start;
+        }
+    }
+
+    public void failed(Exception exception) {
+
+        outcome = exception.getClass().getSimpleName();
+    }
+
+    public void finish() {
+
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.critical.catalogservice.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for publishing or consuming a book stock message.
+ */
+@Name("com.critical.catalogservice.BookStockMessage")
+@Label("Book Stock Message")
+@Category({"Catalog Service", "RabbitMQ"})
+@Description("Book stock messages published to or consumed from RabbitMQ")
+@StackTrace(false)
+public class BookStockMessageEvent extends Event {
+
+    public static final String PUBLISH = "publish";
+
+    public static final String CONSUME = "consume";
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Destination")
+    @Description("Exchange for published messages, queue for consumed ones")
+    public String destination;
+
+    @Label("Book Id")
+    public int bookId;
+
+    @Label("Stock")
+    public int stock;
+
+    @Label("Queue Lag")
+    @Description("Time between publishing and consuming the message, when the publisher set a timestamp")
+    @Timespan(Timespan.MILLISECONDS)
+    public long lag;
+
+    @Label("Outcome")
+    public String outcome = "success";
+
+    public BookStockMessageEvent(String direction, String destination, int bookId, int stock) {
+
+        this.direction = direction;
+        this.destination = destination;
+        this.bookId = bookId;
+        this.stock = stock;
+        begin();
+    }
+
+    public void finish(String outcome) {
+
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.critical.catalogservice.util.query;
+
+import com.critical.catalogservice.util.exception.QueryBudgetExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Checks statement counts against the configured budgets and either logs or fails when one is exceeded. Requests
+ * fail on the statement over the budget, see {@link RequestQueryBudget}, and are only logged once they finished.
+ */
+@Component
+public class QueryBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudget.class);
+
+    public enum Mode { LOG, FAIL }
+
+    @Value("${catalog.query-budget.mode:log}")
+    private Mode mode;
+
+    @Value("${catalog.query-budget.per-request:30}")
+    private int perRequest;
+
+    @Value("${catalog.query-budget.per-service-call:15}")
+    private int perServiceCall;
+
+    public RequestQueryBudget startRequest(String request, BooleanSupplier unbudgeted) {
+
+        return new RequestQueryBudget("Request " + request, perRequest, mode == Mode.FAIL, unbudgeted);
+    }
+
+    public void finishRequest(RequestQueryBudget requestBudget) {
+
+        if (mode == Mode.LOG && requestBudget.getStatements() > requestBudget.getBudget() && !requestBudget.isUnbudgeted()) {
+            logger.warn(message(requestBudget.getScope(), requestBudget.getStatements(), requestBudget.getBudget()));
+        }
+    }
+
+    public void checkServiceCall(String method, long statements) {
+
+        check("Service call " + method, statements, perServiceCall);
+    }
+
+    private void check(String scope, long statements, int budget) {
+
+        if (statements <= budget) {
+            return;
+        }
+        var message = message(scope, statements, budget);
+        if (mode == Mode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        logger.warn(message);
+    }
+
+    static String message(String scope, long statements, int budget) {
+
+        return scope + " executed " + statements + " SQL statements, budget is " + budget;
+    }
+}
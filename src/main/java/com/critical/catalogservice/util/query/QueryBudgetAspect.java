@@ -0,0 +1,32 @@
+package com.critical.catalogservice.util.query;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Counts the statements executed by each public service method. Nested service calls are counted in
+ * both the inner and the outer call. Methods annotated with {@link Unbudgeted} are not counted.
+ */
+@Aspect
+public class QueryBudgetAspect {
+
+    private final QueryBudget budget;
+
+    public QueryBudgetAspect(QueryBudget budget) {
+
+        this.budget = budget;
+    }
+
+    @Around("within(com.critical.catalogservice.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))"
+            + " && !@annotation(com.critical.catalogservice.util.query.Unbudgeted)")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        var snapshot = QueryCounter.current();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            budget.checkServiceCall(joinPoint.getSignature().toShortString(), QueryCounter.since(snapshot));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.critical.catalogservice.util.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements executed while serving an HTTP request, on the request thread and on the async tasks it
+ * submits through executors decorated with {@link RequestQueryBudget#propagate}. Async requests are checked when
+ * their async dispatch completes. Requests handled by a method annotated with {@link Unbudgeted} are not checked.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final String BUDGET_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".budget";
+
+    private final QueryBudget budget;
+
+    public QueryBudgetFilter(QueryBudget budget) {
+
+        this.budget = budget;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        var requestBudget = (RequestQueryBudget) request.getAttribute(BUDGET_ATTRIBUTE);
+        if (null == requestBudget) {
+            requestBudget = budget.startRequest(request.getMethod() + " " + request.getRequestURI(), () -> isUnbudgeted(request));
+            request.setAttribute(BUDGET_ATTRIBUTE, requestBudget);
+        }
+        requestBudget.enter();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryBudget.clear();
+        }
+        if (!isAsyncStarted(request)) {
+            budget.finishRequest(requestBudget);
+        }
+    }
+
+    private static boolean isUnbudgeted(HttpServletRequest request) {
+
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                && handler.hasMethodAnnotation(Unbudgeted.class);
+    }
+}
@@ -0,0 +1,18 @@
+package com.critical.catalogservice.util.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every statement on the calling thread and against the current
+ * {@link RequestQueryBudget}, registered through {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+
+        QueryCounter.increment();
+        RequestQueryBudget.record();
+        return sql;
+    }
+}
@@ -0,0 +1,30 @@
+package com.critical.catalogservice.util.query;
+
+/**
+ * Per-thread count of the SQL statements prepared by Hibernate.
+ * <p>
+ * The count only ever grows, so nested scopes (an HTTP request wrapping several service calls) take a
+ * snapshot with {@link #current()} when they start and compare against it when they finish.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    static void increment() {
+
+        COUNT.get()[0]++;
+    }
+
+    public static long current() {
+
+        return COUNT.get()[0];
+    }
+
+    public static long since(long snapshot) {
+
+        return current() - snapshot;
+    }
+}
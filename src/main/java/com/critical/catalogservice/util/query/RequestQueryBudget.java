@@ -0,0 +1,100 @@
+package com.critical.catalogservice.util.query;
+
+import com.critical.catalogservice.util.exception.QueryBudgetExceededException;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Statement count of one HTTP request, including the statements of the async tasks it submits, see
+ * {@link #propagate}. {@link QueryCountInspector} counts each statement as it is prepared, so in fail mode the
+ * statement over the budget throws while the response can still report the error.
+ */
+public final class RequestQueryBudget {
+
+    private static final ThreadLocal<RequestQueryBudget> current = new ThreadLocal<>();
+
+    private final String scope;
+
+    private final int budget;
+
+    private final boolean fail;
+
+    private final BooleanSupplier unbudgeted;
+
+    private final AtomicLong statements = new AtomicLong();
+
+    RequestQueryBudget(String scope, int budget, boolean fail, BooleanSupplier unbudgeted) {
+
+        this.scope = scope;
+        this.budget = budget;
+        this.fail = fail;
+        this.unbudgeted = unbudgeted;
+    }
+
+    public long getStatements() {
+
+        return statements.get();
+    }
+
+    String getScope() {
+
+        return scope;
+    }
+
+    int getBudget() {
+
+        return budget;
+    }
+
+    boolean isUnbudgeted() {
+
+        return unbudgeted.getAsBoolean();
+    }
+
+    void enter() {
+
+        current.set(this);
+    }
+
+    static void clear() {
+
+        current.remove();
+    }
+
+    static void record() {
+
+        var requestBudget = current.get();
+        if (null != requestBudget) {
+            requestBudget.increment();
+        }
+    }
+
+    /**
+     * {@link TaskDecorator} counting the statements of the task against the request of the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        var requestBudget = current.get();
+        if (null == requestBudget) {
+            return task;
+        }
+        return () -> {
+            requestBudget.enter();
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    private void increment() {
+
+        var count = statements.incrementAndGet();
+        if (fail && count > budget && !isUnbudgeted()) {
+            throw new QueryBudgetExceededException(QueryBudget.message(scope, count, budget));
+        }
+    }
+}
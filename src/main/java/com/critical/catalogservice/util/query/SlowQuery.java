@@ -0,0 +1,34 @@
+package com.critical.catalogservice.util.query;
+
+import java.time.Instant;
+
+/**
+ * A statement that took longer than the slow-query threshold, as kept by {@link SlowQueryRecorder}.
+ */
+public class SlowQuery {
+
+    /**
+     * Row count of a select whose result set was not proxied, see {@link SlowQueryRecorder#isExplain()}.
+     */
+    public static final long UNCOUNTED = -1;
+
+    public Instant executedOn;
+
+    public String sql;
+
+    public String parameters;
+
+    public long rows;
+
+    public long elapsedMillis;
+
+    public String plan;
+
+    public SlowQuery(Instant executedOn, String sql, String parameters, long elapsedMillis) {
+
+        this.executedOn = executedOn;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
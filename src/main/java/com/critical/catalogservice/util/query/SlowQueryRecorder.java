@@ -0,0 +1,210 @@
+package com.critical.catalogservice.util.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Datasource-proxy listener keeping the most recent slow statements in a bounded ring buffer.
+ * <p>
+ * By default only statement timings are observed and a slow select is recorded without a row count. When
+ * plan capture is enabled the select is run again under {@code EXPLAIN} on a separate connection, which
+ * costs an extra pool connection per slow select, and its result set is proxied so the rows read through it
+ * can be counted: the select stays pending on the executing thread until its result set is closed or the
+ * thread runs its next statement.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.slow-query.enabled", havingValue = "true")
+public class SlowQueryRecorder implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private final ThreadLocal<SlowQuery> pending = new ThreadLocal<>();
+
+    private final ArrayDeque<SlowQuery> buffer;
+
+    private final int capacity;
+
+    private final long thresholdMillis;
+
+    private final boolean explain;
+
+    private DataSource explainDataSource;
+
+    public SlowQueryRecorder(@Value("${catalog.slow-query.threshold:200ms}") Duration threshold,
+                             @Value("${catalog.slow-query.capacity:100}") int capacity,
+                             @Value("${catalog.slow-query.explain:false}") boolean explain) {
+
+        this.thresholdMillis = threshold.toMillis();
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.explain = explain;
+    }
+
+    /**
+     * Whether plans are captured, and with them the result set proxying needed to count the rows of a select.
+     */
+    public boolean isExplain() {
+
+        return explain;
+    }
+
+    /**
+     * Sets the unproxied datasource the {@code EXPLAIN} statements run against.
+     */
+    public void setExplainDataSource(DataSource explainDataSource) {
+
+        this.explainDataSource = explainDataSource;
+    }
+
+    public List<SlowQuery> getRecentQueries() {
+
+        synchronized (buffer) {
+            return new ArrayList<>(buffer);
+        }
+    }
+
+    public void clear() {
+
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        completePending();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        if (execInfo.getElapsedTime() < thresholdMillis || queryInfoList.isEmpty()) {
+            return;
+        }
+        var queryInfo = queryInfoList.get(0);
+        var query = new SlowQuery(Instant.now(), queryInfo.getQuery(), renderParameters(queryInfo), execInfo.getElapsedTime());
+        if (explain && isSelect(query.sql)) {
+            query.plan = explain(queryInfo);
+        }
+
+        var result = execInfo.getResult();
+        if (result instanceof ResultSet) {
+            if (explain) {
+                pending.set(query);
+                return;
+            }
+            query.rows = SlowQuery.UNCOUNTED;
+        } else if (result instanceof Integer updated) {
+            query.rows = updated;
+        } else if (result instanceof int[] batch) {
+            for (var updated : batch) {
+                query.rows += updated;
+            }
+        }
+        record(query);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        var query = pending.get();
+        if (null == query) {
+            return;
+        }
+        var method = executionContext.getMethod().getName();
+        if ("next".equals(method) && Boolean.TRUE.equals(executionContext.getResult())) {
+            query.rows++;
+        } else if ("close".equals(method)) {
+            completePending();
+        }
+    }
+
+    private void completePending() {
+
+        var query = pending.get();
+        if (null != query) {
+            pending.remove();
+            record(query);
+        }
+    }
+
+    private void record(SlowQuery query) {
+
+        logger.warn("Slow query took " + query.elapsedMillis + "ms: " + query.sql);
+        synchronized (buffer) {
+            if (buffer.size() == capacity) {
+                buffer.removeFirst();
+            }
+            buffer.addLast(query);
+        }
+    }
+
+    private String explain(QueryInfo queryInfo) {
+
+        if (null == explainDataSource) {
+            return null;
+        }
+        try (var connection = explainDataSource.getConnection();
+             var statement = connection.prepareStatement("EXPLAIN " + queryInfo.getQuery())) {
+            if (!queryInfo.getParametersList().isEmpty()) {
+                for (var operation : queryInfo.getParametersList().get(0)) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+            }
+            var plan = new StringJoiner("\n");
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (Exception exception) {
+            logger.warn("Could not capture the plan of a slow query: " + exception.getMessage());
+            return null;
+        }
+    }
+
+    private static String renderParameters(QueryInfo queryInfo) {
+
+        var parameters = new StringJoiner(", ", "[", "]");
+        if (!queryInfo.getParametersList().isEmpty()) {
+            for (var operation : queryInfo.getParametersList().get(0)) {
+                var args = operation.getArgs();
+                var value = ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 ? null : args[1];
+                parameters.add(args[0] + "=" + value);
+            }
+        }
+        return parameters.toString();
+    }
+
+    private static boolean isSelect(String sql) {
+
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+}
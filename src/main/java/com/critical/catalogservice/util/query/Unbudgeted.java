@@ -0,0 +1,15 @@
+package com.critical.catalogservice.util.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exempts a service method or request handler from the query budget, for work whose statement count grows with
+ * the size of the catalog by design, such as a full export.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Unbudgeted {
+}
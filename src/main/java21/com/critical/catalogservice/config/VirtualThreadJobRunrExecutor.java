@@ -0,0 +1,50 @@
+package com.critical.catalogservice.config;
+
+import org.jobrunr.server.threadpool.JobRunrExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs JobRunr background jobs on virtual threads. Picked up by the background job server through
+ * the {@link java.util.ServiceLoader}; concurrency is still bounded by the configured worker count,
+ * which decides how many jobs the server onboards at once.
+ * Only compiled and registered by the java21 Maven profile.
+ */
+public class VirtualThreadJobRunrExecutor implements JobRunrExecutor {
+
+    private ExecutorService executorService;
+
+    @Override
+    public int getPriority() {
+
+        return 10;
+    }
+
+    @Override
+    public void start() {
+
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("backgroundjob-worker-", 0).factory());
+    }
+
+    @Override
+    public void stop() {
+
+        this.executorService.shutdown();
+        try {
+            if (!this.executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.executorService.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            this.executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+
+        this.executorService.execute(command);
+    }
+}
@@ -0,0 +1,35 @@
+-- Association tables: one composite index per direction. Loading the collections of a book reads the first,
+-- filtering books by a reference reads the second; both are index-only as they hold every column used.
+CREATE INDEX idx_bookauthor_book_author ON BookAuthor(Book_Id, Author_Id);
+CREATE INDEX idx_bookauthor_author_book ON BookAuthor(Author_Id, Book_Id);
+CREATE INDEX idx_booktag_book_tag ON BookTag(Book_Id, Tag_Id);
+CREATE INDEX idx_booktag_tag_book ON BookTag(Tag_Id, Book_Id);
+CREATE INDEX idx_bookgenre_book_genre ON BookGenre(Book_Id, Genre_Id);
+CREATE INDEX idx_bookgenre_genre_book ON BookGenre(Genre_Id, Book_Id);
+CREATE INDEX idx_booklanguage_book_language ON BookLanguage(Book_Id, Language_Id);
+CREATE INDEX idx_booklanguage_language_book ON BookLanguage(Language_Id, Book_Id);
+CREATE INDEX idx_bookformat_book_format ON BookFormat(Book_Id, Format_Id);
+CREATE INDEX idx_bookformat_format_book ON BookFormat(Format_Id, Book_Id);
+CREATE INDEX idx_bookpublisher_book_publisher ON BookPublisher(Book_Id, Publisher_Id);
+CREATE INDEX idx_bookpublisher_publisher_book ON BookPublisher(Publisher_Id, Book_Id);
+
+-- Lookup tables joined by name in the book search.
+CREATE INDEX idx_tag_name ON Tag(Name);
+CREATE INDEX idx_genre_name ON Genre(Name);
+CREATE INDEX idx_language_name ON Language(Name);
+
+-- Book lookups and search filters. The price and availability indexes cover the remaining search columns,
+-- so a filtered search only visits the heap for the rows it returns.
+CREATE INDEX idx_book_title_lookup ON book(Title);
+CREATE INDEX idx_book_publisher_id ON book(Publisher_Id);
+CREATE INDEX idx_book_price ON book(Price) INCLUDE (Promotional_Price, Is_Series, Availability);
+CREATE INDEX idx_book_availability_price ON book(Availability, Price) INCLUDE (Promotional_Price, Is_Series);
+CREATE INDEX idx_book_promotional_price ON book(Promotional_Price) WHERE Promotional_Price > 0;
+CREATE INDEX idx_book_in_stock ON book(Stock_Available) WHERE Stock_Available > 0;
+
+-- Synopsis search matches anywhere in the text, which only a trigram index can serve.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_book_synopsis_trgm ON book USING GIN (Synopsis gin_trgm_ops);
+
+-- Read model: same covering layout as the book table.
+CREATE INDEX idx_book_search_availability_price ON book_search(Availability, Price) INCLUDE (Promotional_Price, Is_Series);
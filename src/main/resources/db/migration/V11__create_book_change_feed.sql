@@ -0,0 +1,11 @@
+-- Change feed: books are read in (Updated_On, Id) order from a cursor, so every row needs an Updated_On.
+UPDATE book SET Updated_On = Created_On WHERE Updated_On IS NULL;
+CREATE INDEX idx_book_updated_on_id ON book(Updated_On, Id);
+
+-- Deleted books, read in (Deleted_On, Book_Id) order next to the changed books.
+CREATE TABLE book_tombstone (
+    Book_Id INTEGER PRIMARY KEY,
+    Deleted_On TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_book_tombstone_deleted_on_id ON book_tombstone(Deleted_On, Book_Id);
@@ -0,0 +1,8 @@
+-- Every sale writes Stock_Available and every price change writes the price columns. An index on a written column,
+-- including its INCLUDE list and partial predicate, rules out heap-only tuple updates, so each of those writes also
+-- inserts into every index of the book table. The book search reads the book_search read model, which keeps its own
+-- price index, and four in five books are in stock, so the availability listing reads the table sequentially anyway.
+DROP INDEX IF EXISTS idx_book_in_stock;
+DROP INDEX IF EXISTS idx_book_price;
+DROP INDEX IF EXISTS idx_book_availability_price;
+DROP INDEX IF EXISTS idx_book_promotional_price;
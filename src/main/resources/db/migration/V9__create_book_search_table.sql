@@ -0,0 +1,27 @@
+CREATE TABLE book_search (
+    Book_Id INTEGER PRIMARY KEY,
+    Author_Names VARCHAR(255)[] NOT NULL,
+    Tag_Names VARCHAR(50)[] NOT NULL,
+    Genre_Names VARCHAR(50)[] NOT NULL,
+    Language_Names VARCHAR(150)[] NOT NULL,
+    Price DECIMAL(10, 2) NOT NULL,
+    Promotional_Price DECIMAL(10, 2),
+    Is_Series BOOLEAN NOT NULL,
+    Availability SMALLINT NOT NULL,
+    CONSTRAINT fk_book_search_book_id FOREIGN KEY(Book_Id) REFERENCES book(Id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_book_search_author_names ON book_search USING GIN (Author_Names);
+CREATE INDEX idx_book_search_tag_names ON book_search USING GIN (Tag_Names);
+CREATE INDEX idx_book_search_genre_names ON book_search USING GIN (Genre_Names);
+CREATE INDEX idx_book_search_language_names ON book_search USING GIN (Language_Names);
+CREATE INDEX idx_book_search_price ON book_search(Price);
+
+INSERT INTO book_search (Book_Id, Author_Names, Tag_Names, Genre_Names, Language_Names, Price, Promotional_Price, Is_Series, Availability)
+SELECT b.Id,
+       ARRAY(SELECT a.Name FROM BookAuthor ba JOIN author a ON a.Id = ba.Author_Id WHERE ba.Book_Id = b.Id),
+       ARRAY(SELECT t.Name FROM BookTag bt JOIN Tag t ON t.Id = bt.Tag_Id WHERE bt.Book_Id = b.Id),
+       ARRAY(SELECT g.Name FROM BookGenre bg JOIN Genre g ON g.Id = bg.Genre_Id WHERE bg.Book_Id = b.Id),
+       ARRAY(SELECT l.Name FROM BookLanguage bl JOIN Language l ON l.Id = bl.Language_Id WHERE bl.Book_Id = b.Id),
+       b.Price, b.Promotional_Price, b.Is_Series, b.Availability
+FROM book b;
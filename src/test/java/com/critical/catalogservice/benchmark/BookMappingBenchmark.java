@@ -0,0 +1,118 @@
+package com.critical.catalogservice.benchmark;
+
+import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.dtos.AuthorDto;
+import com.critical.catalogservice.dtos.FormatDto;
+import com.critical.catalogservice.dtos.GenreDto;
+import com.critical.catalogservice.dtos.LanguageDto;
+import com.critical.catalogservice.dtos.PublisherDto;
+import com.critical.catalogservice.dtos.TagDto;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.book.BookRequestDto;
+import com.critical.catalogservice.service.author.mapper.AuthorMapper;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.service.format.mapper.FormatMapper;
+import com.critical.catalogservice.service.genre.mapper.GenreMapper;
+import com.critical.catalogservice.service.language.mapper.LanguageMapper;
+import com.critical.catalogservice.service.publisher.mapper.PublisherMapper;
+import com.critical.catalogservice.service.tag.mapper.TagMapper;
+import org.instancio.Instancio;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct mappers on detached entities, so no lazy loading is involved.
+ * Run with the default {@code -prof gc} to get the allocation rate next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BookMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private List<Book> books;
+
+    private List<BookRequestDto> bookRequests;
+
+    private List<Author> authors;
+
+    private List<Genre> genres;
+
+    private List<Language> languages;
+
+    private List<Tag> tags;
+
+    private List<Format> formats;
+
+    private List<Publisher> publishers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        books = Instancio.ofList(Book.class).size(size).withSeed(42).create();
+        bookRequests = Instancio.ofList(BookRequestDto.class).size(size).withSeed(42).create();
+        authors = Instancio.ofList(Author.class).size(size).withSeed(42).create();
+        genres = Instancio.ofList(Genre.class).size(size).withSeed(42).create();
+        languages = Instancio.ofList(Language.class).size(size).withSeed(42).create();
+        tags = Instancio.ofList(Tag.class).size(size).withSeed(42).create();
+        formats = Instancio.ofList(Format.class).size(size).withSeed(42).create();
+        publishers = Instancio.ofList(Publisher.class).size(size).withSeed(42).create();
+    }
+
+    @Benchmark
+    public List<BookDto> mapBooksToBooksDto() {
+
+        return BookMapper.MAPPER.mapBooksToBooksDto(books);
+    }
+
+    @Benchmark
+    public List<Book> mapBookRequestDtoToBook() {
+
+        var result = new ArrayList<Book>(bookRequests.size());
+        for (var bookRequest : bookRequests) {
+            result.add(BookMapper.MAPPER.mapBookRequestDtoToBook(bookRequest));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AuthorDto> mapAuthorsToAuthorsDto() {
+
+        return AuthorMapper.MAPPER.mapAuthorsToAuthorsDto(authors);
+    }
+
+    @Benchmark
+    public List<GenreDto> mapGenresToGenresDto() {
+
+        return GenreMapper.MAPPER.mapGenresToGenresDto(genres);
+    }
+
+    @Benchmark
+    public List<LanguageDto> mapLanguagesToLanguagesDto() {
+
+        return LanguageMapper.MAPPER.mapLanguagesToLanguagesDto(languages);
+    }
+
+    @Benchmark
+    public List<TagDto> mapTagsToTagsDto() {
+
+        return TagMapper.MAPPER.mapTagsToTagsDto(tags);
+    }
+
+    @Benchmark
+    public List<FormatDto> mapFormatsToFormatsDto() {
+
+        return FormatMapper.MAPPER.mapFormatsToFormatsDto(formats);
+    }
+
+    @Benchmark
+    public List<PublisherDto> mapPublishersToPublishersDto() {
+
+        return PublisherMapper.MAPPER.mapPublishersToPublishersDto(publishers);
+    }
+}
@@ -0,0 +1,189 @@
+package com.critical.catalogservice.benchmark;
+
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.specification.BookSpecifications;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.support.catalog.H2BookCatalog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a book search into its stages against a generated H2 catalog: composing the specifications, turning them into
+ * a criteria query, rendering the SQL, executing it and mapping the result. Each benchmark includes the stages
+ * before it, so the cost of a stage is the difference with the previous benchmark.
+ * <p>
+ * {@link #renderSql()} drives Hibernate's SQM and SQL AST translators directly, which is what
+ * {@code findAll(Specification)} does on every call because criteria query plans are not cached.
+ * <p>
+ * The {@code readModel} model is the search the service runs, {@link BookSpecifications#searchReadModel}. The
+ * {@code join} model rebuilds the former search over the association tables from the same filters, for comparison
+ * only. H2 has no GIN indexes, so the read model's name filters scan {@code book_search} here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSearchBenchmark {
+
+    @Param({"100000"})
+    public int books;
+
+    @Param({"author", "genre-language", "author-genre-language", "price-series-promotion"})
+    public String filters;
+
+    @Param({"readModel", "join"})
+    public String model;
+
+    private H2BookCatalog catalog;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    private EntityManager entityManager;
+
+    private SimpleJpaRepository<Book, Integer> repository;
+
+    private String author;
+
+    private String genre;
+
+    private String language;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+
+        catalog = new H2BookCatalog("bookSearch", books, 42);
+        sessionFactory = catalog.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        entityManager = catalog.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Book.class, entityManager);
+        // ids are popularity ranks: a mid-list author, a common genre and the second most common language
+        author = catalog.getGenerator().authorName(50);
+        genre = catalog.getGenerator().genreName(3);
+        language = catalog.getGenerator().languageName(2);
+
+        // an empty result would only time the query of an index miss and an empty mapping
+        if (execute().isEmpty()) {
+            throw new IllegalStateException("No books match the " + filters + " filters on the " + model + " model");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        entityManager.close();
+        catalog.close();
+    }
+
+    @Benchmark
+    public Specification<Book> compose() {
+
+        return switch (filters) {
+            case "author" -> search(Optional.of(author), Optional.empty(), Optional.empty(),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+            case "genre-language" -> search(Optional.empty(), Optional.of(genre), Optional.of(language),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+            case "author-genre-language" -> search(Optional.of(author), Optional.of(genre), Optional.of(language),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+            case "price-series-promotion" -> search(Optional.empty(), Optional.empty(), Optional.empty(),
+                    Optional.of(true), Optional.of(10.0), Optional.of(12.0), Optional.of(true));
+            default -> throw new IllegalArgumentException("Unknown filters: " + filters);
+        };
+    }
+
+    @Benchmark
+    public CriteriaQuery<Book> buildCriteria() {
+
+        var spec = compose();
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(Book.class);
+        var root = query.from(Book.class);
+        query.select(root);
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        return query;
+    }
+
+    @Benchmark
+    public String renderSql() {
+
+        var statement = (SqmSelectStatement<?>) buildCriteria();
+        var parameterXref = DomainParameterXref.from(statement);
+        var parameterBindings = QueryParameterBindingsImpl.from(new ParameterMetadataImpl(parameterXref.getQueryParameters()), sessionFactory);
+        var sqlAst = sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+                .createSelectTranslator(statement, QueryOptions.NONE, parameterXref, parameterBindings,
+                        new LoadQueryInfluencers(sessionFactory), sessionFactory, false)
+                .translate()
+                .getSqlAst();
+        return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+                .buildSelectTranslator(sessionFactory, sqlAst)
+                .translate(null, QueryOptions.NONE)
+                .getSqlString();
+    }
+
+    @Benchmark
+    public List<Book> execute() {
+
+        entityManager.clear();
+        return repository.findAll(compose());
+    }
+
+    @Benchmark
+    public List<BookDto> executeAndMap() {
+
+        return BookMapper.MAPPER.mapBooksToBooksDto(execute());
+    }
+
+    private Specification<Book> search(Optional<String> author, Optional<String> genre, Optional<String> language,
+                                       Optional<Boolean> isSeries, Optional<Double> minPrice, Optional<Double> maxPrice, Optional<Boolean> promotionStatus) {
+
+        return switch (model) {
+            case "readModel" -> BookSpecifications.searchReadModel(author, Optional.empty(), genre, language,
+                    isSeries, minPrice, maxPrice, promotionStatus, Optional.empty());
+            case "join" -> joinSearch(author, genre, language, isSeries, minPrice, maxPrice, promotionStatus);
+            default -> throw new IllegalArgumentException("Unknown model: " + model);
+        };
+    }
+
+    private static Specification<Book> joinSearch(Optional<String> author, Optional<String> genre, Optional<String> language,
+                                                  Optional<Boolean> isSeries, Optional<Double> minPrice, Optional<Double> maxPrice, Optional<Boolean> promotionStatus) {
+
+        Specification<Book> spec = Specification.where(null);
+        if (author.isPresent()) {
+            spec = spec.and(BookSpecifications.hasAuthorEqualTo(author.get()));
+        }
+        if (genre.isPresent()) {
+            spec = spec.and(BookSpecifications.hasGenreEqualTo(genre.get()));
+        }
+        if (language.isPresent()) {
+            spec = spec.and(BookSpecifications.hasLanguageEqualTo(language.get()));
+        }
+        if (isSeries.isPresent()) {
+            spec = spec.and(BookSpecifications.hasBooleanProperty(isSeries.get(), "isSeries"));
+        }
+        if (minPrice.isPresent()) {
+            spec = spec.and(BookSpecifications.hasFloatPropertyGreaterThan(minPrice.get(), "price"));
+        }
+        if (maxPrice.isPresent()) {
+            spec = spec.and(BookSpecifications.hasFloatPropertyLessThan(maxPrice.get(), "price"));
+        }
+        if (promotionStatus.isPresent()) {
+            spec = spec.and(promotionStatus.get()
+                    ? BookSpecifications.hasFloatPropertyGreaterThan(1.0, "promotionalPrice")
+                    : BookSpecifications.hasFloatPropertyEqualTo(0.0, "promotionalPrice"));
+        }
+        return spec;
+    }
+}
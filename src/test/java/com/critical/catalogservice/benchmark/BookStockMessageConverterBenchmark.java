@@ -0,0 +1,53 @@
+package com.critical.catalogservice.benchmark;
+
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.service.rabbitMq.converter.BookStockMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encode/decode cost of the stock event in its JSON and binary forms.
+ * For the event below the JSON body is 29 bytes plus the type id header, the binary body 6 bytes with no header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookStockMessageConverterBenchmark {
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private BookStockMessageConverter producerConverter;
+
+    private BookStockMessageConverter consumerConverter;
+
+    private UpdateBookStockEvent event;
+
+    private Message encodedMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        var jsonConverter = new Jackson2JsonMessageConverter();
+        producerConverter = new BookStockMessageConverter(jsonConverter, "binary".equals(format));
+        consumerConverter = new BookStockMessageConverter(jsonConverter, false);
+        event = new UpdateBookStockEvent(123456, 250);
+        encodedMessage = producerConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encode() {
+
+        return producerConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decode() {
+
+        return consumerConverter.fromMessage(encodedMessage);
+    }
+}
@@ -0,0 +1,88 @@
+package com.critical.catalogservice.benchmark;
+
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.service.rabbitMq.converter.BookStockMessageConverter;
+import com.critical.catalogservice.support.catalog.H2BookCatalog;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of applying a stock change against a generated H2 catalog, the way {@code BookService.updateBookStock} does it:
+ * load the book in a fresh persistence context, change the stock and commit. {@link #consumeStockEvent()} adds the
+ * decoding of the update-book-stock message done by the listener. Books are visited round-robin so the benchmark
+ * does not measure a single hot row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookStockUpdateBenchmark {
+
+    @Param({"100000"})
+    public int books;
+
+    private H2BookCatalog catalog;
+
+    private EntityManager entityManager;
+
+    private SimpleJpaRepository<Book, Integer> repository;
+
+    private BookStockMessageConverter converter;
+
+    private int nextBookId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+
+        catalog = new H2BookCatalog("bookStockUpdate", books, 42);
+        entityManager = catalog.getEntityManagerFactory().createEntityManager();
+        repository = new SimpleJpaRepository<>(Book.class, entityManager);
+        converter = new BookStockMessageConverter(new Jackson2JsonMessageConverter(), false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        entityManager.close();
+        catalog.close();
+    }
+
+    @Benchmark
+    public Book updateStock() {
+
+        return updateStock(nextBookId(), 1);
+    }
+
+    @Benchmark
+    public Book consumeStockEvent() {
+
+        var message = converter.toMessage(new UpdateBookStockEvent(nextBookId(), 1), new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(UpdateBookStockEvent.class);
+        var event = (UpdateBookStockEvent) converter.fromMessage(message);
+        return updateStock(event.bookId, event.stock);
+    }
+
+    private Book updateStock(int bookId, int stock) {
+
+        entityManager.clear();
+        var transaction = entityManager.getTransaction();
+        transaction.begin();
+        var book = repository.findById(bookId).orElseThrow();
+        book.setStockAvailable(book.getStockAvailable() + stock);
+        var saved = repository.save(book);
+        transaction.commit();
+        return saved;
+    }
+
+    private int nextBookId() {
+
+        nextBookId = nextBookId % books + 1;
+        return nextBookId;
+    }
+}
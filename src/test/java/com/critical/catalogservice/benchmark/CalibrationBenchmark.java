@@ -0,0 +1,53 @@
+package com.critical.catalogservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed CPU and allocation work that does not depend on any code of the service. The performance gate uses the
+ * ratio between its current and baseline score as the speed of the host, and scales the other results by it
+ * before comparing, so a slower or busier machine is not reported as a regression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalibrationBenchmark {
+
+    private int[] numbers;
+
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        var random = new SplittableRandom(42);
+        numbers = random.ints(20_000).toArray();
+        keys = new String[2_000];
+        for (var index = 0; index < keys.length; index++) {
+            keys[index] = "key-" + random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public int[] sort() {
+
+        var copy = Arrays.copyOf(numbers, numbers.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Map<String, Integer> hash() {
+
+        var map = new HashMap<String, Integer>();
+        for (var index = 0; index < keys.length; index++) {
+            map.merge(keys[index], index, Integer::sum);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,39 @@
+package com.critical.catalogservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncConfigTests {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class, WebMvcAutoConfiguration.class))
+            .withUserConfiguration(AsyncConfig.class)
+            .withPropertyValues(
+                    "catalog.async.book-lookup.pool-size=2", "catalog.async.book-lookup.queue-capacity=10",
+                    "catalog.async.book-search.pool-size=2", "catalog.async.book-search.queue-capacity=10",
+                    "spring.task.execution.pool.max-size=32", "spring.task.execution.thread-name-prefix=mvc-async-");
+
+    @Test
+    public void givenBookExecutors_whenContextStarts_thenApplicationTaskExecutorStillBacksMvcAsync() {
+
+        contextRunner.run(context -> {
+            // Act
+            var applicationTaskExecutor = context.getBean("applicationTaskExecutor", ThreadPoolTaskExecutor.class);
+            var mvcExecutor = ReflectionTestUtils.getField(context.getBean(RequestMappingHandlerAdapter.class), "taskExecutor");
+
+            // Assert
+            assertEquals(32, applicationTaskExecutor.getMaxPoolSize());
+            assertEquals("mvc-async-", applicationTaskExecutor.getThreadNamePrefix());
+            assertSame(applicationTaskExecutor, context.getBean("taskExecutor"));
+            assertSame(applicationTaskExecutor, mvcExecutor);
+        });
+    }
+}
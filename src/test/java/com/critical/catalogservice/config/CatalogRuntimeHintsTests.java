@@ -0,0 +1,49 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.service.book.BookService;
+import com.critical.catalogservice.util.query.QueryCountInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CatalogRuntimeHintsTests {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+
+        hints = new RuntimeHints();
+        new CatalogRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void givenRegisteredHints_whenCheckingDtos_thenJacksonCanBindThem() throws Exception {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookDto.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(BookDto.class.getField("title")).test(hints));
+    }
+
+    @Test
+    public void givenRegisteredHints_whenCheckingMappers_thenEveryImplementationCanBeInstantiated() throws Exception {
+        // Assert
+        for (var mapper : CatalogRuntimeHints.MAPPERS) {
+            var implementation = Class.forName(mapper.getName() + "Impl");
+            assertTrue(RuntimeHintsPredicates.reflection().onConstructor(implementation.getConstructor()).test(hints), mapper.getSimpleName());
+        }
+    }
+
+    @Test
+    public void givenRegisteredHints_whenCheckingRuntimeLookups_thenInspectorJobsAndMigrationsAreCovered() throws Exception {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(QueryCountInspector.class.getConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(BookService.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V6__create_book_table.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("application.conf").test(hints));
+    }
+}
@@ -0,0 +1,85 @@
+package com.critical.catalogservice.config;
+
+import com.critical.catalogservice.swagger.OpenAPIConfig;
+import org.jobrunr.dashboard.JobRunrDashboardWebServer;
+import org.jobrunr.server.BackgroundJobServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DeferredStartupTests {
+
+    @Test
+    public void givenSpringdocAndCatalogBeans_whenPostProcessed_thenOnlyApiDocumentationIsLazy() {
+        // Arrange
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("springDocConfiguration", new RootBeanDefinition("org.springdoc.core.configuration.SpringDocConfiguration"));
+        beanFactory.registerBeanDefinition("asyncConfig", new RootBeanDefinition(AsyncConfig.class));
+
+        // Act
+        DeferredStartupConfig.lazyApiDocumentationPostProcessor().postProcessBeanFactory(beanFactory);
+
+        // Assert
+        assertTrue(beanFactory.getBeanDefinition("springDocConfiguration").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("asyncConfig").isLazyInit());
+    }
+
+    @Test
+    public void givenOpenApiBeanMethod_whenPostProcessed_thenOpenApiIsLazy() {
+        // Arrange
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.register(OpenAPIConfig.class);
+            context.addBeanFactoryPostProcessor(DeferredStartupConfig.lazyApiDocumentationPostProcessor());
+
+            // Act
+            context.refresh();
+
+            // Assert
+            assertTrue(context.getBeanFactory().getBeanDefinition("myOpenAPI").isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton("myOpenAPI"));
+        }
+    }
+
+    @Test
+    public void givenServiceAcceptsTraffic_whenReadinessChanges_thenJobRunrIsStartedInTheBackground() throws Exception {
+        // Arrange
+        var backgroundJobServer = mock(BackgroundJobServer.class);
+        var dashboardWebServer = mock(JobRunrDashboardWebServer.class);
+        var starter = new DeferredJobRunrStarter(backgroundJobServer, dashboardWebServer, Duration.ZERO);
+
+        // Act
+        starter.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        starter.getStarted().get(5, TimeUnit.SECONDS);
+        starter.destroy();
+
+        // Assert
+        verify(backgroundJobServer).start();
+        verify(dashboardWebServer).start();
+        verify(backgroundJobServer).stop();
+        verify(dashboardWebServer).stop();
+    }
+
+    @Test
+    public void givenServiceRefusesTraffic_whenReadinessChanges_thenJobRunrIsNotStarted() {
+        // Arrange
+        var backgroundJobServer = mock(BackgroundJobServer.class);
+        var starter = new DeferredJobRunrStarter(backgroundJobServer, null, Duration.ZERO);
+
+        // Act
+        starter.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        starter.destroy();
+
+        // Assert
+        assertNull(starter.getStarted());
+        verifyNoInteractions(backgroundJobServer);
+    }
+}
@@ -0,0 +1,156 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.BookService;
+import jakarta.persistence.EntityNotFoundException;
+import org.assertj.core.api.AssertionsForClassTypes;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BookAsyncControllerTests {
+
+    private BookService service;
+
+    private PlatformTransactionManager transactionManager;
+
+    private BookAsyncController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        service = mock(BookService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        controller = new BookAsyncController(this.service, this.transactionManager, Runnable::run, Runnable::run, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void givenBookId_whenBookExists_thenReturnBook() {
+        // Arrange
+        var bookId = 1;
+        var book = Instancio.create(BookDto.class);
+        when(this.service.getBookById(bookId)).thenReturn(book);
+        // Act
+        var result = this.controller.getBookById(bookId).join();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        AssertionsForClassTypes.assertThat(book).isEqualTo(result.getBody());
+    }
+
+    @Test
+    public void givenBookId_whenBookDotNotExists_thenReturnNotFound() {
+        // Arrange
+        var errorMessage = "Entity not found";
+        var bookId = 1;
+        when(this.service.getBookById(bookId)).thenThrow(new EntityNotFoundException(errorMessage));
+        // Act
+        var result = this.controller.getBookById(bookId).join();
+        // Assert
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals(errorMessage, response.description);
+    }
+
+    @Test
+    public void givenRequestForBooks_whenBooksExist_thenReturnsListOfBooks() {
+        // Arrange
+        var books = Instancio.ofList(BookDto.class).size(10).create();
+        when(this.service.getAllBooks()).thenReturn(books);
+        // Act
+        var result = this.controller.getAllBooks().join();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertThat(books).hasSameElementsAs((Iterable<BookDto>) result.getBody());
+    }
+
+    @Test
+    public void givenSearchRequest_whenBooksExist_thenReturnsListOfBooks() {
+        // Arrange
+        var books = Instancio.ofList(BookDto.class).size(3).create();
+        when(this.service.searchBooks(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(books);
+        // Act
+        var result = this.controller.searchBooks(Optional.of("author"), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()).join();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertThat(books).hasSameElementsAs((Iterable<BookDto>) result.getBody());
+    }
+
+    @Test
+    public void givenSlowSearch_whenTimeoutElapses_thenReturnServiceUnavailable() throws InterruptedException {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        this.controller = new BookAsyncController(this.service, this.transactionManager, Runnable::run, executor, Duration.ofSeconds(1), Duration.ofMillis(50));
+        when(this.service.getAllBooks()).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+        // Act
+        var result = this.controller.getAllBooks().join();
+        release.countDown();
+        executor.shutdown();
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals("Book read timed out", response.description);
+    }
+
+    @Test
+    public void givenSaturatedExecutor_whenRequestingBook_thenReturnServiceUnavailable() {
+        // Arrange
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException("Queue full");
+        };
+        this.controller = new BookAsyncController(this.service, this.transactionManager, rejectingExecutor, Runnable::run, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        // Act
+        var result = this.controller.getBookById(1).join();
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        verify(this.service, times(0)).getBookById(anyInt());
+    }
+
+    @Test
+    public void givenBookSearch_whenRunning_thenReadOnlyTransactionLimitedToTheTimeout() {
+        // Arrange
+        this.controller = new BookAsyncController(this.service, this.transactionManager, Runnable::run, Runnable::run, Duration.ofSeconds(1), Duration.ofMillis(2500));
+        // Act
+        this.controller.getAllBooks().join();
+        // Assert
+        var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(this.transactionManager).getTransaction(definition.capture());
+        Assertions.assertTrue(definition.getValue().isReadOnly());
+        Assertions.assertEquals(3, definition.getValue().getTimeout());
+    }
+
+    @Test
+    public void givenQueuedRead_whenRequestTimedOut_thenReadSkipped() throws InterruptedException {
+        // Arrange
+        var queued = new ArrayList<Runnable>();
+        this.controller = new BookAsyncController(this.service, this.transactionManager, queued::add, Runnable::run, Duration.ofMillis(10), Duration.ofSeconds(1));
+        var result = this.controller.getBookById(1).join();
+        // Act
+        queued.forEach(Runnable::run);
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        verify(this.service, times(0)).getBookById(anyInt());
+    }
+}
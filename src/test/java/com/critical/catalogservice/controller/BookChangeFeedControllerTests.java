@@ -0,0 +1,50 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.book.BookChangeFeedDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.book.changes.BookChangeFeedService;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.mockito.Mockito.*;
+
+public class BookChangeFeedControllerTests {
+
+    private BookChangeFeedService service;
+
+    private BookChangeFeedController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        service = mock(BookChangeFeedService.class);
+        controller = new BookChangeFeedController(this.service);
+    }
+
+    @Test
+    public void givenCursor_whenChangesExist_thenReturnFeedPage() {
+        // Arrange
+        var feed = Instancio.create(BookChangeFeedDto.class);
+        when(this.service.getChanges("cursor", 10)).thenReturn(feed);
+        // Act
+        var result = this.controller.getChanges("cursor", 10);
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(feed, result.getBody());
+    }
+
+    @Test
+    public void givenInvalidCursor_whenReadingChanges_thenReturnBadRequest() {
+        // Arrange
+        when(this.service.getChanges("invalid", null)).thenThrow(new IllegalArgumentException("Invalid change feed cursor: invalid"));
+        // Act
+        var result = this.controller.getChanges("invalid", null);
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals("Invalid change feed cursor: invalid", response.description);
+    }
+}
@@ -0,0 +1,39 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.service.book.export.BookExportFormat;
+import com.critical.catalogservice.service.book.export.BookExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class BookExportControllerTests {
+
+    private BookExportService service;
+
+    private BookExportController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        service = mock(BookExportService.class);
+        controller = new BookExportController(this.service);
+    }
+
+    @Test
+    public void givenCsvFormat_whenExportingBooks_thenStreamsGzipAttachment() throws IOException {
+        // Arrange
+        var response = new MockHttpServletResponse();
+        // Act
+        this.controller.exportBooks(BookExportFormat.CSV, response);
+        // Assert
+        assertThat(response.getContentType()).isEqualTo("application/gzip");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"books.csv.gz\"");
+        verify(this.service, times(1)).exportBooks(BookExportFormat.CSV, response.getOutputStream());
+    }
+}
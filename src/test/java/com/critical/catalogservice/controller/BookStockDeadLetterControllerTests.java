@@ -0,0 +1,69 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import com.critical.catalogservice.service.rabbitMq.BookStockDeadLetterService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.http.HttpStatus;
+
+import static org.mockito.Mockito.*;
+
+public class BookStockDeadLetterControllerTests {
+
+    private BookStockDeadLetterService service;
+
+    private BookStockDeadLetterController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        service = mock(BookStockDeadLetterService.class);
+        controller = new BookStockDeadLetterController(this.service);
+    }
+
+    @Test
+    public void givenParkedMessages_whenCounting_thenReturnsCount() {
+        // Arrange
+        when(this.service.countParkedMessages()).thenReturn(5L);
+        // Act
+        var result = this.controller.countParkedMessages();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(5L, result.getBody());
+    }
+
+    @Test
+    public void givenParkedMessages_whenReplaying_thenReturnsReplayedCount() {
+        // Arrange
+        when(this.service.replayParkedMessages(10)).thenReturn(3);
+        // Act
+        var result = this.controller.replayParkedMessages(10);
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(3, result.getBody());
+    }
+
+    @Test
+    public void givenInvalidLimit_whenReplaying_thenReturnsBadRequest() {
+        // Act
+        var result = this.controller.replayParkedMessages(0);
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verify(this.service, times(0)).replayParkedMessages(anyInt());
+    }
+
+    @Test
+    public void givenBrokerUnavailable_whenReplaying_thenReturnsServiceUnavailable() {
+        // Arrange
+        var errorMessage = "Broker not available";
+        when(this.service.replayParkedMessages(10)).thenThrow(new AmqpConnectException(errorMessage, null));
+        // Act
+        var result = this.controller.replayParkedMessages(10);
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals(errorMessage, response.description);
+    }
+}
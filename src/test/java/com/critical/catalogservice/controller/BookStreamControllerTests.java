@@ -0,0 +1,63 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.service.book.stream.BookUpdateBroadcaster;
+import com.critical.catalogservice.service.book.stream.BookUpdateSubscription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BookStreamControllerTests {
+
+    private BookUpdateBroadcaster broadcaster;
+
+    private BookStreamController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        broadcaster = mock(BookUpdateBroadcaster.class);
+        controller = new BookStreamController(this.broadcaster, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenBookIds_whenStreaming_thenReturnEmitter() {
+        // Arrange
+        when(this.broadcaster.subscribe(eq(Set.of(1, 2)), any())).thenReturn(Optional.of(mock(BookUpdateSubscription.class)));
+        // Act
+        var result = this.controller.streamBooks(Set.of(1, 2));
+        // Assert
+        Assertions.assertEquals(60_000L, result.getTimeout());
+        verify(this.broadcaster).subscribe(eq(Set.of(1, 2)), any());
+    }
+
+    @Test
+    public void givenTooManyBookIds_whenStreaming_thenReturnBadRequest() {
+        // Arrange
+        when(this.broadcaster.subscribe(any(), any())).thenThrow(new IllegalArgumentException("Subscribe to between 1 and 100 books"));
+        // Act
+        var result = Assertions.assertThrows(ResponseStatusException.class, () -> this.controller.streamBooks(Set.of(1)));
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        Assertions.assertEquals("Subscribe to between 1 and 100 books", result.getReason());
+    }
+
+    @Test
+    public void givenSubscriberLimitReached_whenStreaming_thenReturnServiceUnavailable() {
+        // Arrange
+        when(this.broadcaster.subscribe(any(), any())).thenReturn(Optional.empty());
+        // Act
+        var result = Assertions.assertThrows(ResponseStatusException.class, () -> this.controller.streamBooks(Set.of(1)));
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+    }
+}
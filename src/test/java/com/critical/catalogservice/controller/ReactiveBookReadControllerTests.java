@@ -0,0 +1,64 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.data.reactive.ReactiveBookReadRepository;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+
+public class ReactiveBookReadControllerTests {
+
+    private ReactiveBookReadRepository repository;
+
+    private ReactiveBookReadController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        repository = mock(ReactiveBookReadRepository.class);
+        controller = new ReactiveBookReadController(this.repository);
+    }
+
+    @Test
+    public void givenRequestForBooks_whenBooksExist_thenStreamsBooks() {
+        // Arrange
+        var books = Instancio.ofList(BookDto.class).size(3).create();
+        when(this.repository.findAll()).thenReturn(Flux.fromIterable(books));
+        // Act & Assert
+        StepVerifier.create(this.controller.streamAllBooks())
+                .expectNextSequence(books)
+                .verifyComplete();
+    }
+
+    @Test
+    public void givenBookId_whenBookExists_thenReturnBook() {
+        // Arrange
+        var book = Instancio.create(BookDto.class);
+        when(this.repository.findById(1)).thenReturn(Mono.just(book));
+        // Act
+        var result = this.controller.getBookById(1).block();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(book, result.getBody());
+    }
+
+    @Test
+    public void givenBookId_whenBookDotNotExists_thenReturnNotFound() {
+        // Arrange
+        when(this.repository.findById(1)).thenReturn(Mono.empty());
+        // Act
+        var result = this.controller.getBookById(1).block();
+        // Assert
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals("Book not found with the Id: 1", response.description);
+    }
+}
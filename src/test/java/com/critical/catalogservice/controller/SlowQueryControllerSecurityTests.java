@@ -0,0 +1,49 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.config.OAuth2ResourceServer;
+import com.critical.catalogservice.util.query.SlowQueryRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SlowQueryController.class)
+@Import(OAuth2ResourceServer.class)
+public class SlowQueryControllerSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SlowQueryRecorder recorder;
+
+    @Test
+    public void givenTokenWithoutAdminScope_whenAccessingSlowQueries_thenForbidden() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/admin/slow-queries").with(jwt())).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/v1/api/admin/slow-queries").with(jwt())).andExpect(status().isForbidden());
+        verify(recorder, never()).clear();
+    }
+
+    @Test
+    public void givenTokenWithAdminScope_whenAccessingSlowQueries_thenServed() throws Exception {
+        // Arrange
+        when(recorder.getRecentQueries()).thenReturn(List.of());
+        var admin = jwt().authorities(new SimpleGrantedAuthority(OAuth2ResourceServer.ADMIN_AUTHORITY));
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/admin/slow-queries").with(admin)).andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/api/admin/slow-queries").with(admin)).andExpect(status().isNoContent());
+        verify(recorder, times(1)).clear();
+    }
+}
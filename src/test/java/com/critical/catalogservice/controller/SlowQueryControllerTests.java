@@ -0,0 +1,48 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.util.query.SlowQuery;
+import com.critical.catalogservice.util.query.SlowQueryRecorder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class SlowQueryControllerTests {
+
+    private SlowQueryRecorder recorder;
+
+    private SlowQueryController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        recorder = mock(SlowQueryRecorder.class);
+        controller = new SlowQueryController(this.recorder);
+    }
+
+    @Test
+    public void givenRecordedQueries_whenGettingSlowQueries_thenReturnsQueries() {
+        // Arrange
+        var queries = List.of(new SlowQuery(Instant.now(), "select 1", "[]", 500));
+        when(this.recorder.getRecentQueries()).thenReturn(queries);
+        // Act
+        var result = this.controller.getSlowQueries();
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(queries, result.getBody());
+    }
+
+    @Test
+    public void givenRecordedQueries_whenClearing_thenClearsRecorder() {
+        // Act
+        var result = this.controller.clearSlowQueries();
+        // Assert
+        Assertions.assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+        verify(this.recorder, times(1)).clear();
+    }
+}
@@ -0,0 +1,70 @@
+package com.critical.catalogservice.controller;
+
+import com.critical.catalogservice.data.snapshot.CatalogSnapshot;
+import com.critical.catalogservice.data.snapshot.CatalogSnapshotLoader;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.dtos.error.ErrorResponse;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+public class SnapshotBookReadControllerTests {
+
+    private CatalogSnapshotLoader loader;
+
+    private CatalogSnapshot snapshot;
+
+    private SnapshotBookReadController controller;
+
+    @BeforeEach
+    void setUp() {
+
+        loader = mock(CatalogSnapshotLoader.class);
+        snapshot = mock(CatalogSnapshot.class);
+        when(this.snapshot.getCreatedAt()).thenReturn(Instant.EPOCH);
+        when(this.loader.getSnapshot()).thenReturn(Optional.of(this.snapshot));
+        controller = new SnapshotBookReadController(this.loader);
+    }
+
+    @Test
+    public void givenBookId_whenBookExists_thenReturnBook() {
+        // Arrange
+        var book = Instancio.create(BookDto.class);
+        when(this.snapshot.findById(1)).thenReturn(Optional.of(book));
+        // Act
+        var result = this.controller.getBookById(1);
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals(book, result.getBody());
+        Assertions.assertEquals("1970-01-01T00:00:00Z", result.getHeaders().getFirst(SnapshotBookReadController.SNAPSHOT_CREATED_AT));
+    }
+
+    @Test
+    public void givenIsbn_whenBookDotNotExists_thenReturnNotFound() {
+        // Arrange
+        when(this.snapshot.findByIsbn("isbn")).thenReturn(Optional.empty());
+        // Act
+        var result = this.controller.getBookByISBN("isbn");
+        // Assert
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        var response = (ErrorResponse) result.getBody();
+        Assertions.assertEquals("Book not found with the ISBN: isbn", response.description);
+    }
+
+    @Test
+    public void givenNoSnapshot_whenReading_thenReturnServiceUnavailable() {
+        // Arrange
+        when(this.loader.getSnapshot()).thenReturn(Optional.empty());
+        // Act
+        var result = this.controller.getBookById(1);
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+    }
+}
@@ -0,0 +1,137 @@
+package com.critical.catalogservice.data.reactive;
+
+import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.h2.tools.RunScript;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveBookReadRepositoryTests {
+
+    private static final String[] SCRIPTS = {"V1__create_author_table.sql", "V2__create_publisher_table.sql", "V3__create_bookformat_table.sql",
+            "V4__create_genre_table.sql", "V5__create_language_table.sql", "V6__create_book_table.sql", "V7__create_tag_table.sql",
+            "V8__create_relations_tables.sql"};
+
+    private static Connection connection;
+
+    private ReactiveBookReadRepository repository;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:reactiveRead;DB_CLOSE_DELAY=-1", "sa", "");
+        for (var script : SCRIPTS) {
+            try (var reader = new InputStreamReader(new ClassPathResource("db/h2migration/" + script).getInputStream(), StandardCharsets.UTF_8)) {
+                RunScript.execute(connection, reader);
+            }
+        }
+        execute("INSERT INTO publisher (Name) VALUES ('Penguin')");
+        execute("INSERT INTO author (Name, Original_Name, Date_Of_Birth, Place_Of_Birth) VALUES ('Author One', 'Author One', DATE '1950-01-01', 'Lisbon')");
+        execute("INSERT INTO tag (Name) VALUES ('classic')");
+        execute("INSERT INTO tag (Name) VALUES ('award')");
+        for (var id = 1; id <= 3; id++) {
+            execute("INSERT INTO book (Title, Original_Title, ISBN, Edition, Release_Date, Edition_Date, Price, Promotional_Price, Is_Series, "
+                    + "Availability, Synopsis, Stock_Available, Created_On, Publisher_Id) VALUES ('Title " + id + "', 'Original " + id + "', 'ISBN-" + id
+                    + "', '1st', DATE '2020-01-01', DATE '2020-02-01', 10.50, 0, false, 3, 'Synopsis', " + (id - 1) + ", TIMESTAMP '2024-01-01 10:00:00', 1)");
+        }
+        execute("INSERT INTO bookauthor (Book_Id, Author_Id) VALUES (1, 1)");
+        execute("INSERT INTO booktag (Book_Id, Tag_Id) VALUES (1, 1)");
+        execute("INSERT INTO booktag (Book_Id, Tag_Id) VALUES (1, 2)");
+        execute("INSERT INTO booktag (Book_Id, Tag_Id) VALUES (3, 2)");
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        var databaseClient = DatabaseClient.create(ConnectionFactories.get("r2dbc:h2:mem://sa@/reactiveRead?DB_CLOSE_DELAY=-1"));
+        repository = new ReactiveBookReadRepository(databaseClient, 2);
+    }
+
+    @Test
+    public void givenBooks_whenStreamingAll_thenEmitsBooksInIdOrderWithAssociations() {
+        // Act & Assert
+        StepVerifier.create(repository.findAll())
+                .assertNext(book -> {
+                    assertThat(book.id).isEqualTo(1);
+                    assertThat(book.availability).isEqualTo(BookAvailabilityDto.AVAILABLE);
+                    assertThat(book.price).isEqualTo(10.5f);
+                    assertThat(book.publisher.name).isEqualTo("Penguin");
+                    assertThat(book.authors).extracting(author -> author.name).containsExactly("Author One");
+                    assertThat(book.tags).extracting(tag -> tag.name).containsExactly("classic", "award");
+                })
+                .assertNext(book -> {
+                    assertThat(book.id).isEqualTo(2);
+                    assertThat(book.tags).isEmpty();
+                })
+                .assertNext(book -> {
+                    assertThat(book.id).isEqualTo(3);
+                    assertThat(book.tags).extracting(tag -> tag.name).containsExactly("award");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void givenBooks_whenStreamingAvailable_thenSkipsBooksWithoutStock() {
+        // Act & Assert
+        StepVerifier.create(repository.findAllAvailable().map(book -> book.id))
+                .expectNext(2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void givenBookId_whenBookExists_thenReturnBook() {
+        // Act & Assert
+        StepVerifier.create(repository.findById(1))
+                .assertNext(book -> assertThat(book.title).isEqualTo("Title 1"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void givenBookId_whenBookDoesNotExist_thenReturnEmpty() {
+        // Act & Assert
+        StepVerifier.create(repository.findById(99)).verifyComplete();
+    }
+
+    @Test
+    public void givenSingleConnectionPool_whenStreamsRunConcurrently_thenEveryStreamCompletes() {
+        // Arrange
+        var pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get("r2dbc:h2:mem://sa@/reactiveRead?DB_CLOSE_DELAY=-1"))
+                .initialSize(1)
+                .maxSize(1)
+                .maxAcquireTime(Duration.ofSeconds(2))
+                .build());
+        var pooledRepository = new ReactiveBookReadRepository(DatabaseClient.create(pool), 2);
+        try {
+            // Act & Assert
+            StepVerifier.create(Flux.merge(pooledRepository.findAll(), pooledRepository.findAll(), pooledRepository.findAllAvailable(),
+                            pooledRepository.findById(3).flux()).count())
+                    .expectNext(9L)
+                    .verifyComplete();
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
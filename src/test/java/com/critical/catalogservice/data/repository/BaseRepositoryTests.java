@@ -5,7 +5,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.jdbc.Sql;
 
-@Sql({"/db/h2migration/V1__create_author_table.sql", "/db/h2migration/V6__create_book_table.sql", "/db/h2migration/V3__create_bookformat_table.sql", "/db/h2migration/V4__create_genre_table.sql", "/db/h2migration/V5__create_language_table.sql", "/db/h2migration/V2__create_publisher_table.sql", "/db/h2migration/V7__create_tag_table.sql", "/db/h2migration/V8__create_relations_tables.sql"
+@Sql({"/db/h2migration/V1__create_author_table.sql", "/db/h2migration/V6__create_book_table.sql", "/db/h2migration/V3__create_bookformat_table.sql", "/db/h2migration/V4__create_genre_table.sql", "/db/h2migration/V5__create_language_table.sql", "/db/h2migration/V2__create_publisher_table.sql", "/db/h2migration/V7__create_tag_table.sql", "/db/h2migration/V8__create_relations_tables.sql", "/db/h2migration/V9__create_book_search_table.sql", "/db/h2migration/V10__create_search_and_join_indexes.sql", "/db/h2migration/V11__create_book_change_feed.sql", "/db/h2migration/V12__drop_write_heavy_book_indexes.sql"
         })
 @DataJpaTest
 public class BaseRepositoryTests {
@@ -1,10 +1,13 @@
 package com.critical.catalogservice.data.repository;
 
 import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.util.query.QueryCountExtension;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -12,6 +15,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class BookRepositoryTests extends BaseRepositoryTests{
 
+    @RegisterExtension
+    final QueryCountExtension queries = new QueryCountExtension();
+
     @Autowired
     private BookRepository repository;
 
@@ -46,6 +52,23 @@ public class BookRepositoryTests extends BaseRepositoryTests{
         assertThat(books.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("JUnit test for statements executed when mapping the Book List")
+    public void givenBookList_whenFindAllAndMap_thenExecutesExpectedStatements() {
+        // Arrange
+        repository.save(Instancio.create(Book.class));
+        repository.save(Instancio.create(Book.class));
+        entityManager.flush();
+        entityManager.clear();
+        queries.reset();
+        // Act
+        var books = BookMapper.MAPPER.mapBooksToBooksDto(repository.findAll());
+        // Assert
+        assertThat(books.size()).isEqualTo(2);
+        // one select for the books, one per publisher and one per lazy collection of each book
+        queries.assertCount(13);
+    }
+
     @Test
     @DisplayName("JUnit test for get Book By Id")
     public void givenBookObject_whenFindById_thenReturnBookObject() {
@@ -0,0 +1,110 @@
+package com.critical.catalogservice.data.repository;
+
+import com.critical.catalogservice.data.entity.Author;
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.specification.BookSpecifications;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+
+public class BookSearchRepositoryTests extends BaseRepositoryTests {
+
+    @Autowired
+    private BookSearchRepository repository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Book matching;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange, seeded so the generated reference ids never collide within the two books
+        matching = bookRepository.save(Instancio.of(Book.class)
+                .set(field(Book::isSeries), true)
+                .set(field(Book::getPrice), 20f)
+                .set(field(Book::getPromotionalPrice), 15f)
+                .withSeed(42)
+                .create());
+        var other = bookRepository.save(Instancio.of(Book.class).set(field(Book::isSeries), false).withSeed(7).create());
+        repository.refreshBook(matching.getId());
+        repository.refreshBook(other.getId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("JUnit test for refresh Book search row")
+    public void givenSavedBook_whenRefreshBook_thenSearchRowHoldsNames() {
+        // Act
+        var row = repository.findById(matching.getId());
+        // Assert
+        assertThat(row).isPresent();
+        assertThat(row.get().getAuthorNames()).containsExactlyInAnyOrderElementsOf(
+                matching.getAuthors().stream().map(Author::getName).toList());
+        assertThat(row.get().getGenreNames()).hasSize(matching.getGenres().size());
+        assertThat(row.get().getPrice()).isEqualTo(20f);
+        assertThat(row.get().isSeries()).isTrue();
+    }
+
+    @Test
+    @DisplayName("JUnit test for search Books by every filter on the read model")
+    public void givenBookList_whenSearchingReadModelWithAllFilters_thenReturnsMatchingBook() {
+        // Arrange
+        var spec = BookSpecifications.searchReadModel(Optional.of(matching.getAuthors().get(0).getName()), Optional.of(matching.getTags().get(0).getName()),
+                Optional.of(matching.getGenres().get(0).getName()), Optional.of(matching.getLanguages().get(0).getName()), Optional.of(true),
+                Optional.of(10.0), Optional.of(30.0), Optional.of(true), Optional.of(matching.getAvailability().ordinal()));
+        // Act
+        var books = bookRepository.findAll(spec);
+        // Assert
+        assertThat(books).extracting(Book::getId).containsExactly(matching.getId());
+    }
+
+    @Test
+    @DisplayName("JUnit test for refresh author names after a rename")
+    public void givenRenamedAuthor_whenRefreshAuthorNames_thenSearchFindsNewName() {
+        // Arrange
+        var author = entityManager.find(Author.class, matching.getAuthors().get(0).getId());
+        author.setName("Renamed Author");
+        // Act
+        var updated = repository.refreshAuthorNames(author.getId());
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        var spec = BookSpecifications.searchReadModel(Optional.of("Renamed Author"), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        assertThat(bookRepository.findAll(spec)).extracting(Book::getId).containsExactly(matching.getId());
+    }
+
+    @Test
+    @DisplayName("JUnit test for search Books by a name holding quotes on the read model")
+    public void givenAuthorNameWithQuotes_whenSearchingReadModel_thenMatchesTheNameOnly() {
+        // Arrange
+        var author = entityManager.find(Author.class, matching.getAuthors().get(0).getId());
+        author.setName("O'Brien') or (1=1");
+        repository.refreshAuthorNames(author.getId());
+        // Act
+        var books = bookRepository.findAll(BookSpecifications.searchReadModel(Optional.of("O'Brien') or (1=1"), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+        var none = bookRepository.findAll(BookSpecifications.searchReadModel(Optional.of("O'Brien"), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+        // Assert
+        assertThat(books).extracting(Book::getId).containsExactly(matching.getId());
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for remove Book search row")
+    public void givenSearchRow_whenRemoveBook_thenRowIsDeleted() {
+        // Act
+        var removed = repository.removeBook(matching.getId());
+        // Assert
+        assertThat(removed).isEqualTo(1);
+        assertThat(repository.findById(matching.getId())).isEmpty();
+    }
+}
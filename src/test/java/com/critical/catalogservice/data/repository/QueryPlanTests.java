@@ -0,0 +1,187 @@
+package com.critical.catalogservice.data.repository;
+
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.data.specification.BookSpecifications;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.critical.catalogservice.support.catalog.H2BookCatalog;
+import com.critical.catalogservice.util.query.SlowQuery;
+import com.critical.catalogservice.util.query.SlowQueryRecorder;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every book search and repository query against a generated H2 catalog, captures the {@code EXPLAIN} of each
+ * select through the {@link SlowQueryRecorder} and fails when a large table is read with a table scan. The lookup
+ * tables hold a few hundred rows and may be scanned.
+ * <p>
+ * H2 has no GIN indexes, so the array containment filters of the read model and the infix synopsis search scan on
+ * H2 by design; on PostgreSQL they are served by the GIN indexes of the V9 and V10 migrations. The availability
+ * listing returns most of the catalog and scans on purpose, see the V12 migration.
+ */
+public class QueryPlanTests {
+
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "BOOK", "BOOKAUTHOR", "BOOKTAG", "BOOKGENRE", "BOOKLANGUAGE", "BOOKFORMAT", "BOOKPUBLISHER", "BOOK_SEARCH", "BOOK_TOMBSTONE");
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+
+    private static SlowQueryRecorder recorder;
+
+    private static H2BookCatalog catalog;
+
+    private EntityManager entityManager;
+
+    private BookRepository repository;
+
+    @BeforeAll
+    static void setUpCatalog() throws Exception {
+
+        recorder = new SlowQueryRecorder(Duration.ZERO, 1000, true);
+        catalog = new H2BookCatalog("queryPlan", 20000, 42,
+                dataSource -> ProxyDataSourceBuilder.create(dataSource).listener(recorder).methodListener(recorder).proxyResultSet().build());
+        recorder.setExplainDataSource(catalog.getDataSource());
+        try (var connection = catalog.getDataSource().getConnection(); var statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void tearDownCatalog() throws Exception {
+
+        catalog.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        entityManager = catalog.getEntityManagerFactory().createEntityManager();
+        repository = new JpaRepositoryFactory(entityManager).getRepository(BookRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        entityManager.close();
+    }
+
+    @Test
+    public void givenEachSearchFilter_whenExplained_thenOnlyArrayFiltersScanTheReadModel() {
+        // Arrange
+        var generator = catalog.getGenerator();
+        var author = Optional.of(generator.authorName(50));
+        var tag = Optional.of(generator.tagName(7));
+        var genre = Optional.of(generator.genreName(3));
+        var language = Optional.of(generator.languageName(2));
+        var none = Optional.<String>empty();
+        // Act
+        var byPrice = explain(() -> {
+            repository.findAll(BookSpecifications.searchReadModel(none, none, none, none, Optional.empty(), Optional.of(40.0), Optional.of(45.0), Optional.empty(), Optional.empty()));
+            repository.findAll(BookSpecifications.searchReadModel(none, none, none, none, Optional.of(true), Optional.of(10.0), Optional.of(12.0), Optional.of(true), Optional.of(1)));
+        });
+        var byName = explain(() -> {
+            repository.findAll(BookSpecifications.searchReadModel(author, none, none, none, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            repository.findAll(BookSpecifications.searchReadModel(none, tag, none, none, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            repository.findAll(BookSpecifications.searchReadModel(none, none, genre, language, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            repository.findAll(BookSpecifications.searchReadModel(author, tag, genre, language, Optional.of(true), Optional.of(10.0), Optional.of(30.0), Optional.of(true), Optional.of(3)));
+        });
+        // Assert
+        assertNoLargeTableScan(byPrice);
+        assertNoLargeTableScan(byName, "BOOK_SEARCH");
+    }
+
+    @Test
+    public void givenRepositoryLookups_whenExplained_thenNoLargeTableIsScanned() {
+        // Arrange
+        var book = catalog.getGenerator().book(1234);
+        // Act
+        var plans = explain(() -> {
+            repository.findById(1234);
+            repository.findByIsbn(book.isbn);
+            repository.findByTitle(book.title);
+            repository.findByOriginalTitle(book.originalTitle);
+        });
+        // Assert
+        assertNoLargeTableScan(plans);
+    }
+
+    @Test
+    public void givenAvailabilityListing_whenExplained_thenOnlyTheBookTableIsScanned() {
+        // Act, four in five books are in stock, an index on the stock would not spare a single page
+        var plans = explain(() -> repository.findAllByAvailability());
+        // Assert
+        assertNoLargeTableScan(plans, "BOOK");
+    }
+
+    @Test
+    public void givenLoadedBook_whenMappingItsCollections_thenNoLargeTableIsScanned() {
+        // Act
+        var plans = explain(() -> BookMapper.MAPPER.mapBookToBookDto(entityManager.find(Book.class, 1234)));
+        // Assert
+        assertThat(plans).hasSizeGreaterThan(4);
+        assertNoLargeTableScan(plans);
+    }
+
+    @Test
+    public void givenChangeFeedPage_whenExplained_thenNoLargeTableIsScanned() {
+        // Arrange
+        var tombstones = new JpaRepositoryFactory(entityManager).getRepository(BookTombstoneRepository.class);
+        var changedOn = repository.findById(1234).orElseThrow().getUpdatedOn();
+        // Act
+        var plans = explain(() -> {
+            repository.findChangedAfter(changedOn, 1234, Instant.now(), Limit.of(101));
+            tombstones.findDeletedAfter(changedOn, 1234, Instant.now(), Limit.of(101));
+        });
+        // Assert
+        assertThat(plans).hasSize(2);
+        assertNoLargeTableScan(plans);
+    }
+
+    @Test
+    public void givenSynopsisSearch_whenExplained_thenOnlyTheBookTableIsScanned() {
+        // Act
+        var plans = explain(() -> repository.findBySynopsis("truth"));
+        // Assert
+        assertNoLargeTableScan(plans, "BOOK");
+    }
+
+    private List<SlowQuery> explain(Runnable queries) {
+
+        entityManager.clear();
+        recorder.clear();
+        queries.run();
+        return recorder.getRecentQueries().stream().filter(query -> null != query.plan).toList();
+    }
+
+    private static void assertNoLargeTableScan(List<SlowQuery> queries, String... allowed) {
+
+        assertThat(queries).isNotEmpty();
+        var scans = new ArrayList<String>();
+        for (var query : queries) {
+            var matcher = TABLE_SCAN.matcher(query.plan);
+            while (matcher.find()) {
+                var table = matcher.group(1);
+                if (LARGE_TABLES.contains(table) && !List.of(allowed).contains(table)) {
+                    scans.add(table + " in " + query.plan);
+                }
+            }
+        }
+        assertThat(scans).as("table scans over large tables").isEmpty();
+    }
+}
@@ -0,0 +1,158 @@
+package com.critical.catalogservice.data.repository;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import com.critical.catalogservice.data.entity.Author;
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.util.cache.SecondLevelCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every step commits, the second-level cache only sees committed changes.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTests extends BaseRepositoryTests {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookSearchRepository bookSearchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    private Statistics statistics;
+
+    private int bookId;
+
+    private int authorId;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange, the first read puts the authors and the collection into the cache
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var book = transaction.execute(status -> bookRepository.save(Instancio.of(Book.class).withSeed(11).create()));
+        bookId = book.getId();
+        authorId = book.getAuthors().get(0).getId();
+        authorNames();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("JUnit test for read Book authors from the second-level cache")
+    public void givenCachedBookAuthors_whenReadAgain_thenServedFromCache() {
+        // Act
+        var names = authorNames();
+        // Assert
+        assertThat(region("book-authors").getHitCount()).isEqualTo(1);
+        assertThat(region("book-authors").getMissCount()).isZero();
+        assertThat(region("author").getHitCount()).isEqualTo(names.size());
+        assertThat(region("author").getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit test for cached Author after a rename")
+    public void givenCachedAuthor_whenRenamed_thenNextReadSeesNewName() {
+        // Act
+        transaction.executeWithoutResult(status -> authorRepository.findById(authorId).orElseThrow().setName("Renamed Author"));
+        var names = authorNames();
+        // Assert
+        assertThat(names).contains("Renamed Author");
+        assertThat(region("author").getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit test for cached Book authors after an Author is added")
+    public void givenCachedBookAuthors_whenAuthorAdded_thenCollectionReloaded() {
+        // Arrange
+        var before = authorNames();
+        statistics.clear();
+        // Act
+        transaction.executeWithoutResult(status -> {
+            var author = authorRepository.save(new Author("Added Author", "Added Author", Date.valueOf("1970-01-01"), "Lisbon", null, null, null));
+            bookRepository.findById(bookId).orElseThrow().getAuthors().add(author);
+        });
+        var names = authorNames();
+        // Assert
+        assertThat(names).hasSize(before.size() + 1).contains("Added Author");
+        assertThat(region("book-authors").getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit test for cached references after a read model refresh")
+    public void givenCachedReferences_whenReadModelRefreshed_thenCacheKept() {
+        // Act
+        bookSearchRepository.refreshAuthorNames(authorId);
+        authorNames();
+        // Assert
+        assertThat(region("book-authors").getHitCount()).isEqualTo(1);
+        assertThat(region("book-authors").getMissCount()).isZero();
+        assertThat(region("author").getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit test for second-level cache hit ratio metrics")
+    public void givenCacheLookups_whenMetricsBound_thenHitRatioPublished() throws Exception {
+        // Arrange, the JCache statistics count every earlier test of the shared context
+        var server = ManagementFactory.getPlatformMBeanServer();
+        for (var name : server.queryNames(new ObjectName("javax.cache:type=CacheStatistics,*"), null)) {
+            server.invoke(name, "clear", null, null);
+        }
+        var regionFactory = (JCacheRegionFactory) entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        var registry = new SimpleMeterRegistry();
+        new SecondLevelCacheMetrics(regionFactory.getCacheManager()).bindTo(registry);
+        // Act
+        authorNames();
+        // Assert
+        assertThat(registry.get(MetricsConfig.CACHE_HIT_RATIO).tag("cache", "book-authors").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("cache", "book-authors", "result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("cache", "book-authors", "result", "miss").functionCounter().count()).isZero();
+        assertThat(registry.get(MetricsConfig.CACHE_HIT_RATIO).tag("cache", "format").gauge().value()).isNaN();
+    }
+
+    private List<String> authorNames() {
+
+        return transaction.execute(status -> bookRepository.findById(bookId).orElseThrow().getAuthors().stream().map(Author::getName).toList());
+    }
+
+    private CacheRegionStatistics region(String name) {
+
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+}
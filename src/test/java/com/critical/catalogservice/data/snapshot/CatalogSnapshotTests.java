@@ -0,0 +1,189 @@
+package com.critical.catalogservice.data.snapshot;
+
+import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.data.repository.BaseRepositoryTests;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.service.book.export.BookExportService;
+import com.critical.catalogservice.service.book.mapper.BookMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+public class CatalogSnapshotTests extends BaseRepositoryTests {
+
+    private static final int BOOKS = 25;
+
+    @Autowired
+    private BookRepository repository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    private final List<BookDto> books = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // Arrange, with book ids far above the stored ones and unsaved references, so every save inserts new rows
+        // whatever other tests committed
+        for (var i = 0; i < BOOKS; i++) {
+            var book = Instancio.of(Book.class)
+                    .set(field(Book::getId), 1_000_000 + i)
+                    .set(all(field(Author.class, "id"), field(Genre.class, "id"), field(Tag.class, "id"), field(Format.class, "id"),
+                            field(Language.class, "id"), field(Publisher.class, "id")), 0)
+                    .withSeed(200 + i)
+                    .create();
+            if (0 == i) {
+                book.setTitle("Título ünïcode 📚");
+            }
+            bookIds.add(repository.save(book).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        for (var id : bookIds) {
+            books.add(BookMapper.MAPPER.mapBookToBookDto(repository.findById(id).orElseThrow()));
+        }
+        testEntityManager.clear();
+        path = directory.resolve("catalog.snapshot");
+        var exportService = new BookExportService(repository, testEntityManager.getEntityManager(), new ObjectMapper(), 10);
+        try (var writer = new CatalogSnapshotWriter(path)) {
+            exportService.exportBooks(writer);
+            writer.publish();
+        }
+    }
+
+    @Test
+    @DisplayName("JUnit test for find Books by Id in the snapshot")
+    public void givenSnapshot_whenFindingById_thenReturnsBooksAsStored() throws IOException {
+        // Act
+        var snapshot = CatalogSnapshot.open(path);
+        // Assert
+        assertThat(snapshot.size()).isEqualTo(BOOKS);
+        for (var book : books) {
+            assertThat(snapshot.findById(book.id)).get()
+                    .usingRecursiveComparison()
+                    .withComparatorForType(Comparator.comparing((Instant instant) -> instant.truncatedTo(ChronoUnit.MICROS)), Instant.class)
+                    .isEqualTo(book);
+        }
+        assertThat(snapshot.findById(1)).isEmpty();
+        assertThat(snapshot.findById(Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for find Books by ISBN in the snapshot")
+    public void givenSnapshot_whenFindingByIsbn_thenReturnsBook() throws IOException {
+        // Act
+        var snapshot = CatalogSnapshot.open(path);
+        // Assert
+        for (var book : books) {
+            assertThat(snapshot.findByIsbn(book.isbn)).get().extracting(found -> found.id).isEqualTo(book.id);
+        }
+        assertThat(snapshot.findByIsbn("missing-isbn")).isEmpty();
+        assertThat(snapshot.findByIsbn("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for Book with missing values in the snapshot")
+    public void givenBookWithNulls_whenRead_thenNullsKept() throws IOException {
+        // Arrange
+        var book = books.get(0);
+        book.originalTitle = null;
+        book.releaseDate = null;
+        book.price = null;
+        book.availability = null;
+        book.updatedOn = null;
+        book.publisher = null;
+        book.tags = null;
+        book.authors.get(0).dateOfDeath = null;
+        var other = directory.resolve("nulls.snapshot");
+        try (var writer = new CatalogSnapshotWriter(other)) {
+            writer.write(book);
+            writer.publish();
+        }
+        // Act
+        var read = CatalogSnapshot.open(other).findById(book.id).orElseThrow();
+        // Assert
+        assertThat(read).usingRecursiveComparison()
+                .withComparatorForType(Comparator.comparing((Instant instant) -> instant.truncatedTo(ChronoUnit.MICROS)), Instant.class)
+                .isEqualTo(book);
+        assertThat(read.title).isEqualTo("Título ünïcode 📚");
+    }
+
+    @Test
+    public void givenBooksOutOfIdOrder_whenWriting_thenThrows() throws IOException {
+        // Arrange
+        try (var writer = new CatalogSnapshotWriter(directory.resolve("unordered.snapshot"))) {
+            writer.write(books.get(1));
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> writer.write(books.get(0)));
+        }
+    }
+
+    @Test
+    public void givenOtherFile_whenOpening_thenThrows() throws IOException {
+        // Arrange
+        var other = Files.write(directory.resolve("other.snapshot"), new byte[256]);
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CatalogSnapshot.open(other));
+        try (var files = Files.list(directory)) {
+            assertThat(files).noneMatch(file -> file.getFileName().toString().startsWith(".snapshot-"));
+        }
+    }
+
+    @Test
+    public void givenLoadedSnapshot_whenFileReplaced_thenReloaded() throws IOException {
+        // Arrange
+        var loader = new CatalogSnapshotLoader(path);
+        loader.reload();
+        var first = loader.getSnapshot().orElseThrow();
+        try (var writer = new CatalogSnapshotWriter(path)) {
+            writer.write(books.get(0));
+            writer.publish();
+        }
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().plusSeconds(60)));
+        // Act
+        loader.reload();
+        // Assert
+        assertThat(first.size()).isEqualTo(BOOKS);
+        assertThat(loader.getSnapshot()).get().extracting(CatalogSnapshot::size).isEqualTo(1);
+        assertThat(loader.getAgeSeconds()).isNotNaN();
+    }
+
+    @Test
+    public void givenMissingFile_whenLoading_thenNoSnapshot() {
+        // Arrange
+        var loader = new CatalogSnapshotLoader(directory.resolve("missing.snapshot"));
+        // Act
+        loader.reload();
+        // Assert
+        assertThat(loader.getSnapshot()).isEmpty();
+        assertThat(loader.getAgeSeconds()).isNaN();
+    }
+}
@@ -3,10 +3,12 @@ package com.critical.catalogservice.integration;
 import com.critical.catalogservice.dtos.*;
 import com.critical.catalogservice.dtos.book.BookDto;
 import com.critical.catalogservice.dtos.book.BookRequestDto;
+import com.critical.catalogservice.util.query.QueryCountExtension;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -30,6 +32,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 public class ControllerIntegrationTests {
 
+    @RegisterExtension
+    final QueryCountExtension queries = new QueryCountExtension();
+
     @Autowired
     private WebApplicationContext webApplicationContext;
 
@@ -58,9 +63,11 @@ public class ControllerIntegrationTests {
                 .andExpect(status().isOk());
 
         // Assert
+        queries.reset();
         var mvcResult = this.mockMvc.perform(get("/v1/api/publisher/1").accept(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andReturn();
+        queries.assertCount(1);
 
         var response = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), PublisherDto.class);
 
@@ -0,0 +1,170 @@
+package com.critical.catalogservice.loadtest;
+
+import com.critical.catalogservice.support.catalog.CatalogBulkLoader;
+import com.critical.catalogservice.support.catalog.CatalogGenerator;
+import com.critical.catalogservice.support.catalog.CatalogSize;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: boots the service on a random port over H2 with {@link LoadTestConfig}, seeds a generated
+ * catalog into the schema of the {@code db/h2migration} scripts and drives the mixed {@link CatalogWorkload} at a
+ * fixed arrival rate (open model), so a slow server shows up as latency instead of a lower request rate. Not part
+ * of the regular test run; use the loadtest profile:
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.books=200000 -Dloadtest.rate=300 -Dloadtest.duration=2m
+ * </pre>
+ * The per-operation report is printed and written as JSON to {@code loadtest.report}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "logging.level.com.critical.catalogservice=warn"
+})
+@Import(LoadTestConfig.class)
+public class CatalogLoadSimulation {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogLoadSimulation.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InProcessRabbitTemplate rabbitTemplate;
+
+    @Value("${catalog.queue.catalog.queue.update-book-stock-routing-key}")
+    private String stockRoutingKey;
+
+    @Value("${loadtest.books:100000}")
+    private int books;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.rate:200}")
+    private int rate;
+
+    @Value("${loadtest.warmup:15s}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:60s}")
+    private Duration duration;
+
+    @Value("${loadtest.threads:64}")
+    private int threads;
+
+    @Value("${loadtest.mix:}")
+    private String mix;
+
+    @Value("${loadtest.max-error-rate:0.01}")
+    private double maxErrorRate;
+
+    @Value("${loadtest.report:target/loadtest/catalog-load-report.json}")
+    private String reportPath;
+
+    @Test
+    public void givenSeededCatalog_whenMixedWorkloadRuns_thenReportsLatencyPerOperation() throws Exception {
+        // Arrange
+        var generator = new CatalogGenerator(CatalogSize.of(books), seed);
+        var started = System.nanoTime();
+        new CatalogBulkLoader(dataSource, 1000).load(generator);
+        logger.warn("Seeded " + books + " books in " + (System.nanoTime() - started) / 1_000_000 + "ms");
+
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var workload = new CatalogWorkload("http://localhost:" + port, client, generator, objectMapper, rabbitTemplate, stockRoutingKey,
+                LoadOperation.mix(mix), seed);
+
+        // Act
+        run(workload, warmup, new LoadReport());
+        var report = new LoadReport();
+        var elapsed = run(workload, duration, report);
+
+        // Assert
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("books", books);
+        summary.put("rate", rate);
+        summary.put("durationSeconds", elapsed.toMillis() / 1000d);
+        summary.put("threads", threads);
+        summary.put("operations", report.summary(elapsed));
+        var stockEvents = new LinkedHashMap<String, Object>();
+        stockEvents.put("published", rabbitTemplate.getPublished());
+        stockEvents.put("delivered", rabbitTemplate.getDelivered());
+        stockEvents.put("failed", rabbitTemplate.getFailed());
+        summary.put("messages", stockEvents);
+        LoadReport.write(Path.of(reportPath), summary);
+
+        System.out.println("Catalog load test: " + books + " books, " + rate + " req/s for " + elapsed.toSeconds() + "s");
+        System.out.print(report.format(elapsed));
+        System.out.println("Report written to " + Path.of(reportPath).toAbsolutePath());
+
+        assertTrue(report.totalCount() > 0, "No request was executed");
+        assertTrue(report.totalErrors() <= report.totalCount() * maxErrorRate,
+                "Error rate above " + maxErrorRate + ": " + report.totalErrors() + " of " + report.totalCount());
+    }
+
+    private Duration run(CatalogWorkload workload, Duration length, LoadReport report) throws InterruptedException {
+
+        var threadNumber = new AtomicInteger();
+        var workers = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "loadtest-" + threadNumber.incrementAndGet()));
+        var interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        var start = System.nanoTime();
+        var end = start + length.toNanos();
+        for (var intendedStart = start; intendedStart < end; intendedStart += interval) {
+            var wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            var request = workload.next();
+            var scheduled = intendedStart;
+            workers.execute(() -> execute(request, scheduled, report));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void execute(CatalogWorkload.Request request, long intendedStart, LoadReport report) {
+
+        LoadReport.Outcome outcome;
+        try {
+            outcome = request.execute();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            outcome = LoadReport.Outcome.ERROR;
+        } catch (Exception exception) {
+            logger.warn(request.operation() + " failed: " + exception.getMessage());
+            outcome = LoadReport.Outcome.ERROR;
+        }
+        report.record(request.operation(), intendedStart, System.nanoTime(), outcome);
+    }
+}
@@ -0,0 +1,279 @@
+package com.critical.catalogservice.loadtest;
+
+import com.critical.catalogservice.dtos.*;
+import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
+import com.critical.catalogservice.dtos.book.BookRequestDto;
+import com.critical.catalogservice.support.catalog.CatalogGenerator;
+import com.critical.catalogservice.support.catalog.ZipfDistribution;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Turns a seeded random stream into catalog requests. Requests are drawn by the single scheduler thread, so a
+ * given seed always produces the same sequence; they are executed on the worker threads. Lookups follow a Zipf
+ * popularity over the loaded books, searches pick a long-tail author that has loaded books and add random extra
+ * filters taken from one of that author's books so they find it and result sizes stay realistic, and creates use
+ * books the generator has not loaded yet.
+ */
+public class CatalogWorkload {
+
+    public interface Request {
+
+        LoadOperation operation();
+
+        LoadReport.Outcome execute() throws Exception;
+    }
+
+    private static final Duration STOCK_EVENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+
+    private final HttpClient client;
+
+    private final CatalogGenerator generator;
+
+    private final ObjectMapper objectMapper;
+
+    private final InProcessRabbitTemplate rabbitTemplate;
+
+    private final String stockRoutingKey;
+
+    private final SplittableRandom random;
+
+    private final ZipfDistribution popularity;
+
+    private final LoadOperation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final int[] tailAuthors;
+
+    private final int[] tailAuthorBooks;
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    public CatalogWorkload(String baseUrl, HttpClient client, CatalogGenerator generator, ObjectMapper objectMapper,
+                           InProcessRabbitTemplate rabbitTemplate, String stockRoutingKey, Map<LoadOperation, Integer> mix, long seed) {
+
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.generator = generator;
+        this.objectMapper = objectMapper;
+        this.rabbitTemplate = rabbitTemplate;
+        this.stockRoutingKey = stockRoutingKey;
+        this.random = new SplittableRandom(seed);
+        this.popularity = new ZipfDistribution(generator.getSize().books, 0.8);
+
+        var selected = new ArrayList<LoadOperation>();
+        var weights = new ArrayList<Integer>();
+        var total = 0;
+        for (var entry : mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                selected.add(entry.getKey());
+                weights.add(total);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("The workload mix has no operation with a positive weight");
+        }
+        this.operations = selected.toArray(new LoadOperation[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+
+        var size = generator.getSize();
+        var firstTailAuthor = Math.min(20, size.authors);
+        this.tailAuthorBooks = new int[size.authors + 1];
+        for (var bookId = 1; bookId <= size.books; bookId++) {
+            for (var authorId : generator.book(bookId).authorIds) {
+                if (authorId >= firstTailAuthor && tailAuthorBooks[authorId] == 0) {
+                    tailAuthorBooks[authorId] = bookId;
+                }
+            }
+        }
+        this.tailAuthors = IntStream.rangeClosed(firstTailAuthor, size.authors).filter(id -> tailAuthorBooks[id] != 0).toArray();
+    }
+
+    public Request next() {
+
+        var pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        var index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        return switch (operations[index]) {
+            case LOOKUP_BY_ID -> http(LoadOperation.LOOKUP_BY_ID, get("/v1/api/book/" + popularity.sample(random)));
+            case LOOKUP_BY_ISBN -> http(LoadOperation.LOOKUP_BY_ISBN, get("/v1/api/searchBookByIsbn/" + generator.book(popularity.sample(random)).isbn));
+            case SEARCH -> http(LoadOperation.SEARCH, get("/v1/api/searchBooks?" + searchQuery()));
+            case SELL -> http(LoadOperation.SELL, HttpRequest.newBuilder(URI.create(baseUrl + "/v1/api/book/" + sellableBook() + "/1"))
+                    .header("Authorization", "Bearer loadtest")
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build());
+            case STOCK_EVENT -> stockEvent(popularity.sample(random));
+            case CREATE -> http(LoadOperation.CREATE, HttpRequest.newBuilder(URI.create(baseUrl + "/v1/api/book"))
+                    .header("Authorization", "Bearer loadtest")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody()))
+                    .build());
+        };
+    }
+
+    private Request http(LoadOperation operation, HttpRequest request) {
+
+        return new Request() {
+            @Override
+            public LoadOperation operation() {
+                return operation;
+            }
+
+            @Override
+            public LoadReport.Outcome execute() throws IOException, InterruptedException {
+                var status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 404) {
+                    return LoadReport.Outcome.NOT_FOUND;
+                }
+                return status >= 200 && status < 300 ? LoadReport.Outcome.OK : LoadReport.Outcome.ERROR;
+            }
+        };
+    }
+
+    private Request stockEvent(int bookId) {
+
+        return new Request() {
+            @Override
+            public LoadOperation operation() {
+                return LoadOperation.STOCK_EVENT;
+            }
+
+            @Override
+            public LoadReport.Outcome execute() throws InterruptedException, ExecutionException, TimeoutException {
+                var confirm = rabbitTemplate.publishStockUpdate(stockRoutingKey, bookId, 5).getFuture()
+                        .get(STOCK_EVENT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                return confirm.isAck() ? LoadReport.Outcome.OK : LoadReport.Outcome.ERROR;
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer loadtest")
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private String searchQuery() {
+
+        var author = tailAuthors[random.nextInt(tailAuthors.length)];
+        var book = generator.book(tailAuthorBooks[author]);
+        var parameters = new ArrayList<String>();
+        parameters.add("author=" + encode(generator.authorName(author)));
+        if (random.nextInt(100) < 40) {
+            parameters.add("genre=" + encode(generator.genreName(book.genreIds[random.nextInt(book.genreIds.length)])));
+        }
+        if (random.nextInt(100) < 20) {
+            parameters.add("language=" + encode(generator.languageName(book.languageIds[random.nextInt(book.languageIds.length)])));
+        }
+        if (random.nextInt(100) < 30) {
+            var minPrice = Math.max(0, (int) book.price - random.nextInt(15));
+            parameters.add("minPrice=" + minPrice);
+            parameters.add("maxPrice=" + ((int) book.price + 1 + random.nextInt(15)));
+        }
+        if (random.nextInt(100) < 10) {
+            parameters.add("IsSeries=" + book.isSeries);
+        }
+        if (random.nextInt(100) < 15) {
+            parameters.add("availability=" + BookAvailabilityDto.values()[book.availability]);
+        }
+        return String.join("&", parameters);
+    }
+
+    private int sellableBook() {
+
+        var books = generator.getSize().books;
+        var id = 1 + random.nextInt(books);
+        for (var attempt = 0; attempt < 50 && generator.book(id).stockAvailable < 10; attempt++) {
+            id = 1 + random.nextInt(books);
+        }
+        return id;
+    }
+
+    private String createBody() {
+
+        var book = generator.book(generator.getSize().books + created.incrementAndGet());
+        var request = new BookRequestDto();
+        request.title = book.title;
+        request.originalTitle = book.originalTitle;
+        request.isbn = book.isbn;
+        request.edition = book.edition;
+        request.synopsis = book.synopsis.length() > 100 ? book.synopsis.substring(0, 100) : book.synopsis;
+        request.isSeries = book.isSeries;
+        request.availability = BookAvailabilityDto.values()[book.availability];
+        request.releaseDate = book.releaseDate;
+        request.editionDate = book.editionDate;
+        request.price = Math.max(1f, book.price);
+        request.promotionalPrice = book.promotionalPrice;
+        request.stockAvailable = book.stockAvailable;
+        request.authors = List.of(author(book.authorIds[0]));
+        request.languages = List.of(language(book.languageIds[0]));
+        var genre = new GenreDto();
+        genre.name = generator.genreName(book.genreIds[0]);
+        request.genres = List.of(genre);
+        var tag = new TagDto();
+        tag.name = generator.tagName(book.tagIds[0]);
+        request.tags = List.of(tag);
+        var format = new FormatDto();
+        format.name = generator.formatName(book.formatIds[0]);
+        request.formats = List.of(format);
+        var publisher = new PublisherDto();
+        publisher.name = generator.publisherName(book.publisherId);
+        request.publisher = publisher;
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private AuthorDto author(int id) {
+
+        var author = new AuthorDto();
+        author.name = generator.authorName(id);
+        author.originalName = author.name;
+        author.dateOfBirth = Date.valueOf("1950-01-01");
+        author.placeOfBirth = "Unknown";
+        return author;
+    }
+
+    private LanguageDto language(int id) {
+
+        var language = new LanguageDto();
+        language.name = generator.languageName(id);
+        language.culture = generator.languageCulture(id);
+        return language;
+    }
+
+    private static String encode(String value) {
+
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
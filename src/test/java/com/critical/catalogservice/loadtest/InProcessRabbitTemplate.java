@@ -0,0 +1,124 @@
+package com.critical.catalogservice.loadtest;
+
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.service.rabbitMq.UpdateBookStockListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Broker-less stand-in for the {@link RabbitTemplate}: outbound publishes are only counted, while messages sent to
+ * the update-book-stock exchange are handed to {@link UpdateBookStockListener} on a bounded pool of consumer threads,
+ * the way the listener container would deliver them. A full queue blocks the publisher, like broker flow control.
+ * The {@link CorrelationData} future of a publish completes once the listener has handled the message, so callers
+ * can measure the time from publish to applied stock update.
+ */
+public class InProcessRabbitTemplate extends RabbitTemplate {
+
+    private static final Logger logger = LoggerFactory.getLogger(InProcessRabbitTemplate.class);
+
+    private final String stockExchange;
+
+    private final String stockQueue;
+
+    private final ObjectProvider<UpdateBookStockListener> listener;
+
+    private final ExecutorService consumers;
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder delivered = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    public InProcessRabbitTemplate(ConnectionFactory connectionFactory, MessageConverter converter, String stockExchange, String stockQueue,
+                                   ObjectProvider<UpdateBookStockListener> listener, int consumerThreads, int queueCapacity) {
+
+        super(connectionFactory);
+        setMessageConverter(converter);
+        this.stockExchange = stockExchange;
+        this.stockQueue = stockQueue;
+        this.listener = listener;
+        var threadNumber = new AtomicInteger();
+        this.consumers = new ThreadPoolExecutor(consumerThreads, consumerThreads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "in-process-amqp-" + threadNumber.incrementAndGet()), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public CorrelationData publishStockUpdate(String routingKey, int bookId, int stock) {
+
+        var correlationData = new CorrelationData();
+        convertAndSend(stockExchange, routingKey, new UpdateBookStockEvent(bookId, stock), message -> {
+            message.getMessageProperties().setTimestamp(new Date());
+            return message;
+        }, correlationData);
+        return correlationData;
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+
+        published.increment();
+        if (!stockExchange.equals(exchange)) {
+            return;
+        }
+        consumers.execute(() -> deliver(message, correlationData));
+    }
+
+    private void deliver(Message message, CorrelationData correlationData) {
+
+        try {
+            message.getMessageProperties().setConsumerQueue(stockQueue);
+            message.getMessageProperties().setInferredArgumentType(UpdateBookStockEvent.class);
+            var event = (UpdateBookStockEvent) getMessageConverter().fromMessage(message);
+            listener.getObject().onUpdateBookStock(event, message);
+            delivered.increment();
+            complete(correlationData, true, null);
+        } catch (RuntimeException exception) {
+            failed.increment();
+            logger.warn("Update book stock delivery failed: " + exception.getMessage());
+            complete(correlationData, false, exception.getMessage());
+        }
+    }
+
+    private static void complete(CorrelationData correlationData, boolean ack, String reason) {
+
+        if (null != correlationData) {
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, reason));
+        }
+    }
+
+    public long getPublished() {
+
+        return published.sum();
+    }
+
+    public long getDelivered() {
+
+        return delivered.sum();
+    }
+
+    public long getFailed() {
+
+        return failed.sum();
+    }
+
+    @Override
+    public void destroy() {
+
+        consumers.shutdownNow();
+        super.destroy();
+    }
+}
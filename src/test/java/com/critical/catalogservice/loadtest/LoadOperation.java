@@ -0,0 +1,42 @@
+package com.critical.catalogservice.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Operations of the mixed workload, with their default share of the request rate. The mix can be overridden
+ * with {@code -Dloadtest.mix=LOOKUP_BY_ID:50,SEARCH:50}.
+ */
+public enum LoadOperation {
+    LOOKUP_BY_ID(35),
+    LOOKUP_BY_ISBN(15),
+    SEARCH(20),
+    SELL(10),
+    STOCK_EVENT(15),
+    CREATE(5);
+
+    private final int defaultWeight;
+
+    LoadOperation(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public static Map<LoadOperation, Integer> mix(String value) {
+
+        var weights = new EnumMap<LoadOperation, Integer>(LoadOperation.class);
+        if (null == value || value.isBlank()) {
+            for (var operation : values()) {
+                weights.put(operation, operation.defaultWeight);
+            }
+            return weights;
+        }
+        for (var entry : value.split(",")) {
+            var parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Workload mix entries must look like OPERATION:weight: " + entry);
+            }
+            weights.put(valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,136 @@
+package com.critical.catalogservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms and outcome counters of one load-test phase. Latencies are in microseconds
+ * and measured from the time a request was scheduled to start, so queueing behind a slow server is included.
+ */
+public class LoadReport {
+
+    public enum Outcome { OK, NOT_FOUND, ERROR }
+
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<LoadOperation, Histogram> latencies = new EnumMap<>(LoadOperation.class);
+
+    private final Map<LoadOperation, LongAdder> notFound = new EnumMap<>(LoadOperation.class);
+
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+    public LoadReport() {
+
+        for (var operation : LoadOperation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_LATENCY, 3));
+            notFound.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(LoadOperation operation, long intendedStartNanos, long endNanos, Outcome outcome) {
+
+        var micros = Math.min(HIGHEST_LATENCY, Math.max(0, (endNanos - intendedStartNanos) / 1_000));
+        latencies.get(operation).recordValue(micros);
+        if (outcome == Outcome.NOT_FOUND) {
+            notFound.get(operation).increment();
+        } else if (outcome == Outcome.ERROR) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public long count(LoadOperation operation) {
+
+        return latencies.get(operation).getTotalCount();
+    }
+
+    public long errors(LoadOperation operation) {
+
+        return errors.get(operation).sum();
+    }
+
+    public long totalCount() {
+
+        var total = 0L;
+        for (var histogram : latencies.values()) {
+            total += histogram.getTotalCount();
+        }
+        return total;
+    }
+
+    public long totalErrors() {
+
+        var total = 0L;
+        for (var counter : errors.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    public Map<String, Object> summary(Duration elapsed) {
+
+        var seconds = elapsed.toNanos() / 1e9;
+        var operations = new LinkedHashMap<String, Object>();
+        for (var operation : LoadOperation.values()) {
+            // A copy, requests still running when the workers timed out keep recording into the live histogram
+            var histogram = latencies.get(operation).copy();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            var values = new LinkedHashMap<String, Object>();
+            values.put("count", histogram.getTotalCount());
+            values.put("errors", errors.get(operation).sum());
+            values.put("notFound", notFound.get(operation).sum());
+            values.put("throughput", round(histogram.getTotalCount() / seconds));
+            values.put("meanMs", round(histogram.getMean() / 1_000));
+            values.put("p50Ms", millis(histogram, 50));
+            values.put("p90Ms", millis(histogram, 90));
+            values.put("p99Ms", millis(histogram, 99));
+            values.put("p999Ms", millis(histogram, 99.9));
+            values.put("maxMs", round(histogram.getMaxValue() / 1_000d));
+            operations.put(operation.name(), values);
+        }
+        return operations;
+    }
+
+    public String format(Duration elapsed) {
+
+        var builder = new StringBuilder(String.format("%-16s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "not-found", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        summary(elapsed).forEach((operation, summary) -> {
+            var values = (Map<?, ?>) summary;
+            builder.append(String.format("%-16s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n", operation, values.get("count"), values.get("errors"),
+                    values.get("notFound"), values.get("throughput"), values.get("p50Ms"), values.get("p90Ms"), values.get("p99Ms"),
+                    values.get("p999Ms"), values.get("maxMs")));
+        });
+        return builder.toString();
+    }
+
+    public static void write(Path path, Map<String, Object> report) throws IOException {
+
+        Files.createDirectories(path.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+
+        return round(histogram.getValueAtPercentile(percentile) / 1_000d);
+    }
+
+    private static double round(double value) {
+
+        return Math.round(value * 100) / 100d;
+    }
+}
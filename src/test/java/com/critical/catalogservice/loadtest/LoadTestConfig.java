@@ -0,0 +1,44 @@
+package com.critical.catalogservice.loadtest;
+
+import com.critical.catalogservice.service.rabbitMq.UpdateBookStockListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+/**
+ * Replaces the two external dependencies of the service for the load test: the identity provider, with a decoder
+ * that accepts any bearer token, and the broker, with {@link InProcessRabbitTemplate}.
+ */
+@TestConfiguration
+public class LoadTestConfig {
+
+    @Bean
+    public JwtDecoder loadTestJwtDecoder() {
+
+        return token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject("loadtest")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public InProcessRabbitTemplate inProcessRabbitTemplate(ConnectionFactory connectionFactory, MessageConverter converter,
+                                                           ObjectProvider<UpdateBookStockListener> listener,
+                                                           @Value("${catalog.queue.update-book-stock-exchange}") String stockExchange,
+                                                           @Value("${catalog.rabbitmq.queue-update-book-stock}") String stockQueue,
+                                                           @Value("${loadtest.consumers:4}") int consumers) {
+
+        return new InProcessRabbitTemplate(connectionFactory, converter, stockExchange, stockQueue, listener, consumers, 1000);
+    }
+}
@@ -0,0 +1,94 @@
+package com.critical.catalogservice.perf;
+
+import java.util.List;
+
+/**
+ * One compared metric of the performance gate: the baseline and current value, the relative change oriented so that
+ * a positive number is always worse, and the p-value of the significance test when samples were available.
+ */
+public class Comparison {
+
+    public enum Verdict {
+        OK(false),
+        IMPROVED(false),
+        NOISE(false),
+        NEW(false),
+        INSUFFICIENT(false),
+        REGRESSION(true),
+        MISSING(true);
+
+        public final boolean failing;
+
+        Verdict(boolean failing) {
+            this.failing = failing;
+        }
+    }
+
+    public final String name;
+
+    public final String metric;
+
+    public final String unit;
+
+    public final double baseline;
+
+    public final double current;
+
+    public final double change;
+
+    public final double pValue;
+
+    public final Verdict verdict;
+
+    public Comparison(String name, String metric, String unit, double baseline, double current, double change, double pValue, Verdict verdict) {
+
+        this.name = name;
+        this.metric = metric;
+        this.unit = unit;
+        this.baseline = baseline;
+        this.current = current;
+        this.change = change;
+        this.pValue = pValue;
+        this.verdict = verdict;
+    }
+
+    public static Comparison missing(String name, String metric, String unit, double baseline) {
+
+        return new Comparison(name, metric, unit, baseline, Double.NaN, Double.NaN, Double.NaN, Verdict.MISSING);
+    }
+
+    public static Comparison added(String name, String metric, String unit, double current) {
+
+        return new Comparison(name, metric, unit, Double.NaN, current, Double.NaN, Double.NaN, Verdict.NEW);
+    }
+
+    public static boolean failing(List<Comparison> comparisons) {
+
+        return comparisons.stream().anyMatch(comparison -> comparison.verdict.failing);
+    }
+
+    public static String format(String title, List<Comparison> comparisons) {
+
+        var width = Math.max(40, comparisons.stream().mapToInt(comparison -> comparison.name.length()).max().orElse(0));
+        var builder = new StringBuilder(title).append(System.lineSeparator());
+        builder.append(String.format("  %-" + width + "s %-12s %14s %14s %-10s %9s %8s  %s%n", "benchmark", "metric", "baseline", "current", "unit",
+                "change", "p-value", "verdict"));
+        for (var comparison : comparisons) {
+            builder.append(String.format("  %-" + width + "s %-12s %14s %14s %-10s %9s %8s  %s%n", comparison.name, comparison.metric,
+                    number(comparison.baseline), number(comparison.current), comparison.unit, percent(comparison.change),
+                    Double.isNaN(comparison.pValue) ? "-" : String.format("%.4f", comparison.pValue),
+                    comparison.verdict.failing ? "<< " + comparison.verdict : comparison.verdict));
+        }
+        return builder.toString();
+    }
+
+    private static String number(double value) {
+
+        return Double.isNaN(value) ? "-" : String.format("%.3f", value);
+    }
+
+    private static String percent(double value) {
+
+        return Double.isNaN(value) ? "-" : String.format("%+.1f%%", value * 100);
+    }
+}
@@ -0,0 +1,169 @@
+package com.critical.catalogservice.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.stat.inference.TTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Condenses a JMH JSON result ({@code -rf json}) into one {@link Score} per benchmark and parameter combination and
+ * compares two of them. A score is a regression when it is worse than the baseline by more than the tolerance and
+ * Welch's t-test over the measurement iterations of both runs rejects equal means at {@code alpha}; a change beyond
+ * the tolerance that is not significant is reported as noise. The normalized allocation rate of {@code -prof gc} is
+ * compared with its own tolerance, without a test, since it barely varies between iterations.
+ * <p>
+ * Run-to-run drift of the host is taken out with {@code CalibrationBenchmark}: the geometric mean of its current to
+ * baseline time ratios is the host factor, and current time scores are divided by it (throughput multiplied) before
+ * they are compared. Allocation is not scaled.
+ */
+public class JmhResults {
+
+    public static class Score {
+
+        public String mode;
+
+        public String unit;
+
+        public double score;
+
+        public double[] samples;
+
+        public double allocation = Double.NaN;
+    }
+
+    public static final String CALIBRATION = "CalibrationBenchmark.";
+
+    private static final double ALLOCATION_FLOOR = 16;
+
+    private JmhResults() {
+    }
+
+    public static Map<String, Score> condense(JsonNode results) {
+
+        var scores = new TreeMap<String, Score>();
+        for (var result : results) {
+            var benchmark = result.get("benchmark").asText();
+            var name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            if (result.has("params")) {
+                var params = new ArrayList<String>();
+                result.get("params").fields().forEachRemaining(param -> params.add(param.getKey() + "=" + param.getValue().asText()));
+                name.append(params);
+            }
+
+            var primary = result.get("primaryMetric");
+            var score = new Score();
+            score.mode = result.get("mode").asText();
+            score.unit = primary.get("scoreUnit").asText();
+            score.score = primary.get("score").asDouble();
+            var samples = new ArrayList<Double>();
+            for (var fork : primary.path("rawData")) {
+                for (var iteration : fork) {
+                    samples.add(iteration.asDouble());
+                }
+            }
+            score.samples = samples.stream().mapToDouble(Double::doubleValue).toArray();
+            for (Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields(); metrics.hasNext(); ) {
+                var metric = metrics.next();
+                if (metric.getKey().endsWith("gc.alloc.rate.norm")) {
+                    score.allocation = metric.getValue().get("score").asDouble();
+                }
+            }
+            scores.put(name.toString().replace(", ", ","), score);
+        }
+        return scores;
+    }
+
+    public static double hostFactor(Map<String, Score> baseline, Map<String, Score> current) {
+
+        var logSum = 0.0;
+        var count = 0;
+        for (var entry : baseline.entrySet()) {
+            var after = current.get(entry.getKey());
+            if (entry.getKey().startsWith(CALIBRATION) && null != after) {
+                logSum += Math.log(after.score / entry.getValue().score);
+                count++;
+            }
+        }
+        return count == 0 ? 1 : Math.exp(logSum / count);
+    }
+
+    public static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> current, double hostFactor, double tolerance,
+                                           double alpha, double allocationTolerance) {
+
+        var comparisons = new ArrayList<Comparison>();
+        var names = new LinkedHashSet<>(baseline.keySet());
+        names.addAll(current.keySet());
+        names.removeIf(name -> name.startsWith(CALIBRATION));
+        for (var name : names) {
+            var before = baseline.get(name);
+            var after = current.get(name);
+            if (null == after) {
+                comparisons.add(Comparison.missing(name, before.mode, before.unit, before.score));
+                continue;
+            }
+            if (null == before) {
+                comparisons.add(Comparison.added(name, after.mode, after.unit, after.score));
+                continue;
+            }
+            comparisons.add(compareScore(name, before, after, hostFactor, tolerance, alpha));
+            if (!Double.isNaN(before.allocation) && !Double.isNaN(after.allocation)) {
+                comparisons.add(compareAllocation(name, before.allocation, after.allocation, allocationTolerance));
+            }
+        }
+        return comparisons;
+    }
+
+    private static Comparison compareScore(String name, Score before, Score after, double hostFactor, double tolerance, double alpha) {
+
+        var higherIsBetter = "thrpt".equals(before.mode);
+        var scale = higherIsBetter ? hostFactor : 1 / hostFactor;
+        var score = after.score * scale;
+        var samples = null == after.samples ? null : Arrays.stream(after.samples).map(sample -> sample * scale).toArray();
+        var change = higherIsBetter ? (before.score - score) / before.score : (score - before.score) / before.score;
+        var pValue = welchPValue(before.samples, samples);
+        var significant = Double.isNaN(pValue) || pValue < alpha;
+
+        Comparison.Verdict verdict;
+        if (change > tolerance) {
+            verdict = significant ? Comparison.Verdict.REGRESSION : Comparison.Verdict.NOISE;
+        } else if (change < -tolerance && significant) {
+            verdict = Comparison.Verdict.IMPROVED;
+        } else {
+            verdict = Comparison.Verdict.OK;
+        }
+        return new Comparison(name, before.mode, after.unit, before.score, score, change, pValue, verdict);
+    }
+
+    private static Comparison compareAllocation(String name, double before, double after, double tolerance) {
+
+        var change = before == 0 ? (after > ALLOCATION_FLOOR ? 1 : 0) : (after - before) / before;
+        Comparison.Verdict verdict;
+        if (change > tolerance && after - before > ALLOCATION_FLOOR) {
+            verdict = Comparison.Verdict.REGRESSION;
+        } else if (change < -tolerance && before - after > ALLOCATION_FLOOR) {
+            verdict = Comparison.Verdict.IMPROVED;
+        } else {
+            verdict = Comparison.Verdict.OK;
+        }
+        return new Comparison(name, "alloc", "B/op", before, after, change, Double.NaN, verdict);
+    }
+
+    static double welchPValue(double[] before, double[] after) {
+
+        if (null == before || null == after || before.length < 2 || after.length < 2) {
+            return Double.NaN;
+        }
+        try {
+            return new TTest().tTest(before, after);
+        } catch (MathIllegalArgumentException exception) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.critical.catalogservice.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Compares two load-test reports written by {@code CatalogLoadSimulation}, operation by operation. The report only
+ * keeps percentiles, so latency is gated on relative tolerances for p50 and the noisier p99, ignoring differences
+ * below an absolute floor; throughput may not drop by more than its tolerance and the error rate may not grow by
+ * more than a fixed margin. Operations with too few requests are reported as insufficient instead of compared.
+ * Current latencies are divided by the host factor measured by the JMH calibration run, when there is one.
+ */
+public class LoadTestResults {
+
+    public static class Thresholds {
+
+        public double p50Tolerance = 0.25;
+
+        public double p99Tolerance = 0.50;
+
+        public double throughputTolerance = 0.05;
+
+        public double errorRateMargin = 0.005;
+
+        public double latencyFloorMs = 2;
+
+        public long minimumCount = 100;
+    }
+
+    private LoadTestResults() {
+    }
+
+    public static List<Comparison> compare(JsonNode baseline, JsonNode current, double hostFactor, Thresholds thresholds) {
+
+        for (var setting : new String[]{"books", "rate", "threads"}) {
+            if (baseline.path(setting).asLong() != current.path(setting).asLong()) {
+                throw new IllegalStateException("The load test ran with " + setting + "=" + current.path(setting).asText()
+                        + " but the baseline was recorded with " + setting + "=" + baseline.path(setting).asText());
+            }
+        }
+
+        var comparisons = new ArrayList<Comparison>();
+        var operations = new LinkedHashSet<String>();
+        baseline.path("operations").fieldNames().forEachRemaining(operations::add);
+        current.path("operations").fieldNames().forEachRemaining(operations::add);
+        for (var operation : operations) {
+            var before = baseline.path("operations").get(operation);
+            var after = current.path("operations").get(operation);
+            if (null == after) {
+                comparisons.add(Comparison.missing(operation, "count", "requests", before.path("count").asDouble()));
+                continue;
+            }
+            if (null == before) {
+                comparisons.add(Comparison.added(operation, "count", "requests", after.path("count").asDouble()));
+                continue;
+            }
+            if (before.path("count").asLong() < thresholds.minimumCount || after.path("count").asLong() < thresholds.minimumCount) {
+                comparisons.add(new Comparison(operation, "count", "requests", before.path("count").asDouble(), after.path("count").asDouble(),
+                        Double.NaN, Double.NaN, Comparison.Verdict.INSUFFICIENT));
+                continue;
+            }
+            comparisons.add(latency(operation, "p50Ms", before, after, hostFactor, thresholds.p50Tolerance, thresholds.latencyFloorMs));
+            comparisons.add(latency(operation, "p99Ms", before, after, hostFactor, thresholds.p99Tolerance, thresholds.latencyFloorMs));
+            comparisons.add(throughput(operation, before, after, thresholds.throughputTolerance));
+            comparisons.add(errorRate(operation, before, after, thresholds.errorRateMargin));
+        }
+        return comparisons;
+    }
+
+    private static Comparison latency(String operation, String metric, JsonNode before, JsonNode after, double hostFactor, double tolerance,
+                                      double floor) {
+
+        var baseline = before.path(metric).asDouble();
+        var current = after.path(metric).asDouble() / hostFactor;
+        var change = baseline == 0 ? 0 : (current - baseline) / baseline;
+        Comparison.Verdict verdict;
+        if (change > tolerance && current - baseline > floor) {
+            verdict = Comparison.Verdict.REGRESSION;
+        } else if (change < -tolerance && baseline - current > floor) {
+            verdict = Comparison.Verdict.IMPROVED;
+        } else {
+            verdict = Comparison.Verdict.OK;
+        }
+        return new Comparison(operation, metric, "ms", baseline, current, change, Double.NaN, verdict);
+    }
+
+    private static Comparison throughput(String operation, JsonNode before, JsonNode after, double tolerance) {
+
+        var baseline = before.path("throughput").asDouble();
+        var current = after.path("throughput").asDouble();
+        var change = baseline == 0 ? 0 : (baseline - current) / baseline;
+        var verdict = change > tolerance ? Comparison.Verdict.REGRESSION : Comparison.Verdict.OK;
+        return new Comparison(operation, "throughput", "req/s", baseline, current, change, Double.NaN, verdict);
+    }
+
+    private static Comparison errorRate(String operation, JsonNode before, JsonNode after, double margin) {
+
+        var baseline = before.path("errors").asDouble() / before.path("count").asDouble();
+        var current = after.path("errors").asDouble() / after.path("count").asDouble();
+        var verdict = current - baseline > margin ? Comparison.Verdict.REGRESSION : Comparison.Verdict.OK;
+        return new Comparison(operation, "errorRate", "ratio", baseline, current, current - baseline, Double.NaN, verdict);
+    }
+}
@@ -0,0 +1,121 @@
+package com.critical.catalogservice.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the JMH and load-test results of the current build with the baselines stored under {@code perf/baseline}
+ * and exits with a non-zero status when a benchmark regressed, printing one line per compared metric. Run through the
+ * perf-gate profile, which produces both results first:
+ * <pre>
+ * mvn -Pperf-gate verify
+ * mvn -Pperf-gate verify -Dperf.update-baseline=true    # record new baselines on the reference machine
+ * </pre>
+ * A result file that does not exist is skipped, so the gate can also be run on JMH results alone. Baselines depend
+ * on the hardware they were recorded on; record them again when the reference machine changes.
+ */
+public class PerformanceGate {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws IOException {
+
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Arguments must look like --name=value: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        var jmhResult = Path.of(options.getOrDefault("jmh-result", "target/jmh-result.json"));
+        var jmhBaseline = Path.of(options.getOrDefault("jmh-baseline", "perf/baseline/jmh.json"));
+        var loadTestResult = Path.of(options.getOrDefault("loadtest-result", "target/loadtest/catalog-load-report.json"));
+        var loadTestBaseline = Path.of(options.getOrDefault("loadtest-baseline", "perf/baseline/loadtest.json"));
+        var update = Boolean.parseBoolean(options.getOrDefault("update", "false"));
+
+        var report = new StringBuilder();
+        var comparisons = new ArrayList<Comparison>();
+        var hostFactor = 1.0;
+
+        if (Files.exists(jmhResult)) {
+            var current = JmhResults.condense(objectMapper.readTree(jmhResult.toFile()));
+            if (update) {
+                write(jmhBaseline, current);
+                report.append("JMH baseline written to ").append(jmhBaseline).append(" (").append(current.size()).append(" benchmarks)")
+                        .append(System.lineSeparator());
+            } else {
+                Map<String, JmhResults.Score> baseline = objectMapper.readValue(requireBaseline(jmhBaseline).toFile(),
+                        new TypeReference<TreeMap<String, JmhResults.Score>>() {
+                        });
+                if (Boolean.parseBoolean(options.getOrDefault("normalize", "true"))) {
+                    hostFactor = JmhResults.hostFactor(baseline, current);
+                    report.append(String.format("Host factor %.3f from %s*, current results are scaled by it%n", hostFactor, JmhResults.CALIBRATION));
+                }
+                var jmhComparisons = JmhResults.compare(baseline, current, hostFactor,
+                        Double.parseDouble(options.getOrDefault("tolerance", "0.15")),
+                        Double.parseDouble(options.getOrDefault("alpha", "0.01")),
+                        Double.parseDouble(options.getOrDefault("allocation-tolerance", "0.05")));
+                comparisons.addAll(jmhComparisons);
+                report.append(Comparison.format("JMH: " + jmhResult + " against " + jmhBaseline, jmhComparisons));
+            }
+        } else {
+            report.append("JMH: no result at ").append(jmhResult).append(", skipped").append(System.lineSeparator());
+        }
+
+        if (Files.exists(loadTestResult)) {
+            var current = objectMapper.readTree(loadTestResult.toFile());
+            if (update) {
+                write(loadTestBaseline, current);
+                report.append("Load test baseline written to ").append(loadTestBaseline).append(System.lineSeparator());
+            } else {
+                var thresholds = new LoadTestResults.Thresholds();
+                thresholds.p50Tolerance = Double.parseDouble(options.getOrDefault("p50-tolerance", String.valueOf(thresholds.p50Tolerance)));
+                thresholds.p99Tolerance = Double.parseDouble(options.getOrDefault("p99-tolerance", String.valueOf(thresholds.p99Tolerance)));
+                thresholds.throughputTolerance = Double.parseDouble(options.getOrDefault("throughput-tolerance", String.valueOf(thresholds.throughputTolerance)));
+                var loadTestComparisons = LoadTestResults.compare(objectMapper.readTree(requireBaseline(loadTestBaseline).toFile()), current,
+                        hostFactor, thresholds);
+                comparisons.addAll(loadTestComparisons);
+                report.append(Comparison.format("Load test: " + loadTestResult + " against " + loadTestBaseline, loadTestComparisons));
+            }
+        } else {
+            report.append("Load test: no result at ").append(loadTestResult).append(", skipped").append(System.lineSeparator());
+        }
+
+        var gateReport = Path.of(options.getOrDefault("report", "target/perf/gate-report.txt"));
+        Files.createDirectories(gateReport.toAbsolutePath().getParent());
+        Files.writeString(gateReport, report);
+        System.out.print(report);
+
+        if (Comparison.failing(comparisons)) {
+            var failed = comparisons.stream().filter(comparison -> comparison.verdict.failing).count();
+            System.out.println("Performance gate failed: " + failed + " of " + comparisons.size() + " metrics regressed or are missing. Report: " + gateReport);
+            System.exit(1);
+        }
+        System.out.println("Performance gate passed");
+    }
+
+    private static Path requireBaseline(Path baseline) {
+
+        if (!Files.exists(baseline)) {
+            throw new IllegalStateException("No baseline at " + baseline + ", record one with -Dperf.update-baseline=true");
+        }
+        return baseline;
+    }
+
+    private static void write(Path path, Object value) throws IOException {
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writeValue(path.toFile(), value);
+    }
+}
@@ -0,0 +1,176 @@
+package com.critical.catalogservice.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerformanceGateTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void givenJmhJsonResult_whenCondensed_thenScoresAreKeyedByBenchmarkAndParams() throws Exception {
+        // Arrange
+        var json = objectMapper.readTree("""
+                [{"benchmark": "com.critical.catalogservice.benchmark.BookSearchBenchmark.executeAndMap", "mode": "avgt",
+                  "params": {"books": "100000", "filters": "author"},
+                  "primaryMetric": {"score": 450.0, "scoreUnit": "us/op", "rawData": [[440.0, 450.0], [455.0, 455.0]]},
+                  "secondaryMetrics": {"gc.alloc.rate.norm": {"score": 20480.0, "scoreUnit": "B/op"}}}]
+                """);
+
+        // Act
+        var scores = JmhResults.condense(json);
+
+        // Assert
+        var score = scores.get("BookSearchBenchmark.executeAndMap[books=100000,filters=author]");
+        assertNotNull(score);
+        assertEquals("avgt", score.mode);
+        assertEquals(450.0, score.score);
+        assertArrayEquals(new double[]{440.0, 450.0, 455.0, 455.0}, score.samples);
+        assertEquals(20480.0, score.allocation);
+    }
+
+    @Test
+    public void givenSignificantlySlowerAverageTime_whenCompared_thenRegression() {
+        // Arrange
+        var baseline = score("avgt", 100, 101, 99, 100, 100.5, 99.5);
+        var current = score("avgt", 130, 131, 129, 130, 130.5, 129.5);
+
+        // Act
+        var comparisons = JmhResults.compare(Map.of("mapping", baseline), Map.of("mapping", current), 1.0, 0.10, 0.01, 0.05);
+
+        // Assert
+        assertEquals(Comparison.Verdict.REGRESSION, comparisons.get(0).verdict);
+        assertEquals(0.30, comparisons.get(0).change, 0.001);
+        assertTrue(comparisons.get(0).pValue < 0.01);
+        assertTrue(Comparison.failing(comparisons));
+    }
+
+    @Test
+    public void givenLowerThroughputWithinNoise_whenCompared_thenNotFailing() {
+        // Arrange
+        var baseline = score("thrpt", 1000, 700, 1300, 900, 1100);
+        var current = score("thrpt", 850, 500, 1200, 800, 900);
+
+        // Act
+        var comparisons = JmhResults.compare(Map.of("mapping", baseline), Map.of("mapping", current), 1.0, 0.10, 0.01, 0.05);
+
+        // Assert
+        assertEquals(Comparison.Verdict.NOISE, comparisons.get(0).verdict);
+        assertFalse(Comparison.failing(comparisons));
+    }
+
+    @Test
+    public void givenHigherAllocation_whenCompared_thenAllocationRegression() {
+        // Arrange
+        var baseline = score("avgt", 100, 100, 100);
+        baseline.allocation = 1000;
+        var current = score("avgt", 100, 100, 100);
+        current.allocation = 1500;
+
+        // Act
+        var comparisons = JmhResults.compare(Map.of("mapping", baseline), Map.of("mapping", current), 1.0, 0.10, 0.01, 0.05);
+
+        // Assert
+        assertEquals(Comparison.Verdict.OK, comparisons.get(0).verdict);
+        assertEquals("alloc", comparisons.get(1).metric);
+        assertEquals(Comparison.Verdict.REGRESSION, comparisons.get(1).verdict);
+    }
+
+    @Test
+    public void givenBenchmarkMissingFromCurrentRun_whenCompared_thenMissingFails() {
+        // Arrange
+        var baseline = Map.of("mapping", score("avgt", 100, 100, 100), "search", score("avgt", 400, 400, 400));
+        var current = Map.of("mapping", score("avgt", 100, 100, 100));
+
+        // Act
+        var comparisons = JmhResults.compare(baseline, current, 1.0, 0.10, 0.01, 0.05);
+
+        // Assert
+        assertTrue(comparisons.stream().anyMatch(comparison -> comparison.name.equals("search") && comparison.verdict == Comparison.Verdict.MISSING));
+        assertTrue(Comparison.failing(comparisons));
+    }
+
+    @Test
+    public void givenUniformlySlowerHost_whenComparedWithCalibration_thenNotFailing() {
+        // Arrange
+        var baseline = Map.of(JmhResults.CALIBRATION + "sort", score("avgt", 100, 100, 101, 99),
+                "search", score("avgt", 400, 400, 401, 399),
+                "mapping", score("thrpt", 1000, 1000, 1001, 999));
+        var current = Map.of(JmhResults.CALIBRATION + "sort", score("avgt", 150, 150, 151, 149),
+                "search", score("avgt", 600, 600, 601, 599),
+                "mapping", score("thrpt", 667, 667, 668, 666));
+
+        // Act
+        var hostFactor = JmhResults.hostFactor(baseline, current);
+        var comparisons = JmhResults.compare(baseline, current, hostFactor, 0.10, 0.01, 0.05);
+
+        // Assert
+        assertEquals(1.5, hostFactor, 0.001);
+        assertEquals(2, comparisons.size());
+        assertFalse(Comparison.failing(comparisons));
+    }
+
+    @Test
+    public void givenSlowerLoadTestP99_whenCompared_thenRegressionOnlyForThatMetric() throws Exception {
+        // Arrange
+        var baseline = objectMapper.readTree(report(12.0, 40.0, 100, 0));
+        var current = objectMapper.readTree(report(12.5, 90.0, 100, 0));
+
+        // Act
+        var comparisons = LoadTestResults.compare(baseline, current, 1.0, new LoadTestResults.Thresholds());
+
+        // Assert
+        assertEquals(4, comparisons.size());
+        assertEquals(Comparison.Verdict.OK, comparisons.get(0).verdict);
+        assertEquals("p99Ms", comparisons.get(1).metric);
+        assertEquals(Comparison.Verdict.REGRESSION, comparisons.get(1).verdict);
+        assertEquals(Comparison.Verdict.OK, comparisons.get(2).verdict);
+        assertEquals(Comparison.Verdict.OK, comparisons.get(3).verdict);
+    }
+
+    @Test
+    public void givenMoreLoadTestErrors_whenCompared_thenErrorRateRegression() throws Exception {
+        // Arrange
+        var baseline = objectMapper.readTree(report(12.0, 40.0, 100, 0));
+        var current = objectMapper.readTree(report(12.0, 40.0, 100, 120));
+
+        // Act
+        var comparisons = LoadTestResults.compare(baseline, current, 1.0, new LoadTestResults.Thresholds());
+
+        // Assert
+        assertEquals("errorRate", comparisons.get(3).metric);
+        assertEquals(Comparison.Verdict.REGRESSION, comparisons.get(3).verdict);
+    }
+
+    @Test
+    public void givenLoadTestWithOtherRate_whenCompared_thenThrows() throws Exception {
+        // Arrange
+        var baseline = objectMapper.readTree(report(12.0, 40.0, 100, 0));
+        var current = objectMapper.readTree(report(12.0, 40.0, 100, 0).replace("\"rate\": 100", "\"rate\": 300"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> LoadTestResults.compare(baseline, current, 1.0, new LoadTestResults.Thresholds()));
+    }
+
+    private static JmhResults.Score score(String mode, double score, double... samples) {
+
+        var result = new JmhResults.Score();
+        result.mode = mode;
+        result.unit = "thrpt".equals(mode) ? "ops/s" : "us/op";
+        result.score = score;
+        result.samples = samples;
+        return result;
+    }
+
+    private static String report(double p50, double p99, double throughput, int errors) {
+
+        return """
+                {"books": 50000, "rate": 100, "threads": 64, "operations": {
+                  "LOOKUP_BY_ID": {"count": 6000, "errors": %d, "notFound": 0, "throughput": %s, "p50Ms": %s, "p99Ms": %s}}}
+                """.formatted(errors, throughput, p50, p99);
+    }
+}
@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.author;
 
 import com.critical.catalogservice.data.entity.Author;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.AuthorRepository;
 import com.critical.catalogservice.dtos.AuthorDto;
 import com.critical.catalogservice.util.exception.EntityNullException;
@@ -33,7 +34,7 @@ public class AuthorServiceTests {
 
         logCaptor = LogCaptor.forClass(AuthorService.class);
         repository = mock(AuthorRepository.class);
-        service = new AuthorService(this.repository);
+        service = new AuthorService(this.repository, mock(BookSearchRepository.class));
     }
 
     @Test
@@ -1,13 +1,20 @@
 package com.critical.catalogservice.service.book;
 
+import com.critical.catalogservice.config.MetricsConfig;
 import com.critical.catalogservice.data.entity.Book;
 import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
+import com.critical.catalogservice.data.repository.BookTombstoneRepository;
 import com.critical.catalogservice.dtos.book.BookAvailabilityDto;
 import com.critical.catalogservice.dtos.book.BookRequestDto;
 import com.critical.catalogservice.dtos.book.BookUpdateRequestDto;
+import com.critical.catalogservice.service.book.stream.BookUpdateBroadcaster;
 import com.critical.catalogservice.service.rabbitMq.BookStockProducer;
 import com.critical.catalogservice.util.exception.EntityNullException;
 import com.critical.catalogservice.util.exception.SaveEntityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import jakarta.persistence.EntityNotFoundException;
 import nl.altindag.log.LogCaptor;
 import org.instancio.Instancio;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -34,12 +42,25 @@ public class BookServiceTests {
 
     private BookService service;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private BookSearchRepository bookSearchRepository;
+
+    private BookTombstoneRepository bookTombstoneRepository;
+
+    private BookUpdateBroadcaster bookUpdateBroadcaster;
+
     @BeforeEach
     void setUp() {
 
         logCaptor = LogCaptor.forClass(BookService.class);
         repository = mock(BookRepository.class);
-        service = new BookService(this.repository,  mock(JobScheduler.class),  mock(BookStockProducer.class));
+        meterRegistry = new SimpleMeterRegistry();
+        bookSearchRepository = mock(BookSearchRepository.class);
+        bookTombstoneRepository = mock(BookTombstoneRepository.class);
+        bookUpdateBroadcaster = mock(BookUpdateBroadcaster.class);
+        service = new BookService(this.repository, this.bookSearchRepository, this.bookTombstoneRepository, mock(JobScheduler.class),  mock(BookStockProducer.class),
+                bookUpdateBroadcaster, meterRegistry);
     }
 
     @Test
@@ -52,6 +73,7 @@ public class BookServiceTests {
         var result = this.service.createBook(bookDto);
         // Assert
         Assertions.assertEquals(book.getId(), result);
+        verify(this.bookSearchRepository).refreshBook(book.getId());
     }
 
     @Test
@@ -66,6 +88,19 @@ public class BookServiceTests {
         Assertions.assertEquals(errorMessage, exception.getMessage());
     }
 
+    @Test
+    public void givenValidBookObject_whenErrorOccursWhileSaving_thenCountsEnqueuedJob() {
+        // Arrange
+        var bookDto = Instancio.create(BookRequestDto.class);
+        when(this.repository.save(any(Book.class))).thenThrow(new SaveEntityException("Error while saving book"));
+        // Act
+        assertThrows(SaveEntityException.class, () -> this.service.createBook(bookDto));
+        // Assert
+        var counter = this.meterRegistry.find(MetricsConfig.JOBRUNR_ENQUEUED).tag("job", "saveBook").counter();
+        Assertions.assertNotNull(counter);
+        Assertions.assertEquals(1.0, counter.count());
+    }
+
     @Test
     public void givenInvalidBookObject_whenSaving_thenThrowException() {
         // Arrange
@@ -244,11 +279,15 @@ public class BookServiceTests {
         // Arrange
         var bookId = 1;
         var expectedMessage = "Book deleted with success.";
-        doNothing().when(this.repository).deleteById(bookId);
+        var book = Instancio.create(Book.class);
+        when(this.repository.findById(bookId)).thenReturn(Optional.of(book));
         // Act
         service.deleteBook(bookId);
         // Assert
         assertThat(logCaptor.getInfoLogs()).containsExactly(expectedMessage);
+        verify(this.bookSearchRepository).removeBook(bookId);
+        verify(this.repository).delete(book);
+        verify(this.bookTombstoneRepository).save(argThat(tombstone -> bookId == tombstone.getBookId()));
     }
 
     @Test
@@ -311,6 +350,38 @@ public class BookServiceTests {
         verify(repository, times(1)).findById(bookId);
         verify(repository, times(1)).save(any(Book.class));
         assertThat(logCaptor.getInfoLogs()).containsExactly(expectedMessage);
+        verify(bookUpdateBroadcaster).publish(book);
+    }
+
+    @Test
+    public void givenUnchangedStockAndPrice_whenUpdating_thenNothingPublished() {
+        // Arrange
+        var bookId = 1;
+        var book = Instancio.create(Book.class);
+        var bookDto = Instancio.create(BookUpdateRequestDto.class);
+        bookDto.stockAvailable = book.getStockAvailable();
+        bookDto.price = book.getPrice();
+        bookDto.promotionalPrice = book.getPromotionalPrice();
+        when(this.repository.findById(bookId)).thenReturn(Optional.of(book));
+        when(this.repository.save(any(Book.class))).thenReturn(book);
+        // Act
+        service.updateBook(bookId, bookDto);
+        // Assert
+        verify(bookUpdateBroadcaster, never()).publish(any(Book.class));
+    }
+
+    @Test
+    public void givenExistingBook_whenSelling_thenNewStockPublished() {
+        // Arrange
+        var bookId = 1;
+        var book = Instancio.create(Book.class);
+        book.setStockAvailable(10);
+        when(this.repository.findById(bookId)).thenReturn(Optional.of(book));
+        when(this.repository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // Act
+        service.sellBook(bookId, 3);
+        // Assert
+        verify(bookUpdateBroadcaster).publish(argThat(published -> 7 == published.getStockAvailable()));
     }
 
     @Test
@@ -333,4 +404,32 @@ public class BookServiceTests {
         assertThat(logCaptor.getWarnLogs()).containsExactly(errorMessage);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenSearchRequest_whenBooksExist_thenRecordsFlightRecorderEvent() throws Exception {
+        // Arrange
+        var books = Instancio.ofList(Book.class).size(3).create();
+        when(this.repository.findAll(any(Specification.class))).thenReturn(books);
+        var file = Files.createTempFile("book-operation", ".jfr");
+
+        // Act
+        try (var recording = new Recording()) {
+            recording.enable("com.critical.catalogservice.BookOperation");
+            recording.start();
+            this.service.searchBooks(Optional.of("author"), Optional.empty(), Optional.empty(), Optional.empty(),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        var events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        Assertions.assertEquals("search", event.getString("operation"));
+        Assertions.assertEquals(3, event.getInt("rows"));
+        Assertions.assertEquals("success", event.getString("outcome"));
+        assertThat(event.getString("parameters")).startsWith("author=author, tag=null");
+    }
+}
@@ -0,0 +1,115 @@
+package com.critical.catalogservice.service.book.changes;
+
+import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.data.repository.BookTombstoneRepository;
+import com.critical.catalogservice.util.datasource.ReplicaLagMonitor;
+import com.critical.catalogservice.util.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+/**
+ * The feed behind the read/write routing, with a replica that has not received the catalog yet.
+ */
+public class BookChangeFeedRoutingTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    private BookRepository bookRepository;
+
+    private TransactionTemplate readWrite;
+
+    private BookChangeFeedService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+
+        var primary = dataSource("feedPrimary");
+        var replica = dataSource("feedReplica");
+        try (var connection = replica.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE node (lag INTEGER)");
+            statement.execute("INSERT INTO node VALUES (0)");
+        }
+        var lagMonitor = new ReplicaLagMonitor(replica, "SELECT lag FROM node", Duration.ofSeconds(2));
+        lagMonitor.check();
+        meterRegistry = new SimpleMeterRegistry();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(ReplicaRoutingDataSource.lazy(new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry)));
+        entityManagerFactoryBean.setPackagesToScan("com.critical.catalogservice.data.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Created outside a transaction, so on the primary only.
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        var entityManagerFactory = entityManagerFactoryBean.getObject();
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        var repositoryFactory = new JpaRepositoryFactory(entityManager);
+        bookRepository = repositoryFactory.getRepository(BookRepository.class);
+        var feed = new ProxyFactory(new BookChangeFeedService(bookRepository, repositoryFactory.getRepository(BookTombstoneRepository.class),
+                entityManager, Duration.ZERO, 10, 10));
+        feed.setProxyTargetClass(true);
+        feed.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        service = (BookChangeFeedService) feed.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+
+        entityManagerFactoryBean.destroy();
+        for (var name : new String[]{"feedPrimary", "feedReplica"}) {
+            try (var connection = dataSource(name).getConnection(); var statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+        }
+    }
+
+    @Test
+    public void givenReplicaBehind_whenReadingChanges_thenReadsThePrimary() {
+        // Arrange
+        var book = Instancio.of(Book.class)
+                .set(all(field(Author.class, "id"), field(Genre.class, "id"), field(Tag.class, "id"), field(Format.class, "id"),
+                        field(Language.class, "id"), field(Publisher.class, "id"), field(Book::getId)), 0)
+                .withSeed(500)
+                .create();
+        var bookId = readWrite.execute(status -> bookRepository.save(book).getId());
+        // Act
+        var feed = service.getChanges(null, null);
+        // Assert
+        assertThat(feed.changes).extracting(change -> change.id).containsExactly(bookId);
+        assertThat(meterRegistry.get("catalog.datasource.routed").tag("target", "replica").counter().count()).isZero();
+    }
+
+    private static JdbcDataSource dataSource(String database) {
+
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
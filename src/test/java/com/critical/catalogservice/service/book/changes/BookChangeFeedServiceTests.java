@@ -0,0 +1,150 @@
+package com.critical.catalogservice.service.book.changes;
+
+import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.data.repository.BaseRepositoryTests;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.data.repository.BookTombstoneRepository;
+import com.critical.catalogservice.dtos.book.BookChangeDto;
+import com.critical.catalogservice.dtos.book.BookChangeTypeDto;
+import com.critical.catalogservice.util.query.QueryCountExtension;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BookChangeFeedServiceTests extends BaseRepositoryTests {
+
+    private static final int BOOKS = 8;
+
+    private static final int PAGE_SIZE = 3;
+
+    @RegisterExtension
+    final QueryCountExtension queries = new QueryCountExtension();
+
+    @Autowired
+    private BookRepository repository;
+
+    @Autowired
+    private BookTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private BookChangeFeedService service;
+
+    private String start;
+
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange, the feed starts right before these books so rows committed by other tests are not part of it
+        start = new BookChangeCursor(Instant.now(), 0).encode();
+        for (var i = 0; i < BOOKS; i++) {
+            var book = Instancio.of(Book.class)
+                    .set(field(Book::getId), 1_000_000 + i)
+                    .set(all(field(Author.class, "id"), field(Genre.class, "id"), field(Tag.class, "id"), field(Format.class, "id"),
+                            field(Language.class, "id"), field(Publisher.class, "id")), 0)
+                    .withSeed(300 + i)
+                    .create();
+            bookIds.add(repository.save(book).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        service = new BookChangeFeedService(repository, tombstoneRepository, testEntityManager.getEntityManager(), Duration.ZERO, PAGE_SIZE, 10);
+    }
+
+    @Test
+    @DisplayName("JUnit test for read the Book change feed page by page")
+    public void givenChangesAndDeletion_whenReadingPageByPage_thenEveryChangeOnceInOrder() {
+        // Arrange
+        var deletedId = bookIds.get(2);
+        repository.deleteById(deletedId);
+        tombstoneRepository.save(new BookTombstone(deletedId));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        // Act
+        var changes = readAll(start);
+        // Assert
+        assertThat(changes).hasSize(BOOKS);
+        assertThat(changes).extracting(change -> change.changedOn).isSorted();
+        assertThat(changes).filteredOn(change -> BookChangeTypeDto.UPDATED == change.type)
+                .extracting(change -> change.id)
+                .containsExactlyElementsOf(bookIds.stream().filter(id -> !id.equals(deletedId)).toList());
+        var deletion = changes.get(BOOKS - 1);
+        assertThat(deletion.type).isEqualTo(BookChangeTypeDto.DELETED);
+        assertThat(deletion.id).isEqualTo(deletedId);
+        assertThat(deletion.book).isNull();
+        assertThat(changes.get(0).book.authors).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit test for resume the Book change feed from a cursor")
+    public void givenCursorAtEnd_whenBookUpdated_thenOnlyThatChangeReturned() {
+        // Arrange
+        var end = service.getChanges(start, 10);
+        var book = repository.findById(bookIds.get(0)).orElseThrow();
+        book.setTitle("Updated Title");
+        testEntityManager.flush();
+        testEntityManager.clear();
+        // Act
+        var feed = service.getChanges(end.cursor, null);
+        // Assert
+        assertThat(end.hasMore).isFalse();
+        assertThat(feed.changes).singleElement().satisfies(change -> {
+            assertThat(change.id).isEqualTo(bookIds.get(0));
+            assertThat(change.book.title).isEqualTo("Updated Title");
+        });
+        assertThat(service.getChanges(feed.cursor, null).changes).isEmpty();
+        assertThat(service.getChanges(feed.cursor, null).cursor).isEqualTo(feed.cursor);
+    }
+
+    @Test
+    @DisplayName("JUnit test for Book change feed statements per page")
+    public void givenFullPage_whenReading_thenCollectionsLoadedOncePerPage() {
+        // Arrange
+        queries.reset();
+        // Act
+        service.getChanges(start, PAGE_SIZE);
+        // Assert, the books, the tombstones and the five collections of the page
+        queries.assertCount(2 + 5);
+    }
+
+    @Test
+    public void givenInvalidCursorOrSize_whenReading_thenThrows() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges("not-a-cursor", null));
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges(start, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges(start, 11));
+    }
+
+    private List<BookChangeDto> readAll(String cursor) {
+
+        var changes = new ArrayList<BookChangeDto>();
+        var pages = 0;
+        while (true) {
+            var feed = service.getChanges(cursor, null);
+            pages++;
+            assertThat(feed.changes).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            changes.addAll(feed.changes);
+            cursor = feed.cursor;
+            if (!feed.hasMore) {
+                assertThat(pages).isEqualTo((BOOKS + PAGE_SIZE - 1) / PAGE_SIZE);
+                return changes;
+            }
+        }
+    }
+}
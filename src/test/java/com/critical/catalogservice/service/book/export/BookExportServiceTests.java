@@ -0,0 +1,122 @@
+package com.critical.catalogservice.service.book.export;
+
+import com.critical.catalogservice.data.entity.*;
+import com.critical.catalogservice.data.repository.BaseRepositoryTests;
+import com.critical.catalogservice.data.repository.BookRepository;
+import com.critical.catalogservice.dtos.book.BookDto;
+import com.critical.catalogservice.util.query.QueryCountExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Session;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+public class BookExportServiceTests extends BaseRepositoryTests {
+
+    private static final int BOOKS = 25;
+
+    private static final int BATCH_SIZE = 10;
+
+    @RegisterExtension
+    final QueryCountExtension queries = new QueryCountExtension();
+
+    @Autowired
+    private BookRepository repository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BookExportService service;
+
+    private final List<Integer> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange, with book ids far above the stored ones and unsaved references, so every save inserts new rows
+        // whatever other tests committed
+        for (var i = 0; i < BOOKS; i++) {
+            var book = Instancio.of(Book.class)
+                    .set(field(Book::getId), 1_000_000 + i)
+                    .set(all(field(Author.class, "id"), field(Genre.class, "id"), field(Tag.class, "id"), field(Format.class, "id"),
+                            field(Language.class, "id"), field(Publisher.class, "id")), 0)
+                    .withSeed(100 + i)
+                    .create();
+            if (0 == i) {
+                book.setTitle("Comma, \"Quoted\"\nTitle");
+            }
+            bookIds.add(repository.save(book).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        service = new BookExportService(repository, testEntityManager.getEntityManager(), objectMapper, BATCH_SIZE);
+        queries.reset();
+    }
+
+    @Test
+    @DisplayName("JUnit test for export Books as NDJSON")
+    public void givenBooks_whenExportingNdjson_thenOneDocumentPerLineInIdOrder() throws IOException {
+        // Act
+        var output = new ByteArrayOutputStream();
+        var exported = service.exportBooks(BookExportFormat.NDJSON, output);
+        // Assert
+        var lines = gunzip(output).split("\n");
+        assertThat(exported).isEqualTo(BOOKS);
+        assertThat(lines).hasSize(BOOKS);
+        var books = new ArrayList<BookDto>();
+        for (var line : lines) {
+            books.add(objectMapper.readValue(line, BookDto.class));
+        }
+        assertThat(books).extracting(book -> book.id).containsExactlyElementsOf(bookIds);
+        assertThat(books.get(0).title).isEqualTo("Comma, \"Quoted\"\nTitle");
+        assertThat(books).allSatisfy(book -> assertThat(book.authors).isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("JUnit test for export Books as CSV")
+    public void givenBooks_whenExportingCsv_thenHeaderAndOneRowPerBook() throws IOException {
+        // Act
+        var output = new ByteArrayOutputStream();
+        service.exportBooks(BookExportFormat.CSV, output);
+        // Assert
+        var csv = gunzip(output);
+        assertThat(csv).startsWith(CsvBookExportWriter.HEADER + "\r\n");
+        assertThat(csv.split("\r\n")).hasSize(BOOKS + 1);
+        assertThat(csv).contains(bookIds.get(0) + ",\"Comma, \"\"Quoted\"\"\nTitle\",");
+    }
+
+    @Test
+    @DisplayName("JUnit test for export Books loading associations per batch")
+    public void givenMoreBooksThanBatchSize_whenExporting_thenAssociationsLoadedOncePerBatchAndBooksDetached() throws IOException {
+        // Act
+        service.exportBooks(BookExportFormat.NDJSON, new ByteArrayOutputStream());
+        // Assert, the cursor plus the five collections of each of the three batches
+        queries.assertCount(1 + 3 * 5);
+        assertThat(testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private static String gunzip(ByteArrayOutputStream output) throws IOException {
+
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.critical.catalogservice.service.book.stream;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import com.critical.catalogservice.data.entity.Book;
+import com.critical.catalogservice.dtos.book.BookStockPriceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BookUpdateBroadcasterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BookUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new BookUpdateBroadcaster(2, 3, 2, Duration.ofMinutes(1), Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        broadcaster.destroy();
+    }
+
+    @Test
+    public void givenSubscribers_whenBookChanges_thenOnlyItsSubscribersReceiveIt() throws InterruptedException {
+        // Arrange
+        var first = new RecordingSink();
+        var second = new RecordingSink();
+        broadcaster.subscribe(Set.of(1, 2), first);
+        broadcaster.subscribe(Set.of(3), second);
+        // Act
+        broadcaster.publish(book(2, 7));
+        broadcaster.publish(book(4, 9));
+        // Assert
+        var update = first.updates.poll(5, TimeUnit.SECONDS);
+        assertThat(update).isNotNull();
+        assertThat(update.id).isEqualTo(2);
+        assertThat(update.stockAvailable).isEqualTo(7);
+        assertThat(second.updates.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.get(MetricsConfig.BOOK_STREAM_SUBSCRIBERS).gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void givenSlowSubscriber_whenOneBookFloods_thenLatestOfEveryBookDelivered() {
+        // Arrange, the sender only runs when the test says so
+        var tasks = new ArrayList<Runnable>();
+        var sink = new RecordingSink();
+        var subscription = new BookUpdateSubscription(Set.of(1, 2), sink, tasks::add, closed -> { });
+        // Act
+        subscription.offer(update(2, 5));
+        var superseded = 0;
+        for (var stock = 1; stock <= 100; stock++) {
+            superseded += subscription.offer(update(1, stock)) ? 1 : 0;
+        }
+        tasks.forEach(Runnable::run);
+        // Assert
+        assertThat(tasks).hasSize(1);
+        assertThat(superseded).isEqualTo(99);
+        assertThat(subscription.getSuperseded()).isEqualTo(99);
+        assertThat(new ArrayList<>(sink.updates)).extracting(update -> update.id + ":" + update.stockAvailable).containsExactly("2:5", "1:100");
+    }
+
+    @Test
+    public void givenFailingSubscriber_whenBookChanges_thenSubscriptionClosed() throws InterruptedException {
+        // Arrange
+        var sink = new RecordingSink();
+        sink.failing = true;
+        broadcaster.subscribe(Set.of(1), sink);
+        // Act
+        broadcaster.publish(book(1, 5));
+        // Assert
+        assertThat(sink.closed.poll(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    public void givenTransaction_whenBookChanges_thenSentOnlyAfterCommit() throws InterruptedException {
+        // Arrange
+        var sink = new RecordingSink();
+        broadcaster.subscribe(Set.of(1), sink);
+        var book = book(1, 5);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            broadcaster.publish(book);
+            book.setStockAvailable(4);
+            var beforeCommit = sink.updates.poll(100, TimeUnit.MILLISECONDS);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            // Assert
+            assertThat(beforeCommit).isNull();
+            var update = sink.updates.poll(5, TimeUnit.SECONDS);
+            assertThat(update).isNotNull();
+            assertThat(update.stockAvailable).isEqualTo(4);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenTransaction_whenRolledBack_thenNothingSent() throws InterruptedException {
+        // Arrange
+        var sink = new RecordingSink();
+        broadcaster.subscribe(Set.of(1), sink);
+        TransactionSynchronizationManager.initSynchronization();
+        // Act
+        broadcaster.publish(book(1, 5));
+        TransactionSynchronizationManager.clearSynchronization();
+        // Assert
+        assertThat(sink.updates.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    public void givenStalledSubscriber_whenSendOutlastsTimeout_thenDroppedAndOthersStillServed() throws InterruptedException {
+        // Arrange, a single sender thread that the stalled subscriber blocks
+        var stalling = new BookUpdateBroadcaster(2, 3, 1, Duration.ofMinutes(1), Duration.ofMillis(50), meterRegistry);
+        var stalled = new RecordingSink();
+        stalled.blocked = new CountDownLatch(1);
+        var other = new RecordingSink();
+        try {
+            stalling.subscribe(Set.of(1), stalled);
+            stalling.subscribe(Set.of(2), other);
+            stalling.publish(book(1, 5));
+            // Act
+            var dropped = meterRegistry.get(MetricsConfig.BOOK_STREAM_DROPPED).counter();
+            for (var wait = 0; wait < 100 && dropped.count() == 0; wait++) {
+                Thread.sleep(50);
+            }
+            stalling.publish(book(2, 7));
+            // Assert
+            assertThat(dropped.count()).isEqualTo(1.0);
+            assertThat(stalling.getSubscriberCount()).isEqualTo(1);
+            var update = other.updates.poll(5, TimeUnit.SECONDS);
+            assertThat(update).isNotNull();
+            assertThat(update.id).isEqualTo(2);
+            assertThat(stalled.closed.poll(100, TimeUnit.MILLISECONDS)).isNull();
+            stalled.blocked.countDown();
+            assertThat(stalled.closed.poll(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            stalled.blocked.countDown();
+            stalling.destroy();
+        }
+    }
+
+    @Test
+    public void givenLimits_whenSubscribing_thenRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> broadcaster.subscribe(Set.of(), new RecordingSink()));
+        assertThrows(IllegalArgumentException.class, () -> broadcaster.subscribe(Set.of(1, 2, 3, 4), new RecordingSink()));
+        assertThat(broadcaster.subscribe(Set.of(1), new RecordingSink())).isPresent();
+        var second = broadcaster.subscribe(Set.of(1), new RecordingSink()).orElseThrow();
+        assertThat(broadcaster.subscribe(Set.of(1), new RecordingSink())).isEmpty();
+        second.close();
+        assertThat(broadcaster.subscribe(Set.of(1), new RecordingSink())).isPresent();
+    }
+
+    @Test
+    public void givenConcurrentSubscribers_whenLimitReached_thenNeverExceeded() throws Exception {
+        // Arrange
+        var start = new CountDownLatch(1);
+        var pool = Executors.newFixedThreadPool(8);
+        var attempts = new ArrayList<Future<Boolean>>();
+        for (var i = 0; i < 64; i++) {
+            attempts.add(pool.submit(() -> {
+                start.await();
+                return broadcaster.subscribe(Set.of(1), new RecordingSink()).isPresent();
+            }));
+        }
+        // Act
+        start.countDown();
+        var accepted = 0;
+        for (var attempt : attempts) {
+            accepted += attempt.get(5, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        pool.shutdown();
+        // Assert
+        assertThat(accepted).isEqualTo(2);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+
+    private static Book book(int id, int stock) {
+
+        return Instancio.of(Book.class)
+                .set(field(Book::getId), id)
+                .set(field(Book::getStockAvailable), stock)
+                .create();
+    }
+
+    private static BookStockPriceDto update(int id, int stock) {
+
+        var update = new BookStockPriceDto();
+        update.id = id;
+        update.stockAvailable = stock;
+        return update;
+    }
+
+    private static class RecordingSink implements BookUpdateSink {
+
+        private final BlockingQueue<BookStockPriceDto> updates = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<Boolean> closed = new LinkedBlockingQueue<>();
+
+        private volatile boolean failing;
+
+        private volatile CountDownLatch blocked;
+
+        @Override
+        public void send(BookStockPriceDto update) throws IOException {
+
+            if (null != blocked) {
+                try {
+                    blocked.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            updates.add(update);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+
+            closed.add(true);
+        }
+    }
+}
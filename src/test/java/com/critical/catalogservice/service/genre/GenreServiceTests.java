@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.genre;
 
 import com.critical.catalogservice.data.entity.Genre;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.GenreRepository;
 import com.critical.catalogservice.dtos.GenreDto;
 import com.critical.catalogservice.util.exception.EntityNullException;
@@ -33,7 +34,7 @@ public class GenreServiceTests {
 
         logCaptor = LogCaptor.forClass(GenreService.class);
         repository = mock(GenreRepository.class);
-        service = new GenreService(this.repository);
+        service = new GenreService(this.repository, mock(BookSearchRepository.class));
     }
 
     @Test
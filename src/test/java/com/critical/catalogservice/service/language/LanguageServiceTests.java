@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.language;
 
 import com.critical.catalogservice.data.entity.Language;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.LanguageRepository;
 import com.critical.catalogservice.dtos.LanguageDto;
 import com.critical.catalogservice.util.exception.EntityNullException;
@@ -33,7 +34,7 @@ public class LanguageServiceTests {
 
         logCaptor = LogCaptor.forClass(LanguageService.class);
         repository = mock(LanguageRepository.class);
-        service = new LanguageService(this.repository);
+        service = new LanguageService(this.repository, mock(BookSearchRepository.class));
     }
 
     @Test
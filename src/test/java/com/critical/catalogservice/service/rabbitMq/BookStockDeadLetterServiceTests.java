@@ -0,0 +1,150 @@
+package com.critical.catalogservice.service.rabbitMq;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class BookStockDeadLetterServiceTests {
+
+    private RabbitTemplate rabbitTemplate;
+
+    private AmqpAdmin amqpAdmin;
+
+    private Channel channel;
+
+    private BookStockDeadLetterService service;
+
+    @BeforeEach
+    void setUp() {
+
+        rabbitTemplate = mock(RabbitTemplate.class);
+        amqpAdmin = mock(AmqpAdmin.class);
+        service = new BookStockDeadLetterService(rabbitTemplate, amqpAdmin);
+        ReflectionTestUtils.setField(service, "queueUpdateBookStockName", "stock");
+        ReflectionTestUtils.setField(service, "exchangeUpdateBookStock", "stock-exchange");
+        ReflectionTestUtils.setField(service, "stockRoutingKey", "stock-key");
+        ReflectionTestUtils.setField(service, "retryExchangeUpdateBookStock", "retry-exchange");
+        ReflectionTestUtils.setField(service, "retryDelays", List.of(1000L, 5000L));
+        ReflectionTestUtils.setField(service, "deadLetterExchangeUpdateBookStock", "dead-letter-exchange");
+        ReflectionTestUtils.setField(service, "queueUpdateBookStockDeadLetterName", "stock.dead-letter");
+        ReflectionTestUtils.setField(service, "confirmTimeout", Duration.ofSeconds(5));
+        channel = mock(Channel.class);
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+    }
+
+    @Test
+    public void givenFirstFailure_whenRetryOrPark_thenSendsToFirstRetryTier() {
+        // Arrange
+        var message = new Message(new byte[]{1}, new MessageProperties());
+        // Act
+        service.retryOrPark(message, new RuntimeException("Book not found"));
+        // Assert
+        verify(rabbitTemplate, times(1)).send("retry-exchange", "stock.retry.1000ms", message);
+        Assertions.assertEquals(1, (Integer) message.getMessageProperties().getHeader(BookStockDeadLetterService.RETRY_COUNT_HEADER));
+    }
+
+    @Test
+    public void givenSecondFailure_whenRetryOrPark_thenSendsToNextRetryTier() {
+        // Arrange
+        var properties = new MessageProperties();
+        properties.setHeader(BookStockDeadLetterService.RETRY_COUNT_HEADER, 1);
+        var message = new Message(new byte[]{1}, properties);
+        // Act
+        service.retryOrPark(message, new RuntimeException("Book not found"));
+        // Assert
+        verify(rabbitTemplate, times(1)).send("retry-exchange", "stock.retry.5000ms", message);
+    }
+
+    @Test
+    public void givenRetriesExhausted_whenRetryOrPark_thenParksMessage() {
+        // Arrange
+        var properties = new MessageProperties();
+        properties.setHeader(BookStockDeadLetterService.RETRY_COUNT_HEADER, 2);
+        var message = new Message(new byte[]{1}, properties);
+        // Act
+        service.retryOrPark(message, new RuntimeException("Book not found"));
+        // Assert
+        verify(rabbitTemplate, times(1)).send("dead-letter-exchange", "stock.dead-letter", message);
+        verify(rabbitTemplate, times(0)).send(eq("retry-exchange"), anyString(), any(Message.class));
+    }
+
+    @Test
+    public void givenParkedMessages_whenReplaying_thenRepublishesUpToLimit() throws Exception {
+        // Arrange
+        var parked = parked(2);
+        when(channel.basicGet("stock.dead-letter", false)).thenReturn(parked, parked, parked);
+        when(channel.waitForConfirms(5000)).thenReturn(true);
+        // Act
+        var result = service.replayParkedMessages(2);
+        // Assert
+        Assertions.assertEquals(2, result);
+        var properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel, times(2)).basicPublish(eq("stock-exchange"), eq("stock-key"), properties.capture(), eq(parked.getBody()));
+        Assertions.assertFalse(properties.getValue().getHeaders().containsKey(BookStockDeadLetterService.RETRY_COUNT_HEADER));
+        Assertions.assertEquals("json", properties.getValue().getContentType());
+        verify(channel, times(2)).basicAck(7, false);
+    }
+
+    @Test
+    public void givenUnconfirmedRepublish_whenReplaying_thenRequeuesAndFails() throws Exception {
+        // Arrange
+        when(channel.basicGet("stock.dead-letter", false)).thenReturn(parked(2));
+        when(channel.waitForConfirms(5000)).thenReturn(false);
+        when(channel.isOpen()).thenReturn(true);
+        // Act
+        Assertions.assertThrows(AmqpException.class, () -> service.replayParkedMessages(10));
+        // Assert
+        verify(channel, times(1)).basicNack(7, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void givenEmptyDeadLetterQueue_whenReplaying_thenReturnsZero() throws Exception {
+        // Arrange
+        when(channel.basicGet("stock.dead-letter", false)).thenReturn(null);
+        // Act
+        var result = service.replayParkedMessages(10);
+        // Assert
+        Assertions.assertEquals(0, result);
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(AMQP.BasicProperties.class), any(byte[].class));
+    }
+
+    @Test
+    public void givenParkedMessages_whenCounting_thenReturnsQueueDepth() {
+        // Arrange
+        when(amqpAdmin.getQueueInfo("stock.dead-letter")).thenReturn(new QueueInformation("stock.dead-letter", 12, 0));
+        // Act
+        var result = service.countParkedMessages();
+        // Assert
+        Assertions.assertEquals(12, result);
+    }
+
+    private static GetResponse parked(int retryCount) {
+
+        var properties = new AMQP.BasicProperties.Builder()
+                .contentType("json")
+                .headers(Map.of(BookStockDeadLetterService.RETRY_COUNT_HEADER, retryCount))
+                .build();
+        return new GetResponse(new Envelope(7, false, "dead-letter-exchange", "stock.dead-letter"), properties, new byte[]{1}, 0);
+    }
+}
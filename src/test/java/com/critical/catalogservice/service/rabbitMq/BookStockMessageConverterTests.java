@@ -0,0 +1,83 @@
+package com.critical.catalogservice.service.rabbitMq;
+
+import com.critical.catalogservice.data.event.UpdateBookStockEvent;
+import com.critical.catalogservice.service.rabbitMq.converter.BookStockEventCodec;
+import com.critical.catalogservice.service.rabbitMq.converter.BookStockMessageConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import static org.junit.Assert.assertThrows;
+
+public class BookStockMessageConverterTests {
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+
+    @Test
+    public void givenBinaryEnabled_whenConvertingEvent_thenRoundTripsThroughCompactBody() {
+        // Arrange
+        var converter = new BookStockMessageConverter(jsonConverter, true);
+        var event = new UpdateBookStockEvent(Integer.MAX_VALUE, -42);
+        // Act
+        var message = converter.toMessage(event, new MessageProperties());
+        var result = (UpdateBookStockEvent) converter.fromMessage(message);
+        // Assert
+        Assertions.assertEquals(BookStockMessageConverter.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        Assertions.assertTrue(message.getBody().length <= BookStockEventCodec.MAX_ENCODED_SIZE);
+        Assertions.assertEquals(event.bookId, result.bookId);
+        Assertions.assertEquals(event.stock, result.stock);
+    }
+
+    @Test
+    public void givenEventsAtTheVarIntBounds_whenEncoding_thenTakeThreeToElevenBytes() {
+        // Act
+        var smallest = BookStockEventCodec.encode(new UpdateBookStockEvent(0, 0));
+        var typical = BookStockEventCodec.encode(new UpdateBookStockEvent(1_048_575, -8_192));
+        var largest = BookStockEventCodec.encode(new UpdateBookStockEvent(Integer.MIN_VALUE, Integer.MIN_VALUE));
+        // Assert
+        Assertions.assertEquals(3, smallest.length);
+        Assertions.assertEquals(6, typical.length);
+        Assertions.assertEquals(11, largest.length);
+        Assertions.assertEquals(BookStockEventCodec.MAX_ENCODED_SIZE, largest.length);
+    }
+
+    @Test
+    public void givenBinaryDisabled_whenConvertingEvent_thenFallsBackToJson() {
+        // Arrange
+        var converter = new BookStockMessageConverter(jsonConverter, false);
+        var event = new UpdateBookStockEvent(7, 3);
+        // Act
+        var message = converter.toMessage(event, new MessageProperties());
+        // Assert
+        Assertions.assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+    }
+
+    @Test
+    public void givenJsonMessage_whenBinaryConsumer_thenDecodesWithJsonFallback() {
+        // Arrange
+        var producer = new BookStockMessageConverter(jsonConverter, false);
+        var consumer = new BookStockMessageConverter(jsonConverter, true);
+        var message = producer.toMessage(new UpdateBookStockEvent(7, 3), new MessageProperties());
+        // Act
+        var result = (UpdateBookStockEvent) consumer.fromMessage(message);
+        // Assert
+        Assertions.assertEquals(7, result.bookId);
+        Assertions.assertEquals(3, result.stock);
+    }
+
+    @Test
+    public void givenUnknownVersion_whenDecoding_thenThrowException() {
+        // Arrange
+        var converter = new BookStockMessageConverter(jsonConverter, true);
+        var properties = new MessageProperties();
+        properties.setContentType(BookStockMessageConverter.CONTENT_TYPE);
+        var message = new Message(new byte[]{9, 2, 4}, properties);
+        // Act
+        Exception exception = assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+        // Assert
+        Assertions.assertEquals("Unsupported book stock message version: 9", exception.getMessage());
+    }
+}
@@ -0,0 +1,56 @@
+package com.critical.catalogservice.service.rabbitMq;
+
+import com.critical.catalogservice.config.MetricsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+
+import java.net.ConnectException;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+public class StockQueueMonitorTests {
+
+    private AmqpAdmin amqpAdmin;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StockQueueMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+
+        amqpAdmin = mock(AmqpAdmin.class);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new StockQueueMonitor(amqpAdmin, meterRegistry, "stock", Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenBacklog_whenChecked_thenDepthAndConsumersPublished() {
+        // Arrange
+        when(amqpAdmin.getQueueInfo("stock")).thenReturn(new QueueInformation("stock", 42, 1));
+        // Act
+        monitor.check();
+        // Assert
+        Assertions.assertEquals(42.0, meterRegistry.get(MetricsConfig.STOCK_QUEUE_DEPTH).tag("queue", "stock").gauge().value());
+        Assertions.assertEquals(1.0, meterRegistry.get(MetricsConfig.STOCK_QUEUE_CONSUMERS).tag("queue", "stock").gauge().value());
+    }
+
+    @Test
+    public void givenUnreachableBroker_whenChecked_thenGaugesAreNaN() {
+        // Arrange
+        when(amqpAdmin.getQueueInfo("stock")).thenReturn(new QueueInformation("stock", 42, 1))
+                .thenThrow(new AmqpConnectException(new ConnectException("Connection refused")));
+        monitor.check();
+        // Act
+        monitor.check();
+        // Assert
+        Assertions.assertTrue(Double.isNaN(monitor.getDepth()));
+        Assertions.assertTrue(Double.isNaN(monitor.getConsumers()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.critical.catalogservice.service.tag;
 
 import com.critical.catalogservice.data.entity.Tag;
+import com.critical.catalogservice.data.repository.BookSearchRepository;
 import com.critical.catalogservice.data.repository.TagRepository;
 import com.critical.catalogservice.dtos.TagDto;
 import com.critical.catalogservice.util.exception.EntityNullException;
@@ -33,7 +34,7 @@ public class TagServiceTests {
 
         logCaptor = LogCaptor.forClass(TagService.class);
         repository = mock(TagRepository.class);
-        service = new TagService(this.repository);
+        service = new TagService(this.repository, mock(BookSearchRepository.class));
     }
 
     @Test
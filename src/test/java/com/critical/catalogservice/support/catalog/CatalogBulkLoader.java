@@ -0,0 +1,161 @@
+package com.critical.catalogservice.support.catalog;
+
+import com.critical.catalogservice.data.repository.BookSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.IntFunction;
+
+/**
+ * Loads a generated catalog into an empty H2 or PostgreSQL schema with JDBC batches, committing once per
+ * batch. Ids are written explicitly and the identity columns are restarted afterwards, so the application
+ * can keep inserting on top of the loaded catalog. On PostgreSQL add {@code reWriteBatchedInserts=true} to
+ * the JDBC url for multi-row inserts. The {@code book_search} read model is filled in one statement at the end.
+ */
+public class CatalogBulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogBulkLoader.class);
+
+    private final DataSource dataSource;
+
+    private final int batchSize;
+
+    public CatalogBulkLoader(DataSource dataSource, int batchSize) {
+
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+    }
+
+    public void load(CatalogGenerator generator) throws SQLException {
+
+        var size = generator.getSize();
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            var overriding = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres") ? " OVERRIDING SYSTEM VALUE" : "";
+
+            insertReferences(connection, "INSERT INTO author (id, name, original_name, date_of_birth, place_of_birth)" + overriding + " VALUES (?, ?, ?, DATE '1950-01-01', 'Unknown')",
+                    size.authors, generator::authorName, true);
+            insertReferences(connection, "INSERT INTO publisher (id, name)" + overriding + " VALUES (?, ?)", size.publishers, generator::publisherName, false);
+            insertReferences(connection, "INSERT INTO genre (id, name)" + overriding + " VALUES (?, ?)", size.genres, generator::genreName, false);
+            insertReferences(connection, "INSERT INTO tag (id, name)" + overriding + " VALUES (?, ?)", size.tags, generator::tagName, false);
+            insertReferences(connection, "INSERT INTO format (id, name)" + overriding + " VALUES (?, ?)", size.formats, generator::formatName, false);
+            try (var statement = connection.prepareStatement("INSERT INTO language (id, name, culture)" + overriding + " VALUES (?, ?, ?)")) {
+                for (var id = 1; id <= size.languages; id++) {
+                    statement.setInt(1, id);
+                    statement.setString(2, generator.languageName(id));
+                    statement.setString(3, generator.languageCulture(id));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            connection.commit();
+
+            insertBooks(connection, generator, overriding);
+            try (var statement = connection.createStatement()) {
+                statement.executeUpdate(BookSearchRepository.INSERT);
+            }
+            connection.commit();
+
+            for (var table : new String[]{"author", "publisher", "genre", "tag", "format", "language", "book"}) {
+                restartIdentity(connection, table);
+            }
+            connection.commit();
+        }
+    }
+
+    private void insertReferences(Connection connection, String sql, int count, IntFunction<String> name, boolean withOriginalName) throws SQLException {
+
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var id = 1; id <= count; id++) {
+                statement.setInt(1, id);
+                statement.setString(2, name.apply(id));
+                if (withOriginalName) {
+                    statement.setString(3, name.apply(id));
+                }
+                statement.addBatch();
+                if (id % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertBooks(Connection connection, CatalogGenerator generator, String overriding) throws SQLException {
+
+        var books = generator.getSize().books;
+        try (var book = connection.prepareStatement("INSERT INTO book (id, title, original_title, isbn, edition, release_date, edition_date, "
+                + "price, promotional_price, is_series, availability, synopsis, stock_available, created_on, updated_on, publisher_id)" + overriding
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             var author = connection.prepareStatement("INSERT INTO bookauthor (book_id, author_id) VALUES (?, ?)");
+             var language = connection.prepareStatement("INSERT INTO booklanguage (book_id, language_id) VALUES (?, ?)");
+             var genre = connection.prepareStatement("INSERT INTO bookgenre (book_id, genre_id) VALUES (?, ?)");
+             var tag = connection.prepareStatement("INSERT INTO booktag (book_id, tag_id) VALUES (?, ?)");
+             var format = connection.prepareStatement("INSERT INTO bookformat (book_id, format_id) VALUES (?, ?)")) {
+            var createdOn = Timestamp.from(Instant.now());
+            var started = System.nanoTime();
+            for (var id = 1; id <= books; id++) {
+                var generated = generator.book(id);
+                book.setInt(1, generated.id);
+                book.setString(2, generated.title);
+                book.setString(3, generated.originalTitle);
+                book.setString(4, generated.isbn);
+                book.setString(5, generated.edition);
+                book.setDate(6, generated.releaseDate);
+                book.setDate(7, generated.editionDate);
+                book.setFloat(8, generated.price);
+                book.setFloat(9, generated.promotionalPrice);
+                book.setBoolean(10, generated.isSeries);
+                book.setInt(11, generated.availability);
+                book.setString(12, generated.synopsis);
+                book.setInt(13, generated.stockAvailable);
+                book.setTimestamp(14, createdOn);
+                book.setTimestamp(15, createdOn);
+                book.setInt(16, generated.publisherId);
+                book.addBatch();
+                addLinks(author, id, generated.authorIds);
+                addLinks(language, id, generated.languageIds);
+                addLinks(genre, id, generated.genreIds);
+                addLinks(tag, id, generated.tagIds);
+                addLinks(format, id, generated.formatIds);
+                if (id % batchSize == 0 || id == books) {
+                    book.executeBatch();
+                    author.executeBatch();
+                    language.executeBatch();
+                    genre.executeBatch();
+                    tag.executeBatch();
+                    format.executeBatch();
+                    connection.commit();
+                }
+                if (id % 100_000 == 0) {
+                    logger.info("Loaded " + id + " of " + books + " books in " + (System.nanoTime() - started) / 1_000_000 + "ms");
+                }
+            }
+        }
+    }
+
+    private static void addLinks(PreparedStatement statement, int bookId, int[] referenceIds) throws SQLException {
+
+        for (var referenceId : referenceIds) {
+            statement.setInt(1, bookId);
+            statement.setInt(2, referenceId);
+            statement.addBatch();
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table) throws SQLException {
+
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + resultSet.getLong(1));
+        }
+    }
+}
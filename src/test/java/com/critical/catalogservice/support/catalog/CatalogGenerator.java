@@ -0,0 +1,234 @@
+package com.critical.catalogservice.support.catalog;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of realistic book catalogs.
+ * <p>
+ * Every book is derived from the seed and its own id only, so {@link #book(int)} returns the same row for
+ * the same seed regardless of how many books are generated or in which order. Authors, genres, tags,
+ * languages and publishers are picked from Zipf distributions, so reference id 1 is the most popular one,
+ * prices follow a log-normal distribution around 15 and synopses are assembled from a fixed vocabulary.
+ */
+public class CatalogGenerator {
+
+    private static final String[] FIRST_NAMES = {"Ana", "John", "Maria", "Pedro", "Sofia", "James", "Ines", "Robert", "Clara", "Miguel",
+            "Emma", "David", "Beatriz", "Thomas", "Laura", "Rui", "Olivia", "Daniel", "Marta", "Henry", "Alice", "Tiago", "Grace", "Samuel",
+            "Helena", "Lucas", "Joana", "Arthur", "Rita", "Oscar", "Leonor", "Victor", "Eva", "Hugo", "Isabel", "Simon", "Nora", "Duarte",
+            "Julia", "Felix"};
+
+    private static final String[] LAST_NAMES = {"Silva", "Smith", "Santos", "Brown", "Ferreira", "Taylor", "Pereira", "Wilson", "Costa",
+            "Evans", "Oliveira", "Walker", "Rodrigues", "Wright", "Martins", "Hughes", "Sousa", "Green", "Fernandes", "Hall", "Gomes",
+            "Wood", "Lopes", "Clarke", "Marques", "Turner", "Alves", "Hill", "Almeida", "Moore", "Ribeiro", "Cooper", "Pinto", "Ward",
+            "Carvalho", "King", "Teixeira", "Baker", "Moreira", "Price", "Correia", "Bell", "Mendes", "Reid", "Nunes", "Scott", "Soares",
+            "Murray", "Vieira", "Gray"};
+
+    private static final String[] GENRES = {"Fiction", "Mystery", "Thriller", "Romance", "Fantasy", "Science Fiction", "Horror",
+            "Historical Fiction", "Biography", "Memoir", "History", "Poetry", "Drama", "Young Adult", "Children", "Graphic Novel",
+            "Self-Help", "Business", "Psychology", "Philosophy", "Science", "Travel", "Cooking", "Art", "Religion", "Politics",
+            "True Crime", "Humor", "Adventure", "Classics", "Short Stories", "Essays", "Health", "Sports", "Music", "Nature",
+            "Technology", "Education", "Economics", "Dystopian"};
+
+    private static final String[][] LANGUAGES = {{"English", "en-GB"}, {"Portuguese", "pt-PT"}, {"Spanish", "es-ES"}, {"French", "fr-FR"},
+            {"German", "de-DE"}, {"Italian", "it-IT"}, {"Dutch", "nl-NL"}, {"Japanese", "ja-JP"}, {"Chinese", "zh-CN"},
+            {"Russian", "ru-RU"}, {"Polish", "pl-PL"}, {"Swedish", "sv-SE"}};
+
+    private static final String[] FORMATS = {"Paperback", "Hardcover", "Ebook", "Audiobook", "Mass Market Paperback", "Large Print"};
+
+    private static final String[] PUBLISHER_WORDS = {"Penguin", "Harbour", "Lighthouse", "Atlas", "Meridian", "Oak", "Granite",
+            "Falcon", "Tagus", "Northern", "Blue Door", "Quill", "Lantern", "Riverside", "Compass", "Silver", "Crown", "Orchard"};
+
+    private static final String[] PUBLISHER_SUFFIXES = {"Books", "Press", "Publishing", "House", "Editions", "& Sons"};
+
+    private static final String[] ADJECTIVES = {"Silent", "Last", "Hidden", "Broken", "Golden", "Forgotten", "Dark", "Little", "Endless",
+            "Secret", "Burning", "Quiet", "Lost", "Wild", "Distant", "Crimson", "Frozen", "Restless", "Bitter", "Shining"};
+
+    private static final String[] NOUNS = {"River", "City", "Garden", "Empire", "Letter", "House", "Sea", "Winter", "Kingdom", "Road",
+            "Mirror", "Island", "Storm", "Promise", "Night", "Orchard", "Harbour", "Crown", "Forest", "Station", "Door", "Summer"};
+
+    private static final String[] TAG_WORDS = {"bestseller", "award-winning", "debut", "series", "classic", "family", "friendship",
+            "war", "love", "coming-of-age", "small-town", "detective", "magic", "space", "dragons", "revenge", "survival", "politics",
+            "travel", "food", "music", "art", "sea", "mountains", "nineteenth-century", "medieval", "future", "post-apocalyptic",
+            "time-travel", "heist"};
+
+    private static final String[] SUBJECTS = {"A young widow", "An ageing detective", "Two estranged sisters", "A reluctant heir",
+            "A disgraced scientist", "The last lighthouse keeper", "A travelling musician", "A family of fishermen", "A retired spy",
+            "A gifted orphan"};
+
+    private static final String[] VERBS = {"uncovers", "returns to", "fights for", "escapes from", "searches for", "inherits",
+            "is haunted by", "must protect", "falls in love with", "sets out to rebuild"};
+
+    private static final String[] OBJECTS = {"a village with a dark past", "a fortune nobody knew existed", "the truth about her mother",
+            "a kingdom on the brink of war", "a city that never forgives", "the letters of a dead poet", "an island cut off by the storm",
+            "the ruins of the family business", "a secret buried for forty years", "a crew of unlikely allies"};
+
+    private static final String[] CLOSINGS = {"Nothing will ever be the same.", "The price of the truth may be too high.",
+            "Time is running out.", "Some doors are better left closed.", "Hope is found in the most unexpected places.",
+            "Every choice has a cost.", "A gripping story of loyalty and betrayal.", "A moving portrait of a family in crisis."};
+
+    private static final String[] EDITIONS = {"1st", "2nd", "3rd", "Revised", "Anniversary", "Collector's"};
+
+    private static final LocalDate FIRST_RELEASE = LocalDate.of(1900, 1, 1);
+
+    private final long seed;
+
+    private final CatalogSize size;
+
+    private final ZipfDistribution authors;
+
+    private final ZipfDistribution publishers;
+
+    private final ZipfDistribution genres;
+
+    private final ZipfDistribution tags;
+
+    private final ZipfDistribution languages;
+
+    private final ZipfDistribution formats;
+
+    public CatalogGenerator(CatalogSize size, long seed) {
+
+        this.size = size;
+        this.seed = seed;
+        this.authors = new ZipfDistribution(size.authors, size.zipfExponent);
+        this.publishers = new ZipfDistribution(size.publishers, size.zipfExponent);
+        this.genres = new ZipfDistribution(size.genres, size.zipfExponent);
+        this.tags = new ZipfDistribution(size.tags, size.zipfExponent);
+        this.languages = new ZipfDistribution(size.languages, 2.0);
+        this.formats = new ZipfDistribution(size.formats, 1.5);
+    }
+
+    public CatalogSize getSize() {
+
+        return size;
+    }
+
+    public String authorName(int id) {
+
+        var index = id - 1;
+        var name = FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        var round = index / (FIRST_NAMES.length * LAST_NAMES.length);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    public String publisherName(int id) {
+
+        return numbered(PUBLISHER_WORDS[(id - 1) % PUBLISHER_WORDS.length] + " " + PUBLISHER_SUFFIXES[((id - 1) / PUBLISHER_WORDS.length) % PUBLISHER_SUFFIXES.length],
+                (id - 1) / (PUBLISHER_WORDS.length * PUBLISHER_SUFFIXES.length));
+    }
+
+    public String genreName(int id) {
+
+        return numbered(GENRES[(id - 1) % GENRES.length], (id - 1) / GENRES.length);
+    }
+
+    public String tagName(int id) {
+
+        var index = id - 1;
+        var word = TAG_WORDS[index % TAG_WORDS.length];
+        var round = index / TAG_WORDS.length;
+        return round == 0 ? word : word + "-" + NOUNS[(round - 1) % NOUNS.length].toLowerCase() + (round > NOUNS.length ? "-" + round : "");
+    }
+
+    public String languageName(int id) {
+
+        return numbered(LANGUAGES[(id - 1) % LANGUAGES.length][0], (id - 1) / LANGUAGES.length);
+    }
+
+    public String languageCulture(int id) {
+
+        return LANGUAGES[(id - 1) % LANGUAGES.length][1];
+    }
+
+    public String formatName(int id) {
+
+        return numbered(FORMATS[(id - 1) % FORMATS.length], (id - 1) / FORMATS.length);
+    }
+
+    public GeneratedBook book(int id) {
+
+        var random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + id);
+        var book = new GeneratedBook();
+        book.id = id;
+        book.title = title(random);
+        book.originalTitle = random.nextInt(5) == 0 ? title(random) : book.title;
+        book.isbn = isbn(id);
+        book.edition = EDITIONS[Math.min(EDITIONS.length - 1, (int) (-Math.log(1 - random.nextDouble()) * 0.8))];
+        var released = FIRST_RELEASE.plusDays(release(random));
+        book.releaseDate = Date.valueOf(released);
+        book.editionDate = Date.valueOf(released.plusDays(random.nextInt(3) == 0 ? random.nextInt(3650) : 0));
+        book.price = price(random);
+        book.promotionalPrice = random.nextInt(100) < 15 ? Math.round(book.price * (0.6f + random.nextFloat() * 0.3f) * 100) / 100f : 0f;
+        book.isSeries = random.nextInt(100) < 18;
+        book.availability = availability(random);
+        book.synopsis = synopsis(random);
+        book.stockAvailable = book.availability == 3 ? (int) (-Math.log(1 - random.nextDouble()) * 40) : 0;
+        book.publisherId = publishers.sample(random);
+        book.authorIds = authors.sampleDistinct(random, random.nextInt(100) < 85 ? 1 : 2 + random.nextInt(2));
+        book.languageIds = languages.sampleDistinct(random, random.nextInt(100) < 95 ? 1 : 2);
+        book.genreIds = genres.sampleDistinct(random, 1 + random.nextInt(3));
+        book.tagIds = tags.sampleDistinct(random, 2 + random.nextInt(5));
+        book.formatIds = formats.sampleDistinct(random, 1 + random.nextInt(3));
+        return book;
+    }
+
+    private static String numbered(String name, int round) {
+
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private static String title(SplittableRandom random) {
+
+        var noun = NOUNS[random.nextInt(NOUNS.length)];
+        return switch (random.nextInt(4)) {
+            case 0 -> "The " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + noun;
+            case 1 -> "The " + noun + " of " + NOUNS[random.nextInt(NOUNS.length)] + "s";
+            case 2 -> ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + noun + "s";
+            default -> "A " + noun + " in " + NOUNS[random.nextInt(NOUNS.length)];
+        };
+    }
+
+    private static String isbn(int id) {
+
+        var digits = String.format("978%09d", id % 1_000_000_000);
+        var sum = 0;
+        for (var index = 0; index < digits.length(); index++) {
+            sum += (digits.charAt(index) - '0') * (index % 2 == 0 ? 1 : 3);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+
+    private static long release(SplittableRandom random) {
+
+        // skewed towards recent years, as most catalogs are
+        var days = FIRST_RELEASE.until(LocalDate.of(2026, 1, 1)).toTotalMonths() * 30;
+        return (long) (days * Math.sqrt(random.nextDouble()));
+    }
+
+    private static float price(SplittableRandom random) {
+
+        var gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        var price = Math.exp(Math.log(15) + 0.55 * gaussian);
+        return (float) (Math.floor(Math.min(150, Math.max(3, price))) + 0.99);
+    }
+
+    private static int availability(SplittableRandom random) {
+
+        var draw = random.nextInt(100);
+        return draw < 80 ? 3 : draw < 88 ? 2 : draw < 96 ? 1 : 0;
+    }
+
+    private static String synopsis(SplittableRandom random) {
+
+        var synopsis = new StringBuilder();
+        var sentences = 2 + random.nextInt(4);
+        for (var sentence = 0; sentence < sentences; sentence++) {
+            synopsis.append(SUBJECTS[random.nextInt(SUBJECTS.length)]).append(' ')
+                    .append(VERBS[random.nextInt(VERBS.length)]).append(' ')
+                    .append(OBJECTS[random.nextInt(OBJECTS.length)]).append(". ");
+        }
+        return synopsis.append(CLOSINGS[random.nextInt(CLOSINGS.length)]).toString();
+    }
+}
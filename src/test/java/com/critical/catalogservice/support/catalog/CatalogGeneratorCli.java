@@ -0,0 +1,40 @@
+package com.critical.catalogservice.support.catalog;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.HashMap;
+
+/**
+ * Loads a generated catalog into an existing, empty schema:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.critical.catalogservice.support.catalog.CatalogGeneratorCli \
+ *     -Dexec.args="--url=jdbc:postgresql://localhost:5432/bookCatalog?reWriteBatchedInserts=true --user=postgres --password=postgres --books=1000000 --seed=42"
+ * </pre>
+ */
+public class CatalogGeneratorCli {
+
+    public static void main(String[] args) throws Exception {
+
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Arguments must look like --name=value: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        if (!options.containsKey("url")) {
+            throw new IllegalArgumentException("Missing --url");
+        }
+
+        var dataSource = new DriverManagerDataSource(options.get("url"), options.getOrDefault("user", ""), options.getOrDefault("password", ""));
+        var size = CatalogSize.of(Integer.parseInt(options.getOrDefault("books", "100000")));
+        var generator = new CatalogGenerator(size, Long.parseLong(options.getOrDefault("seed", "42")));
+
+        var started = System.nanoTime();
+        new CatalogBulkLoader(dataSource, Integer.parseInt(options.getOrDefault("batch-size", "1000"))).load(generator);
+        System.out.println("Loaded " + size.books + " books, " + size.authors + " authors and " + size.publishers + " publishers in "
+                + (System.nanoTime() - started) / 1_000_000 + "ms");
+    }
+}
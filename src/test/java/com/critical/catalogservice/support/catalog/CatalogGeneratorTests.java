@@ -0,0 +1,77 @@
+package com.critical.catalogservice.support.catalog;
+
+import com.critical.catalogservice.data.entity.Book;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogGeneratorTests {
+
+    @Test
+    public void givenSameSeed_whenGeneratingBook_thenReturnsSameBook() {
+        // Arrange
+        var first = new CatalogGenerator(CatalogSize.of(1000), 7);
+        var second = new CatalogGenerator(CatalogSize.of(1000), 7);
+        // Act
+        var book = first.book(321);
+        var sameBook = second.book(321);
+        // Assert
+        assertThat(sameBook).usingRecursiveComparison().isEqualTo(book);
+        assertThat(new CatalogGenerator(CatalogSize.of(1000), 8).book(321)).usingRecursiveComparison().isNotEqualTo(book);
+    }
+
+    @Test
+    public void givenGeneratedBooks_whenCheckingFields_thenFitTheSchema() {
+        // Arrange
+        var generator = new CatalogGenerator(CatalogSize.of(5000), 42);
+        // Act & Assert
+        for (var id = 1; id <= 5000; id++) {
+            var book = generator.book(id);
+            assertThat(book.title.length()).isLessThanOrEqualTo(100);
+            assertThat(book.synopsis.length()).isLessThanOrEqualTo(1000);
+            assertThat(book.isbn).hasSize(13);
+            assertThat(book.price).isBetween(3f, 151f);
+            assertThat(book.promotionalPrice).isLessThan(book.price);
+            assertThat(book.authorIds).isNotEmpty().doesNotHaveDuplicates();
+            assertThat(book.tagIds).hasSizeGreaterThanOrEqualTo(2).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    public void givenZipfDistribution_whenSampling_thenLowRanksDominate() {
+        // Arrange
+        var distribution = new ZipfDistribution(1000, 1.07);
+        var random = new SplittableRandom(42);
+        var counts = new int[1001];
+        // Act
+        for (var draw = 0; draw < 100_000; draw++) {
+            counts[distribution.sample(random)]++;
+        }
+        // Assert
+        assertThat(counts[1]).isGreaterThan(counts[10] * 5);
+        assertThat(counts[10]).isGreaterThan(counts[500]);
+    }
+
+    @Test
+    public void givenGeneratedCatalog_whenBulkLoadedIntoH2_thenEveryRowIsLoaded() throws Exception {
+        // Arrange & Act
+        try (var catalog = new H2BookCatalog("catalogGenerator", 2000, 42)) {
+            var size = catalog.getGenerator().getSize();
+            try (var connection = catalog.getDataSource().getConnection(); var statement = connection.createStatement()) {
+                // Assert
+                var resultSet = statement.executeQuery("SELECT (SELECT COUNT(*) FROM book), (SELECT COUNT(*) FROM author), (SELECT COUNT(DISTINCT book_id) FROM booktag)");
+                resultSet.next();
+                assertThat(resultSet.getInt(1)).isEqualTo(2000);
+                assertThat(resultSet.getInt(2)).isEqualTo(size.authors);
+                assertThat(resultSet.getInt(3)).isEqualTo(2000);
+            }
+            var entityManager = catalog.getEntityManagerFactory().createEntityManager();
+            var book = entityManager.find(Book.class, 1);
+            assertThat(book.getTitle()).isEqualTo(catalog.getGenerator().book(1).title);
+            assertThat(book.getAuthors()).hasSize(catalog.getGenerator().book(1).authorIds.length);
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.critical.catalogservice.support.catalog;
+
+/**
+ * Number of rows per table of a generated catalog. {@link #of(int)} scales the reference tables with the
+ * number of books the way a real catalog does: many authors, fewer publishers, a fixed vocabulary of tags
+ * and genres.
+ */
+public class CatalogSize {
+
+    public final int books;
+
+    public final int authors;
+
+    public final int publishers;
+
+    public final int genres;
+
+    public final int tags;
+
+    public final int languages;
+
+    public final int formats;
+
+    public final double zipfExponent;
+
+    public CatalogSize(int books, int authors, int publishers, int genres, int tags, int languages, int formats, double zipfExponent) {
+
+        this.books = books;
+        this.authors = authors;
+        this.publishers = publishers;
+        this.genres = genres;
+        this.tags = tags;
+        this.languages = languages;
+        this.formats = formats;
+        this.zipfExponent = zipfExponent;
+    }
+
+    public static CatalogSize of(int books) {
+
+        return new CatalogSize(books, Math.max(50, books / 8), Math.max(20, books / 400), 40, 400, 12, 6, 1.07);
+    }
+}
@@ -0,0 +1,47 @@
+package com.critical.catalogservice.support.catalog;
+
+import java.sql.Date;
+
+/**
+ * One book row of a generated catalog with the ids of its reference rows.
+ */
+public class GeneratedBook {
+
+    public int id;
+
+    public String title;
+
+    public String originalTitle;
+
+    public String isbn;
+
+    public String edition;
+
+    public Date releaseDate;
+
+    public Date editionDate;
+
+    public float price;
+
+    public float promotionalPrice;
+
+    public boolean isSeries;
+
+    public int availability;
+
+    public String synopsis;
+
+    public int stockAvailable;
+
+    public int publisherId;
+
+    public int[] authorIds;
+
+    public int[] languageIds;
+
+    public int[] genreIds;
+
+    public int[] tagIds;
+
+    public int[] formatIds;
+}
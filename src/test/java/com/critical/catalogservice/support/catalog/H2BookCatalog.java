@@ -0,0 +1,90 @@
+package com.critical.catalogservice.support.catalog;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory H2 catalog for benchmarks and tests: the schema comes from the {@code db/h2migration} scripts used
+ * by the repository tests, the rows come from {@link CatalogGenerator} through {@link CatalogBulkLoader} and
+ * Hibernate is bootstrapped on top without a Spring context.
+ */
+public class H2BookCatalog implements AutoCloseable {
+
+    private final JdbcDataSource dataSource;
+
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    private final CatalogGenerator generator;
+
+    public H2BookCatalog(String name, int books, long seed) throws SQLException {
+
+        this(name, books, seed, UnaryOperator.identity());
+    }
+
+    /**
+     * @param jpaDataSource decorates the datasource Hibernate uses, e.g. with a proxy listening to the statements
+     */
+    public H2BookCatalog(String name, int books, long seed, UnaryOperator<DataSource> jpaDataSource) throws SQLException {
+
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        createSchema();
+        generator = new CatalogGenerator(CatalogSize.of(books), seed);
+        new CatalogBulkLoader(dataSource, 1000).load(generator);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(jpaDataSource.apply(dataSource));
+        entityManagerFactoryBean.setPackagesToScan("com.critical.catalogservice.data.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy", "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+        entityManagerFactoryBean.afterPropertiesSet();
+    }
+
+    public CatalogGenerator getGenerator() {
+
+        return generator;
+    }
+
+    public DataSource getDataSource() {
+
+        return dataSource;
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+
+        return entityManagerFactoryBean.getObject();
+    }
+
+    @Override
+    public void close() throws SQLException {
+
+        entityManagerFactoryBean.destroy();
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    private void createSchema() {
+
+        var populator = new ResourceDatabasePopulator();
+        for (var script : new String[]{"V1__create_author_table", "V2__create_publisher_table", "V3__create_bookformat_table",
+                "V4__create_genre_table", "V5__create_language_table", "V6__create_book_table", "V7__create_tag_table",
+                "V8__create_relations_tables", "V9__create_book_search_table", "V10__create_search_and_join_indexes", "V11__create_book_change_feed",
+                "V12__drop_write_heavy_book_indexes"}) {
+            populator.addScript(new ClassPathResource("db/h2migration/" + script + ".sql"));
+        }
+        populator.execute(dataSource);
+    }
+}
@@ -0,0 +1,60 @@
+package com.critical.catalogservice.support.catalog;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over ranks {@code 1..size}: rank {@code k} is drawn with a probability proportional to
+ * {@code 1 / k^exponent}, so a few authors, tags and genres account for most of the catalog.
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int size, double exponent) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be greater than zero");
+        }
+        cumulative = new double[size];
+        var total = 0.0;
+        for (var rank = 1; rank <= size; rank++) {
+            total += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (var index = 0; index < size; index++) {
+            cumulative[index] /= total;
+        }
+    }
+
+    public int size() {
+
+        return cumulative.length;
+    }
+
+    public int sample(SplittableRandom random) {
+
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1) + 1;
+    }
+
+    /**
+     * Draws {@code count} distinct ranks, or every rank when the distribution has fewer.
+     */
+    public int[] sampleDistinct(SplittableRandom random, int count) {
+
+        var ranks = new int[Math.min(count, cumulative.length)];
+        var drawn = 0;
+        while (drawn < ranks.length) {
+            var rank = sample(random);
+            var duplicate = false;
+            for (var index = 0; index < drawn; index++) {
+                duplicate |= ranks[index] == rank;
+            }
+            if (!duplicate) {
+                ranks[drawn++] = rank;
+            }
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,79 @@
+package com.critical.catalogservice.util.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadYourWritesFilterTests {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    public void givenWriteRequest_whenFiltered_thenRequestUsesPrimaryAndClientGetsWindowCookie() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("POST", "/v1/api/books");
+        var response = new MockHttpServletResponse();
+        var stuck = new AtomicBoolean();
+        // Act
+        filter.doFilter(request, response, chain(stuck));
+        // Assert
+        assertThat(stuck).isTrue();
+        assertThat(ReadYourWrites.isStuckToPrimary()).isFalse();
+        var cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    public void givenReadWithinWindow_whenFiltered_thenRequestUsesPrimary() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", "/v1/api/books/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 3000)));
+        var stuck = new AtomicBoolean();
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain(stuck));
+        // Assert
+        assertThat(stuck).isTrue();
+    }
+
+    @Test
+    public void givenReadAfterWindow_whenFiltered_thenRequestMayUseReplica() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", "/v1/api/books/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        var response = new MockHttpServletResponse();
+        var stuck = new AtomicBoolean(true);
+        // Act
+        filter.doFilter(request, response, chain(stuck));
+        // Assert
+        assertThat(stuck).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE)).isNull();
+    }
+
+    @Test
+    public void givenStuckRequest_whenTaskIsPropagated_thenTaskReadsFromPrimary() {
+        // Arrange
+        var stuck = new AtomicBoolean();
+        ReadYourWrites.stickToPrimary();
+        var task = ReadYourWrites.propagate(() -> stuck.set(ReadYourWrites.isStuckToPrimary()));
+        ReadYourWrites.clear();
+        // Act
+        task.run();
+        // Assert
+        assertThat(stuck).isTrue();
+        assertThat(ReadYourWrites.isStuckToPrimary()).isFalse();
+    }
+
+    private static FilterChain chain(AtomicBoolean stuck) {
+
+        return (request, response) -> stuck.set(ReadYourWrites.isStuckToPrimary());
+    }
+}
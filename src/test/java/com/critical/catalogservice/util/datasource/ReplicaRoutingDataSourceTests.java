@@ -0,0 +1,165 @@
+package com.critical.catalogservice.util.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingDataSourceTests {
+
+    private JdbcDataSource replica;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+
+        var primary = node("routingPrimary", "primary");
+        replica = node("routingReplica", "replica");
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT lag FROM node", Duration.ofSeconds(2));
+        lagMonitor.check();
+        meterRegistry = new SimpleMeterRegistry();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(ReplicaRoutingDataSource.lazy(new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry)));
+        entityManagerFactoryBean.setPackagesToScan("com.critical.catalogservice.data.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.afterPropertiesSet();
+        var entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+
+        ReadYourWrites.clear();
+        entityManagerFactoryBean.destroy();
+        for (var name : new String[]{"routingPrimary", "routingReplica"}) {
+            try (var connection = dataSource(name).getConnection(); var statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+        }
+    }
+
+    @Test
+    public void givenReadOnlyTransaction_whenQuerying_thenReadsFromReplica() {
+        // Act
+        var node = readOnly.execute(status -> currentNode());
+        // Assert
+        assertThat(node).isEqualTo("replica");
+        assertThat(meterRegistry.get("catalog.datasource.routed").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenReadOnlyTransaction_whenReadingFromReplica_thenDoesNotPutIntoSecondLevelCache() {
+        // Act
+        var replicaCacheMode = readOnly.execute(status -> {
+            currentNode();
+            return entityManager.unwrap(Session.class).getCacheMode();
+        });
+        ReadYourWrites.stickToPrimary();
+        var primaryCacheMode = readOnly.execute(status -> {
+            currentNode();
+            return entityManager.unwrap(Session.class).getCacheMode();
+        });
+        // Assert
+        assertThat(replicaCacheMode).isEqualTo(CacheMode.GET);
+        assertThat(primaryCacheMode).isEqualTo(CacheMode.NORMAL);
+    }
+
+    @Test
+    public void givenReadWriteTransaction_whenQuerying_thenUsesPrimary() {
+        // Act
+        var node = readWrite.execute(status -> currentNode());
+        // Assert
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    public void givenClientReadingItsWrites_whenReadOnlyTransaction_thenReadsFromPrimary() {
+        // Arrange
+        ReadYourWrites.stickToPrimary();
+        // Act
+        var node = readOnly.execute(status -> currentNode());
+        // Assert
+        assertThat(node).isEqualTo("primary");
+        assertThat(meterRegistry.get("catalog.datasource.routed").tag("reason", "read-your-writes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenLaggingReplica_whenReadOnlyTransaction_thenFallsBackToPrimary() throws SQLException {
+        // Arrange
+        try (var connection = replica.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("UPDATE node SET lag = 30");
+        }
+        lagMonitor.check();
+        // Act
+        var node = readOnly.execute(status -> currentNode());
+        // Assert
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.getLagSeconds()).isEqualTo(30.0);
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    public void givenUnreachableReplica_whenCheckingLag_thenReplicaIsNotUsable() {
+        // Arrange
+        var monitor = new ReplicaLagMonitor(replica, "SELECT lag FROM missing_table", Duration.ofSeconds(2));
+        // Act
+        monitor.check();
+        // Assert
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isNaN();
+    }
+
+    private String currentNode() {
+
+        return (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult();
+    }
+
+    private static JdbcDataSource node(String database, String name) throws SQLException {
+
+        var dataSource = dataSource(database);
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE node (name VARCHAR(20), lag INTEGER)");
+            statement.execute("INSERT INTO node VALUES ('" + name + "', 0)");
+        }
+        return dataSource;
+    }
+
+    private static JdbcDataSource dataSource(String database) {
+
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,108 @@
+package com.critical.catalogservice.util.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkloadRoutingDataSourceTests {
+
+    private WorkloadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+
+        var pools = new EnumMap<Workload, HikariDataSource>(Workload.class);
+        for (var workload : Workload.values()) {
+            pools.put(workload, pool(workload.getPoolName()));
+        }
+        dataSource = new WorkloadRoutingDataSource(pools);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        Workload.clear();
+        dataSource.close();
+    }
+
+    @Test
+    public void givenEachWorkload_whenGettingConnection_thenUsesItsOwnPool() throws SQLException {
+        // Act & Assert
+        for (var workload : Workload.values()) {
+            Workload.enter(workload);
+            assertThat(currentPool()).isEqualTo(workload.getPoolName());
+        }
+        Workload.clear();
+        assertThat(currentPool()).isEqualTo("jobs");
+    }
+
+    @Test
+    public void givenExhaustedMessagingPool_whenApiReads_thenReadsStillGetConnections() throws SQLException {
+        // Arrange
+        Workload.enter(Workload.MESSAGING);
+        try (var held = dataSource.getConnection()) {
+            // Act & Assert
+            assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+            Workload.enter(Workload.READ);
+            assertThat(currentPool()).isEqualTo("reads");
+        }
+    }
+
+    @Test
+    public void givenApiRequests_whenFiltered_thenClassifiedByMethod() throws Exception {
+        // Arrange
+        var filter = new WorkloadFilter();
+        var workload = new AtomicReference<Workload>();
+        FilterChain chain = (request, response) -> workload.set(Workload.current());
+        // Act & Assert
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/api/books/1"), new MockHttpServletResponse(), chain);
+        assertThat(workload.get()).isEqualTo(Workload.READ);
+        filter.doFilter(new MockHttpServletRequest("PUT", "/v1/api/books/1"), new MockHttpServletResponse(), chain);
+        assertThat(workload.get()).isEqualTo(Workload.WRITE);
+        assertThat(Workload.current()).isEqualTo(Workload.JOBS);
+    }
+
+    @Test
+    public void givenMissingPool_whenCreated_thenThrows() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadRoutingDataSource(Map.of(Workload.READ, dataSource.getPool(Workload.READ))));
+    }
+
+    private String currentPool() throws SQLException {
+
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT name FROM pool")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static HikariDataSource pool(String name) throws SQLException {
+
+        var pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:bulkhead-" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+        try (var connection = pool.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS pool (name VARCHAR(20))");
+            statement.execute("DELETE FROM pool");
+            statement.execute("INSERT INTO pool VALUES ('" + name + "')");
+        }
+        return pool;
+    }
+}
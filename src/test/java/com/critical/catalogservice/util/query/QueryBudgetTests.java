@@ -0,0 +1,115 @@
+package com.critical.catalogservice.util.query;
+
+import com.critical.catalogservice.util.exception.QueryBudgetExceededException;
+import nl.altindag.log.LogCaptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QueryBudgetTests {
+
+    private static LogCaptor logCaptor;
+
+    private QueryBudget budget;
+
+    @BeforeEach
+    void setUp() {
+
+        logCaptor = LogCaptor.forClass(QueryBudget.class);
+        budget = new QueryBudget();
+        ReflectionTestUtils.setField(budget, "mode", QueryBudget.Mode.LOG);
+        ReflectionTestUtils.setField(budget, "perRequest", 10);
+        ReflectionTestUtils.setField(budget, "perServiceCall", 5);
+    }
+
+    @Test
+    public void givenStatementsWithinBudget_whenChecking_thenNothingIsLogged() throws Exception {
+        // Act
+        filter(10);
+        budget.checkServiceCall("BookService.getAllBooks()", 5);
+        // Assert
+        assertThat(logCaptor.getWarnLogs()).isEmpty();
+    }
+
+    @Test
+    public void givenLogMode_whenServiceCallExceedsBudget_thenLogsWarning() {
+        // Act
+        budget.checkServiceCall("BookService.getAllBooks()", 6);
+        // Assert
+        assertThat(logCaptor.getWarnLogs()).containsExactly("Service call BookService.getAllBooks() executed 6 SQL statements, budget is 5");
+    }
+
+    @Test
+    public void givenFailMode_whenRequestExceedsBudget_thenThrowsBeforeTheResponseIsWritten() {
+        // Arrange
+        ReflectionTestUtils.setField(budget, "mode", QueryBudget.Mode.FAIL);
+        var response = new MockHttpServletResponse();
+        // Act
+        var exception = assertThrows(QueryBudgetExceededException.class, () -> new QueryBudgetFilter(budget).doFilter(
+                new MockHttpServletRequest("GET", "/v1/api/books"), response, (req, res) -> {
+                    statements(11);
+                    res.getWriter().write("[]");
+                }));
+        // Assert
+        assertThat(exception.getMessage()).isEqualTo("Request GET /v1/api/books executed 11 SQL statements, budget is 10");
+        assertThat(response.isCommitted()).isFalse();
+        assertDoesNotThrow(() -> budget.checkServiceCall("BookService.getAllBooks()", 5));
+    }
+
+    @Test
+    public void givenLogMode_whenAsyncTasksExceedRequestBudget_thenLogsWarning() throws Exception {
+        // Act
+        new QueryBudgetFilter(budget).doFilter(new MockHttpServletRequest("GET", "/v1/api/async/books"), new MockHttpServletResponse(), (req, res) -> {
+            statements(4);
+            var task = new Thread(RequestQueryBudget.propagate(() -> statements(7)));
+            task.start();
+            try {
+                task.join();
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        // Assert
+        assertThat(logCaptor.getWarnLogs()).containsExactly("Request GET /v1/api/async/books executed 11 SQL statements, budget is 10");
+    }
+
+    @Test
+    public void givenUnbudgetedHandler_whenRequestExceedsBudget_thenNotChecked() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(budget, "mode", QueryBudget.Mode.FAIL);
+        var filter = new QueryBudgetFilter(budget);
+        var request = new MockHttpServletRequest("GET", "/v1/api/books/export");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new ExportHandler(), "export"));
+        // Act & Assert
+        assertDoesNotThrow(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> statements(11)));
+    }
+
+    private void filter(int statements) throws Exception {
+
+        new QueryBudgetFilter(budget).doFilter(new MockHttpServletRequest("GET", "/v1/api/books"), new MockHttpServletResponse(),
+                (req, res) -> statements(statements));
+    }
+
+    private static void statements(int statements) {
+
+        var inspector = new QueryCountInspector();
+        for (var i = 0; i < statements; i++) {
+            inspector.inspect("SELECT 1");
+        }
+    }
+
+    static class ExportHandler {
+
+        @Unbudgeted
+        public void export() {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.critical.catalogservice.util.query;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the test thread. Register it with
+ * {@code @RegisterExtension}, call {@link #reset()} once the arrange step is done and
+ * {@link #assertCount(long)} after the act step.
+ */
+public class QueryCountExtension implements BeforeEachCallback {
+
+    private long snapshot;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+
+        reset();
+    }
+
+    public void reset() {
+
+        snapshot = QueryCounter.current();
+    }
+
+    public long count() {
+
+        return QueryCounter.since(snapshot);
+    }
+
+    public void assertCount(long expected) {
+
+        assertEquals(expected, count(), "Unexpected number of SQL statements");
+    }
+}
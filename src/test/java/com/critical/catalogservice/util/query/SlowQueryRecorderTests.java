@@ -0,0 +1,112 @@
+package com.critical.catalogservice.util.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowQueryRecorderTests {
+
+    private JdbcDataSource rawDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+
+        rawDataSource = new JdbcDataSource();
+        rawDataSource.setURL("jdbc:h2:mem:slowQuery;DB_CLOSE_DELAY=-1");
+        rawDataSource.setUser("sa");
+        try (var connection = rawDataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS book");
+            statement.execute("CREATE TABLE book (id INT PRIMARY KEY, title VARCHAR(50))");
+            statement.execute("INSERT INTO book VALUES (1, 'Dune'), (2, 'Emma'), (3, 'Dune')");
+        }
+    }
+
+    @Test
+    public void givenSelectOverThreshold_whenResultSetIsRead_thenRecordsSqlParametersRowsAndPlan() throws SQLException {
+        // Arrange
+        var recorder = new SlowQueryRecorder(Duration.ZERO, 10, true);
+        var dataSource = proxy(recorder);
+        // Act
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT id FROM book WHERE title = ?")) {
+            statement.setString(1, "Dune");
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getInt(1);
+                }
+            }
+        }
+        // Assert
+        assertThat(recorder.getRecentQueries()).hasSize(1);
+        var query = recorder.getRecentQueries().get(0);
+        assertThat(query.sql).isEqualTo("SELECT id FROM book WHERE title = ?");
+        assertThat(query.parameters).isEqualTo("[1=Dune]");
+        assertThat(query.rows).isEqualTo(2);
+        assertThat(query.plan).containsIgnoringCase("book");
+    }
+
+    @Test
+    public void givenUpdatesOverThreshold_whenBufferIsFull_thenKeepsMostRecent() throws SQLException {
+        // Arrange
+        var recorder = new SlowQueryRecorder(Duration.ZERO, 2, false);
+        var dataSource = proxy(recorder);
+        // Act
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE book SET title = 'A' WHERE id = 1");
+            statement.executeUpdate("UPDATE book SET title = 'B' WHERE id > 1");
+            statement.executeUpdate("UPDATE book SET title = 'C'");
+        }
+        // Assert
+        var queries = recorder.getRecentQueries();
+        assertThat(queries).extracting(query -> query.sql)
+                .containsExactly("UPDATE book SET title = 'B' WHERE id > 1", "UPDATE book SET title = 'C'");
+        assertThat(queries).extracting(query -> query.rows).containsExactly(2L, 3L);
+        assertThat(queries.get(0).plan).isNull();
+    }
+
+    @Test
+    public void givenSelectOverThreshold_whenPlanCaptureIsDisabled_thenRecordsWithoutRowCount() throws SQLException {
+        // Arrange
+        var recorder = new SlowQueryRecorder(Duration.ZERO, 10, false);
+        var dataSource = proxy(recorder);
+        // Act
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT id FROM book")) {
+            // Assert
+            assertThat(recorder.getRecentQueries()).hasSize(1);
+        }
+        var query = recorder.getRecentQueries().get(0);
+        assertThat(query.rows).isEqualTo(SlowQuery.UNCOUNTED);
+        assertThat(query.plan).isNull();
+    }
+
+    @Test
+    public void givenQueryUnderThreshold_whenExecuted_thenNothingIsRecorded() throws SQLException {
+        // Arrange
+        var recorder = new SlowQueryRecorder(Duration.ofMinutes(1), 10, false);
+        var dataSource = proxy(recorder);
+        // Act
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.executeQuery("SELECT * FROM book").close();
+        }
+        // Assert
+        assertThat(recorder.getRecentQueries()).isEmpty();
+    }
+
+    private DataSource proxy(SlowQueryRecorder recorder) {
+
+        var builder = ProxyDataSourceBuilder.create(rawDataSource).listener(recorder);
+        if (recorder.isExplain()) {
+            recorder.setExplainDataSource(rawDataSource);
+            builder.methodListener(recorder).proxyResultSet();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+CREATE INDEX IF NOT EXISTS idx_bookauthor_book_author ON BookAuthor(Book_Id, Author_Id);
+CREATE INDEX IF NOT EXISTS idx_bookauthor_author_book ON BookAuthor(Author_Id, Book_Id);
+CREATE INDEX IF NOT EXISTS idx_booktag_book_tag ON BookTag(Book_Id, Tag_Id);
+CREATE INDEX IF NOT EXISTS idx_booktag_tag_book ON BookTag(Tag_Id, Book_Id);
+CREATE INDEX IF NOT EXISTS idx_bookgenre_book_genre ON BookGenre(Book_Id, Genre_Id);
+CREATE INDEX IF NOT EXISTS idx_bookgenre_genre_book ON BookGenre(Genre_Id, Book_Id);
+CREATE INDEX IF NOT EXISTS idx_booklanguage_book_language ON BookLanguage(Book_Id, Language_Id);
+CREATE INDEX IF NOT EXISTS idx_booklanguage_language_book ON BookLanguage(Language_Id, Book_Id);
+CREATE INDEX IF NOT EXISTS idx_bookformat_book_format ON BookFormat(Book_Id, Format_Id);
+CREATE INDEX IF NOT EXISTS idx_bookformat_format_book ON BookFormat(Format_Id, Book_Id);
+CREATE INDEX IF NOT EXISTS idx_bookpublisher_book_publisher ON BookPublisher(Book_Id, Publisher_Id);
+CREATE INDEX IF NOT EXISTS idx_bookpublisher_publisher_book ON BookPublisher(Publisher_Id, Book_Id);
+
+CREATE INDEX IF NOT EXISTS idx_tag_name ON Tag(Name);
+CREATE INDEX IF NOT EXISTS idx_genre_name ON Genre(Name);
+CREATE INDEX IF NOT EXISTS idx_language_name ON Language(Name);
+
+CREATE INDEX IF NOT EXISTS idx_book_title_lookup ON book(Title);
+CREATE INDEX IF NOT EXISTS idx_book_publisher_id ON book(Publisher_Id);
+CREATE INDEX IF NOT EXISTS idx_book_price ON book(Price);
+CREATE INDEX IF NOT EXISTS idx_book_availability_price ON book(Availability, Price);
+CREATE INDEX IF NOT EXISTS idx_book_promotional_price ON book(Promotional_Price);
+CREATE INDEX IF NOT EXISTS idx_book_in_stock ON book(Stock_Available);
+
+CREATE INDEX IF NOT EXISTS idx_book_search_availability_price ON book_search(Availability, Price);
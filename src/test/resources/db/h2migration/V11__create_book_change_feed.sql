@@ -0,0 +1,10 @@
+UPDATE book SET Updated_On = Created_On WHERE Updated_On IS NULL;
+CREATE INDEX IF NOT EXISTS idx_book_updated_on_id ON book(Updated_On, Id);
+
+CREATE TABLE IF NOT EXISTS book_tombstone (
+    Book_Id INTEGER NOT NULL,
+    Deleted_On TIMESTAMP NOT NULL,
+    PRIMARY KEY ( Book_Id )
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_tombstone_deleted_on_id ON book_tombstone(Deleted_On, Book_Id);
@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS idx_book_in_stock;
+DROP INDEX IF EXISTS idx_book_price;
+DROP INDEX IF EXISTS idx_book_availability_price;
+DROP INDEX IF EXISTS idx_book_promotional_price;
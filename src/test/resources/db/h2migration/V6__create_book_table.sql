@@ -18,4 +18,7 @@ CREATE TABLE IF NOT EXISTS Book (
     Publisher_Id INTEGER NOT NULL,
     PRIMARY KEY ( Id ),
     FOREIGN KEY (Publisher_Id) REFERENCES publisher(Id)
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_title ON book(Original_Title);
+CREATE INDEX IF NOT EXISTS idx_book_ISBN ON book(ISBN);
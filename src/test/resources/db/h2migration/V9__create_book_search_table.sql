@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS book_search (
+    Book_Id INTEGER NOT NULL,
+    Author_Names VARCHAR(255) ARRAY NOT NULL,
+    Tag_Names VARCHAR(50) ARRAY NOT NULL,
+    Genre_Names VARCHAR(50) ARRAY NOT NULL,
+    Language_Names VARCHAR(150) ARRAY NOT NULL,
+    Price DECIMAL(10, 2) NOT NULL,
+    Promotional_Price DECIMAL(10, 2),
+    Is_Series BOOLEAN NOT NULL,
+    Availability INTEGER NOT NULL,
+    PRIMARY KEY ( Book_Id ),
+    FOREIGN KEY (Book_Id) REFERENCES Book(Id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_search_price ON book_search(Price);